@@ -16,6 +16,8 @@
 
 package io.artframework;
 
+import io.artframework.conf.Constants;
+import io.artframework.jfr.StorageEvent;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -24,7 +26,6 @@ import lombok.experimental.Accessors;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 @Accessors(fluent = true)
 public abstract class AbstractArtObjectContext<TArtObject extends ArtObject> extends AbstractScoped implements ArtObjectContext<TArtObject> {
@@ -34,7 +35,7 @@ public abstract class AbstractArtObjectContext<TArtObject extends ArtObject> ext
     private final Map<String, Object> data = new HashMap<>();
     @Getter
     @Setter
-    private String storageKey = UUID.randomUUID().toString();
+    private String storageKey = Constants.Storage.generatedKey();
 
     public AbstractArtObjectContext(@NonNull Scope scope, ArtObjectMeta<TArtObject> information) {
         super(scope);
@@ -48,11 +49,17 @@ public abstract class AbstractArtObjectContext<TArtObject extends ArtObject> ext
 
     @Override
     public <TValue> Optional<TValue> store(@NonNull Target<?> target, @NonNull String key, @NonNull TValue value) {
-        return configuration().storage().set(this, target, key, value);
+        StorageEvent event = StorageEvent.start();
+        Optional<TValue> result = configuration().storage().set(this, target, key, value);
+        StorageEvent.commit(event, "set", this, target, key);
+        return result;
     }
 
     @Override
     public <TValue> Optional<TValue> store(@NonNull Target<?> target, @NonNull String key, @NonNull Class<TValue> valueClass) {
-        return configuration().storage().get(this, target, key, valueClass);
+        StorageEvent event = StorageEvent.start();
+        Optional<TValue> result = configuration().storage().get(this, target, key, valueClass);
+        StorageEvent.commit(event, "get", this, target, key);
+        return result;
     }
 }
@@ -16,12 +16,11 @@
 
 package io.artframework;
 
+import io.artframework.util.MethodHandleUtil;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
 
-import java.lang.reflect.InvocationTargetException;
-
 @Getter
 @Accessors(fluent = true)
 public abstract class AbstractFactory<TContext extends ArtObjectContext<TArtObject>, TArtObject extends ArtObject> implements Factory<TContext, TArtObject> {
@@ -49,10 +48,12 @@ public abstract class AbstractFactory<TContext extends ArtObjectContext<TArtObje
                     ((Configurable<TArtObject>) artObject).load(artObject);
                 } else {
                     try {
-                        Object config = configClass.getConstructor().newInstance();
+                        Object config = MethodHandleUtil.constructor(configClass)
+                                .orElseThrow(() -> new NoSuchMethodException(configClass.getCanonicalName() + " has no parameterless constructor"))
+                                .get();
                         configMap.applyTo(config);
                         ((Configurable) artObject).load(config);
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+                    } catch (NoSuchMethodException e) {
                         e.printStackTrace();
                     }
                 }
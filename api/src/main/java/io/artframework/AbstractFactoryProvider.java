@@ -23,12 +23,14 @@ import lombok.NonNull;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class AbstractFactoryProvider<TFactory extends Factory<?, ?>> implements FactoryProvider<TFactory> {
 
     private final Scope scope;
-    final Map<String, TFactory> factories = new HashMap<>();
-    final Map<String, String> aliasMappings = new HashMap<>();
+    // the factories are read concurrently while parsing multiple sources with ArtLoader#parseAll
+    final Map<String, TFactory> factories = new ConcurrentHashMap<>();
+    final Map<String, String> aliasMappings = new ConcurrentHashMap<>();
 
     protected AbstractFactoryProvider(Scope scope) {
         this.scope = scope;
@@ -66,25 +68,27 @@ public abstract class AbstractFactoryProvider<TFactory extends Factory<?, ?>> im
 
         identifier = identifier.toLowerCase();
 
-        if (!factories.containsKey(identifier) && aliasMappings.containsKey(identifier)) {
-            identifier = aliasMappings.get(identifier);
+        TFactory factory = factories.get(identifier);
+        String alias = aliasMappings.get(identifier);
+        if (factory == null && alias != null) {
+            factory = factories.get(alias);
         }
 
-        return Optional.ofNullable(factories.get(identifier));
+        return Optional.ofNullable(factory);
     }
 
     protected void addFactory(@NonNull TFactory factory) {
         String identifier = factory.meta().identifier();
         factories.put(identifier.toLowerCase(), factory);
         for (String alias : factory.meta().alias()) {
-            if (!aliasMappings.containsKey(alias)) {
-                aliasMappings.put(alias, identifier);
-            }
+            aliasMappings.putIfAbsent(alias, identifier);
         }
     }
 
     public FactoryProvider<TFactory> remove(String identifier) {
 
+        if (Strings.isNullOrEmpty(identifier)) return this;
+
         factories.remove(identifier);
         aliasMappings.remove(identifier);
         return this;
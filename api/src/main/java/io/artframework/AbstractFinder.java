@@ -16,12 +16,23 @@
 
 package io.artframework;
 
-import java.util.HashSet;
+import io.artframework.util.ArtIndex;
+import io.artframework.util.ClassScanCache;
+import io.artframework.util.FileUtil;
+
+import java.io.File;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 public abstract class AbstractFinder extends AbstractScoped implements Finder {
 
-    private final Set<Class<?>> searchedClasses = new HashSet<>();
+    // modules may search for classes in parallel if parallelModuleLoading is enabled
+    private final Set<Class<?>> searchedClasses = ConcurrentHashMap.newKeySet();
 
     protected AbstractFinder(Scope scope) {
         super(scope);
@@ -35,8 +46,87 @@ public abstract class AbstractFinder extends AbstractScoped implements Finder {
      */
     protected boolean search(Class<?> clazz) {
 
-        if (searchedClasses.contains(clazz)) return false;
-        searchedClasses.add(clazz);
-        return true;
+        return searchedClasses.add(clazz);
+    }
+
+    /**
+     * Finds all classes of the given type inside the file.
+     * <p>The classes listed in the {@link ArtIndex} of the file are used if the file contains an index.
+     * Otherwise the file is scanned and the scan results of jar files are cached
+     * if {@code cacheClassScans} is enabled in the settings.
+     *
+     * @param classLoader the parent class loader used to load the classes
+     * @param file the jar file or directory to scan
+     * @param clazz the type of the classes to find
+     * @param <T> the type of the classes
+     * @return all classes of the given type found in the file
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> List<Class<? extends T>> findClasses(ClassLoader classLoader, File file, Class<T> clazz) {
+
+        try (StartupProfiler.Timer timer = startTimer(file)) {
+            return scanClasses(classLoader, file, clazz);
+        }
+    }
+
+    /**
+     * Finds all classes annotated with the given annotation inside the file.
+     * <p>The classes listed in the {@link ArtIndex} of the file are used if the file contains an index.
+     * Otherwise the file is scanned and the scan results of jar files are cached
+     * if {@code cacheClassScans} is enabled in the settings.
+     *
+     * @param classLoader the parent class loader used to load the classes
+     * @param file the jar file or directory to scan
+     * @param annotation the annotation the classes must be annotated with
+     * @return all annotated classes found in the file
+     */
+    protected List<Class<?>> findAnnotatedClasses(ClassLoader classLoader, File file, Class<? extends Annotation> annotation) {
+
+        try (StartupProfiler.Timer timer = startTimer(file)) {
+            return scanAnnotatedClasses(classLoader, file, annotation);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<Class<? extends T>> scanClasses(ClassLoader classLoader, File file, Class<T> clazz) {
+
+        Optional<ArtIndex> index = ArtIndex.of(file);
+        if (index.isPresent()) {
+            return FileUtil.loadClasses(classLoader, file, index.get().classes(ArtIndex.key(clazz)), clazz::isAssignableFrom).stream()
+                    .map(aClass -> (Class<T>) aClass.asSubclass(clazz))
+                    .collect(Collectors.toList());
+        }
+
+        if (!scope().settings().cacheClassScans()) {
+            return FileUtil.findClasses(classLoader, file, clazz);
+        }
+
+        return FileUtil.findClasses(classLoader, file, clazz, classScanCache());
+    }
+
+    private List<Class<?>> scanAnnotatedClasses(ClassLoader classLoader, File file, Class<? extends Annotation> annotation) {
+
+        Predicate<Class<?>> predicate = aClass -> aClass.isAnnotationPresent(annotation);
+
+        Optional<ArtIndex> index = ArtIndex.of(file);
+        if (index.isPresent()) {
+            return FileUtil.loadClasses(classLoader, file, index.get().classes(ArtIndex.key(annotation)), predicate);
+        }
+
+        if (!scope().settings().cacheClassScans()) {
+            return FileUtil.findClasses(classLoader, file, predicate);
+        }
+
+        return FileUtil.findClasses(classLoader, file, ArtIndex.key(annotation), predicate, classScanCache());
+    }
+
+    private StartupProfiler.Timer startTimer(File file) {
+
+        return scope().profiler().start(StartupProfiler.FINDER, getClass().getSimpleName() + " " + file.getName());
+    }
+
+    private ClassScanCache classScanCache() {
+
+        return ClassScanCache.of(new File(scope().settings().cachePath(), "class-scan.cache"));
     }
 }
@@ -191,6 +191,7 @@ public interface ArtContext extends Context, ResultCreator, TargetCreator {
 
     /**
      * Disables all triggers in this context, unregistering them as listeners.
+     * <p>All pending delayed executions of the triggers and actions in this context are cancelled.
      * <p>Make sure to call this method once you are done with the context
      * to assure garbage collection runs and no more triggers are fired.
      *
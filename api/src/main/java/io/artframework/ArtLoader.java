@@ -21,6 +21,8 @@ import io.artframework.parser.Parser;
 import io.artframework.parser.flow.FlowParser;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
@@ -86,4 +88,33 @@ public interface ArtLoader extends Scoped {
 
         return parser().parse(strings);
     }
+
+    /**
+     * Parses all of the given sources in parallel using the default flow parser
+     * and the {@link ForkJoinPool#commonPool()}.
+     * <p>Every source is parsed with its own parser instance using the key of the map as its storage key.
+     * A failing source will not affect the parsing of the other sources.
+     * Use the {@link ParseResult#errors()} to get the errors of all failed sources.
+     *
+     * @param sources the sources in flow syntax notation mapped by their unique storage key
+     * @return the result containing all parsed art contexts and errors mapped by their storage key
+     * @see #parseAll(Map, ForkJoinPool)
+     */
+    default ParseResult parseAll(Map<String, Collection<String>> sources) {
+
+        return parseAll(sources, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses all of the given sources in parallel on the given fork join pool using the default flow parser.
+     * <p>Every source is parsed with its own parser instance using the key of the map as its storage key.
+     * A failing source will not affect the parsing of the other sources.
+     * Use the {@link ParseResult#errors()} to get the errors of all failed sources.
+     * <p>The method blocks until all sources are parsed.
+     *
+     * @param sources the sources in flow syntax notation mapped by their unique storage key
+     * @param pool the pool that is used to parse the sources
+     * @return the result containing all parsed art contexts and errors mapped by their storage key
+     */
+    ParseResult parseAll(Map<String, Collection<String>> sources, ForkJoinPool pool);
 }
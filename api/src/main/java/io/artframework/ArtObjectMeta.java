@@ -107,6 +107,24 @@ public interface ArtObjectMeta<TArtObject extends ArtObject> {
      */
     boolean autoRegister();
 
+    /**
+     * @return the estimated cost of testing the art object, see {@link io.artframework.annotations.ART#cost()}
+     * @throws UnsupportedOperationException if this meta object is not {@link #initialized()}
+     */
+    int cost();
+
+    /**
+     * @return true if the result of the art object may be reused during one execution, see {@link io.artframework.annotations.ART#pure()}
+     * @throws UnsupportedOperationException if this meta object is not {@link #initialized()}
+     */
+    boolean pure();
+
+    /**
+     * @return true if the result of the art object may be reused across executions, see {@link io.artframework.annotations.ART#cacheable()}
+     * @throws UnsupportedOperationException if this meta object is not {@link #initialized()}
+     */
+    boolean cacheable();
+
     /**
      * The config class is used to construct a {@link ConfigMap} for the art object.
      * <p>The config class may be the same as the {@link #artObjectClass()}.
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework;
+
+import io.artframework.clock.SimulatedClock;
+import io.artframework.clock.SystemClock;
+import io.artframework.clock.TickCachedClock;
+
+/**
+ * The clock provides the current time for cooldowns and the last execution of actions and triggers.
+ * <p>Configure a different clock with {@code scope.configure(config -> config.clock(...))}, e.g. a
+ * {@link TickCachedClock} that is updated once per server tick or a {@link SimulatedClock} for tests.
+ */
+public interface Clock {
+
+    /**
+     * @return the clock that reads the system time on every call
+     */
+    static Clock system() {
+        return SystemClock.INSTANCE;
+    }
+
+    /**
+     * @return the current time in milliseconds since the epoch
+     */
+    long currentTimeMillis();
+}
@@ -75,6 +75,12 @@ public interface ConfigMap {
      */
     Map<String, ConfigFieldInformation> configFields();
 
+    /**
+     * @return the loaded config values mapped by the identifier of their config field.
+     *         empty if the config map was not {@link #loaded()}.
+     */
+    Map<String, Object> values();
+
     /**
      * Loads the config map with the given key value pairs mapping them to the correct
      * config fields.
@@ -116,6 +122,16 @@ public interface ConfigMap {
      */
     ConfigMap resolve(@NonNull Scope scope, @Nullable Target<?> target, @Nullable ExecutionContext<?> context);
 
+    /**
+     * A config map is static if resolving it yields the same values for every target and execution.
+     * <p>This is the case if no value must be resolved with a {@link Resolver}
+     * and no {@link Replacement} can replace any of the values.
+     *
+     * @param scope the scope used when resolving the values of this config map. must not be null.
+     * @return true if the config map can be resolved once and reused for all targets
+     */
+    boolean isStatic(@NonNull Scope scope);
+
     /**
      * Applies the loaded and mapped config values of this config map to the given config instance.
      * <p>Will inject the mapped fields with the values provided from {@link #with(List)} into the config.
@@ -49,6 +49,11 @@ public class Configuration {
     FinderProvider finder;
     ConfigProvider configs;
     InjectionProvider injector;
+    MetricsProvider metrics;
+    ExecutionTracer tracer;
+    DelayedExecutionQueue delayQueue;
+    RequirementCache requirementCache;
+    Clock clock;
     ClassLoader classLoader;
 
     public Optional<Scheduler> scheduler() {
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework;
+
+import io.artframework.impl.DefaultDelayedExecutionQueue;
+
+/**
+ * The delayed execution queue holds the continuations of all actions and triggers that are executed with a delay.
+ * <p>Instead of scheduling a separate task for every delayed execution and target, all continuations
+ * are stored in a hierarchical timing wheel that is advanced by a single repeating {@link Scheduler} task.
+ * The repeating task is only scheduled while continuations are pending.
+ * <p>Use the {@code delayQueueTickMillis} setting to configure the resolution of the timing wheel.
+ * Delays are rounded up to the next tick.
+ */
+public interface DelayedExecutionQueue extends Provider {
+
+    static DelayedExecutionQueue of(Scope scope) {
+        return new DefaultDelayedExecutionQueue(scope);
+    }
+
+    /**
+     * Queues the given continuation to run on the main thread after the given delay.
+     * <p>The continuation is executed immediately if no {@link Scheduler} is configured
+     * or the delay is less than one.
+     *
+     * @param context the art object context that scheduled the continuation
+     * @param delay the delay in milliseconds
+     * @param task the continuation that is executed after the delay
+     * @param targets the targets of the delayed execution
+     * @return the task of the continuation that can be used to cancel it
+     */
+    Task schedule(ArtObjectContext<?> context, long delay, Runnable task, Target<?>... targets);
+
+    /**
+     * Cancels all pending continuations that were scheduled for the given target.
+     * <p>Continuations that were scheduled for multiple targets are cancelled if any of the targets matches.
+     *
+     * @param target the target to cancel all continuations for. targets are matched by their unique id.
+     * @return the number of cancelled continuations
+     */
+    int cancel(Target<?> target);
+
+    /**
+     * Cancels all pending continuations that were scheduled by the given art object context.
+     *
+     * @param context the art object context that scheduled the continuations
+     * @return the number of cancelled continuations
+     */
+    int cancel(ArtObjectContext<?> context);
+
+    /**
+     * Cancels all pending continuations.
+     *
+     * @return the number of cancelled continuations
+     */
+    int cancelAll();
+
+    /**
+     * @return the number of pending continuations
+     */
+    int size();
+}
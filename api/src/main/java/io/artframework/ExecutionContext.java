@@ -22,6 +22,7 @@ import lombok.NonNull;
 import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * The <pre>ExecutionContext</pre> holds a hierarchical order of execution
@@ -150,6 +151,34 @@ public interface ExecutionContext<TContext extends ArtObjectContext<?>> extends
      */
     <TValue> Optional<TValue> store(@NonNull Target<?> target, @NonNull String key, @NonNull Class<TValue> valueClass);
 
+    /**
+     * Gets the result that was memoized for the given context and target during this execution
+     * or computes and memoizes it if none exists.
+     * <p>The memo table is shared by all contexts of the execution, like the {@link #data()},
+     * and is used to test {@link io.artframework.annotations.ART#pure()} requirements only once per target.
+     * The {@link ArtObjectContext} is compared by identity and the {@link Target} by its {@link Target#uniqueId()}.
+     *
+     * @param context the context that produces the result
+     * @param target the target the result was produced for
+     * @param supplier computes the result if it was not memoized yet
+     * @param <TResult> type of the result
+     * @return the memoized result or the newly computed result
+     */
+    <TResult extends Result> TResult memoize(@NonNull ArtObjectContext<?> context, @NonNull Target<?> target, @NonNull Supplier<TResult> supplier);
+
+    /**
+     * Creates a copy of this execution context with an empty memo table.
+     * <p>Delayed executions use the copy to test their requirements again when they run,
+     * instead of reusing the results that were memoized when the delay was scheduled.
+     * The default implementation returns this context and must be overwritten by implementations that memoize results.
+     *
+     * @return a copy of this context that shares everything but the memoized results
+     */
+    default ExecutionContext<TContext> withNewMemo() {
+
+        return this;
+    }
+
     /**
      * Uses this {@link ExecutionContext} as a parent for the next {@link ArtObjectContext}
      * copying over all other parents and the root context of this execution context.
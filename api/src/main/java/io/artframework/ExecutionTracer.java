@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework;
+
+import io.artframework.impl.DefaultExecutionTracer;
+import io.artframework.tracing.Span;
+import io.artframework.tracing.Trace;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The execution tracer samples trigger executions and records a {@link Trace} with a span
+ * for the trigger and every requirement test, action, nested action and delayed action that followed it.
+ * <p>Every span records its duration, result status and the resolved config values of the art object.
+ * The traces are kept in a bounded ring buffer and can be written to a json file with {@link #write(File)}.
+ * <p>Use the {@code traceSampleRate} setting to enable tracing of one in n trigger executions.
+ * The trace of an execution is stored in the {@link ExecutionContext#data()} and follows it
+ * through all nested execution contexts.
+ */
+public interface ExecutionTracer extends Provider {
+
+    static ExecutionTracer of(Scope scope) {
+        return new DefaultExecutionTracer(scope);
+    }
+
+    /**
+     * @return true if trigger executions are sampled
+     */
+    boolean enabled();
+
+    /**
+     * Samples the execution of the given trigger and starts a new trace if it was selected.
+     *
+     * @param context the trigger that is executed
+     * @param target the target of the execution
+     * @param executionContext the execution context of the trigger
+     * @return the root span of the new trace or null if the execution is not traced
+     */
+    @Nullable
+    Span startTrace(ArtObjectContext<?> context, @Nullable Target<?> target, ExecutionContext<?> executionContext);
+
+    /**
+     * Starts a new span if the given execution context is part of a trace.
+     *
+     * @param context the art object context that is executed
+     * @param target the target of the execution
+     * @param executionContext the execution context of the art object
+     * @return the started span or null if the execution is not traced
+     */
+    @Nullable
+    Span start(ArtObjectContext<?> context, @Nullable Target<?> target, ExecutionContext<?> executionContext);
+
+    /**
+     * Starts a delayed continuation of the given span, e.g. an action that was scheduled with a delay.
+     *
+     * @param parent the span that scheduled the continuation. nothing is traced if null.
+     * @param context the art object context that is executed
+     * @param target the target of the execution
+     * @param executionContext the execution context of the art object
+     * @return the started span or null if the parent is null
+     */
+    @Nullable
+    Span resume(@Nullable Span parent, ArtObjectContext<?> context, @Nullable Target<?> target, ExecutionContext<?> executionContext);
+
+    /**
+     * Finishes the given span.
+     *
+     * @param span the span that was started by this tracer. does nothing if null.
+     * @param status the result status or null if the result is only known by a delayed continuation
+     */
+    void finish(@Nullable Span span, @Nullable ResultStatus status);
+
+    /**
+     * Records the resolved config values for the span that is currently open in the given execution context.
+     *
+     * @param executionContext the execution context that resolved the config
+     * @param config the resolved config map of the art object
+     */
+    void config(ExecutionContext<?> executionContext, ConfigMap config);
+
+    /**
+     * @return the traces in the ring buffer ordered from oldest to newest
+     */
+    List<Trace> traces();
+
+    /**
+     * Writes all traces in the ring buffer to the given file as json.
+     *
+     * @param file the file to write to
+     * @throws IOException if the file cannot be written
+     */
+    void write(File file) throws IOException;
+
+    /**
+     * Removes all traces from the ring buffer.
+     */
+    void clear();
+}
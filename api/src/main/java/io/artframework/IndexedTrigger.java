@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework;
+
+import java.util.Collection;
+
+/**
+ * Triggers that implement this interface declare index keys from their config
+ * to only be executed for the events that can match them.
+ * <p>The {@link TriggerProvider} keeps every trigger context under the keys of its trigger
+ * and only executes the trigger contexts that declared any of the keys of the {@link TriggerExecution}.
+ * The code that fires the trigger must extract the same keys from its event with {@link TriggerExecution#index(Object...)}.
+ * <pre>{@code
+ * // the damage trigger declares the damage cause of its config, e.g. "cause:FALL"
+ * scope.trigger(EntityDamageTrigger.class)
+ *         .with(event)
+ *         .index("cause:" + event.getCause().name(), "entity:" + event.getEntityType().name())
+ *         .execute();
+ * }</pre>
+ * <p>The index only filters the trigger contexts before they are tested and the trigger requirement is still tested.
+ * The keys of a trigger must be a subset of the keys of every event the trigger would accept.
+ * Declare no keys if that is not possible, e.g. because no filter is configured.
+ */
+public interface IndexedTrigger extends Trigger {
+
+    /**
+     * Gets the index keys of the loaded config of this trigger.
+     * <p>The keys are read once when the trigger context is registered and must not depend on any target.
+     *
+     * @return the keys of the events this trigger should be executed for.
+     *         an empty collection executes the trigger for every event.
+     */
+    Collection<?> indexKeys();
+}
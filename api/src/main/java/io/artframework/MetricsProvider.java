@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework;
+
+import io.artframework.impl.DefaultMetricsProvider;
+import io.artframework.metrics.ArtMetrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The metrics provider records how often and how long art objects are executed.
+ * <p>Metrics are recorded per art object identifier and per art context, which is identified
+ * by the {@link ArtObjectContext#storageKey()} of the art object context.
+ * Art that was loaded without a storage key is only recorded per identifier,
+ * because it gets a new random storage key every time it is loaded.
+ * Use the {@link #snapshot()} methods to read the metrics programmatically.
+ * The default implementation also exposes the metrics as JMX MBeans if the {@code metricsMBeans} setting is enabled.
+ * <p>Use the {@code metrics} setting to disable the recording of metrics.
+ * All metrics are {@link #reset()} when the modules of the scope are disabled.
+ */
+public interface MetricsProvider extends Provider {
+
+    static MetricsProvider of(Scope scope) {
+        return new DefaultMetricsProvider(scope);
+    }
+
+    /**
+     * @return true if metrics are recorded
+     */
+    boolean enabled();
+
+    /**
+     * Records an execution of the given art object context, e.g. an action execution or requirement test.
+     *
+     * @param context the context that was executed
+     * @param status the result status of the execution
+     * @param nanos the duration of the execution in nanoseconds
+     */
+    void record(ArtObjectContext<?> context, ResultStatus status, long nanos);
+
+    /**
+     * Records that an execution of the given context was rejected because it is on cooldown.
+     *
+     * @param context the context that is on cooldown
+     */
+    void recordCooldownRejection(ArtObjectContext<?> context);
+
+    /**
+     * Creates a snapshot of the metrics of every art object inside every art context.
+     *
+     * @return the metrics of all art objects
+     */
+    List<ArtMetrics> snapshot();
+
+    /**
+     * Creates a snapshot of the metrics of all art objects aggregated by their identifier.
+     *
+     * @return the aggregated metrics mapped by the identifier of the art object
+     */
+    Map<String, ArtMetrics> snapshotByIdentifier();
+
+    /**
+     * Creates a snapshot of the aggregated metrics of all art objects with the given identifier.
+     *
+     * @param identifier the identifier of the art object
+     * @return the aggregated metrics or an empty optional if nothing was recorded for the identifier
+     */
+    default Optional<ArtMetrics> snapshot(String identifier) {
+
+        return Optional.ofNullable(snapshotByIdentifier().get(identifier));
+    }
+
+    /**
+     * Removes the recorded metrics of all art objects with the given storage key,
+     * e.g. if the art context of a script was disposed or is reloaded.
+     *
+     * @param storageKey the storage key of the art context
+     */
+    void remove(String storageKey);
+
+    /**
+     * Removes all recorded metrics and unregisters their MBeans.
+     */
+    void reset();
+}
@@ -84,4 +84,9 @@ public interface ModuleMeta {
      * @return true if the module is a bootstrap module
      */
     boolean bootstrapModule();
+
+    /**
+     * @return true if the lifecycle methods of the module must be called on the main thread
+     */
+    boolean mainThreadOnly();
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Contains the parsed art contexts and parse errors of a bulk parse operation
+ * started with {@link ArtLoader#parseAll(Map)}.
+ * <p>Every parsed source is mapped by the key it was passed in with.
+ * A source either ends up in {@link #contexts()} or in {@link #errors()}, but never in both.
+ */
+@Value
+@Accessors(fluent = true)
+public class ParseResult {
+
+    public static ParseResult of(Map<String, ArtContext> contexts, Map<String, ParseException> errors) {
+
+        return new ParseResult(ImmutableMap.copyOf(contexts), ImmutableMap.copyOf(errors));
+    }
+
+    /**
+     * All successfully parsed art contexts mapped by their source key.
+     */
+    Map<String, ArtContext> contexts;
+    /**
+     * The parse exception of every source that failed to parse mapped by its source key.
+     */
+    Map<String, ParseException> errors;
+
+    /**
+     * @return true if every source was parsed without errors
+     */
+    public boolean success() {
+
+        return errors.isEmpty();
+    }
+
+    /**
+     * Combines all successfully parsed art contexts into a single art context.
+     *
+     * @return the combined art context or an empty context if no source was parsed
+     */
+    public ArtContext combined() {
+
+        return contexts.values().stream()
+                .reduce(ArtContext::combine)
+                .orElse(ArtContext.empty());
+    }
+
+    /**
+     * Iterates every successfully parsed art context together with its source key.
+     *
+     * @param consumer the context handler
+     * @return this result
+     */
+    public ParseResult forEachContext(BiConsumer<String, ArtContext> consumer) {
+
+        contexts.forEach(consumer);
+        return this;
+    }
+
+    /**
+     * Gives the option to handle the errors of the failed sources in a fluent syntax style.
+     *
+     * @param consumer the error handler
+     * @return this result
+     */
+    public ParseResult forEachError(BiConsumer<String, ParseException> consumer) {
+
+        errors.forEach(consumer);
+        return this;
+    }
+}
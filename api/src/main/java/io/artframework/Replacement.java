@@ -18,4 +18,17 @@ public interface Replacement extends ArtObject {
      * @return the new value or the unmodified if no replacement was performed
      */
     String replace(String value, ReplacementContext context);
+
+    /**
+     * Checks if this replacement could replace anything in the given value for any context.
+     * <p>Config values that no replacement can replace are static and allow the art-framework
+     * to reuse the art objects that were created from them.
+     *
+     * @param value the raw value of a config
+     * @return false if this replacement never replaces anything in the given value
+     */
+    default boolean canReplace(String value) {
+
+        return true;
+    }
 }
@@ -85,6 +85,11 @@ public interface ReplacementProvider extends Provider {
      * @param context the context of the replacement
      * @return the replaced or original value
      */
+    default boolean canReplace(String value) {
+
+        return all().stream().anyMatch(replacement -> replacement.canReplace(value));
+    }
+
     default String replace(String value, ReplacementContext context) {
 
         for (Replacement replacement : all()) {
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework;
+
+import io.artframework.impl.DefaultRequirementCache;
+
+import java.util.function.Supplier;
+
+/**
+ * The requirement cache reuses the results of {@link io.artframework.annotations.ART#cacheable()} requirements
+ * across executions, e.g. if a player moves through multiple location triggers in the same tick.
+ * <p>Results are cached per {@link RequirementContext} and {@link Target} for the {@code requirementCacheMillis}
+ * that are measured with the configured {@link Clock}. Platforms should {@link #invalidate(Target, Class)} the results
+ * of a requirement as soon as the state it checks changed, e.g. the permissions or the inventory of a player.
+ */
+public interface RequirementCache extends Provider {
+
+    static RequirementCache of(Scope scope) {
+        return new DefaultRequirementCache(scope);
+    }
+
+    /**
+     * Gets the cached result of the given requirement and target or computes and caches it
+     * if no result exists or the cached result expired.
+     * <p>Cached results only keep their status and messages and are not bound to the target.
+     *
+     * @param context the requirement that produces the result
+     * @param target the target the requirement is tested for
+     * @param supplier tests the requirement if no valid result is cached
+     * @return the cached result or the newly computed result
+     */
+    Result get(RequirementContext<?> context, Target<?> target, Supplier<? extends Result> supplier);
+
+    /**
+     * Removes all cached results of the given target, e.g. if a player left the server.
+     *
+     * @param target the target to invalidate. targets are matched by their unique id.
+     * @return the number of removed results
+     */
+    int invalidate(Target<?> target);
+
+    /**
+     * Removes all cached results of the given requirement type for the given target,
+     * e.g. the equipment requirements of a player that changed their inventory.
+     *
+     * @param target the target to invalidate. targets are matched by their unique id.
+     * @param requirementClass the class of the requirement whose results are removed
+     * @return the number of removed results
+     */
+    int invalidate(Target<?> target, Class<?> requirementClass);
+
+    /**
+     * Removes all cached results of the given requirement type for all targets,
+     * e.g. the permission requirements after the permissions were reloaded.
+     *
+     * @param requirementClass the class of the requirement whose results are removed
+     * @return the number of removed results
+     */
+    int invalidate(Class<?> requirementClass);
+
+    /**
+     * Removes all cached results.
+     *
+     * @return the number of removed results
+     */
+    int invalidateAll();
+
+    /**
+     * @return the number of cached results including expired results that were not removed yet
+     */
+    int size();
+}
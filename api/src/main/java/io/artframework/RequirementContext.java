@@ -55,6 +55,40 @@ public interface RequirementContext<TTarget> extends Requirement<TTarget>, ArtOb
      */
     RequirementConfig config();
 
+    /**
+     * The declared cost of testing the requirement, see {@link io.artframework.annotations.ART#cost()}.
+     * <p>Cheaper requirements are tested first if the requirements are tested lazily.
+     *
+     * @return the declared cost of the requirement
+     */
+    default int cost() {
+
+        return meta().cost();
+    }
+
+    /**
+     * The observed average duration of testing the requirement. It orders requirements with the same {@link #cost()}.
+     *
+     * @return the average test duration in nanoseconds or zero if the requirement was not tested yet
+     */
+    default long averageNanos() {
+
+        return 0;
+    }
+
+    /**
+     * A requirement is stateful if testing it stores state that influences its future results,
+     * e.g. counting successful tests or storing the result of the first test.
+     * <p>Stateful requirements are always tested, even if the requirements are tested lazily
+     * and another requirement already failed.
+     *
+     * @return true if testing the requirement has side effects
+     */
+    default boolean stateful() {
+
+        return config().count() > 0 || config().checkOnce();
+    }
+
     @Override
     TargetResult<TTarget, RequirementContext<TTarget>> test(@NonNull Target<TTarget> target, @NonNull ExecutionContext<RequirementContext<TTarget>> context);
 }
@@ -16,7 +16,10 @@
 
 package io.artframework;
 
+import io.artframework.impl.RequirementOrder;
+
 import java.util.Collection;
+import java.util.List;
 
 public interface RequirementHolder {
 
@@ -25,14 +28,30 @@ public interface RequirementHolder {
     Collection<RequirementContext<?>> requirements();
 
     default CombinedResult testRequirements(ExecutionContext<?> context) {
-        return context.targets().stream()
-                .map(target -> testRequirements(target, context))
-                .reduce(Result::combine)
-                .orElse(CombinedResult.empty());
+
+        if (!context.scope().settings().shortCircuitRequirements()) {
+            return context.targets().stream()
+                    .map(target -> testRequirements(target, context))
+                    .reduce(Result::combine)
+                    .orElse(CombinedResult.empty());
+        }
+
+        List<RequirementContext<?>> requirements = costOrderedRequirements();
+        CombinedResult result = CombinedResult.empty();
+        for (Target<?> target : context.targets()) {
+            result = result.combine(testRequirementsLazily(requirements, target, context, result.failure()));
+        }
+
+        return result;
     }
 
     @SuppressWarnings("unchecked")
     default <TTarget> CombinedResult testRequirements(Target<TTarget> target, ExecutionContext<?> context) {
+
+        if (context.scope().settings().shortCircuitRequirements()) {
+            return testRequirementsLazily(costOrderedRequirements(), target, context, false);
+        }
+
         return requirements().stream()
                 .filter(requirementContext -> requirementContext.isTargetType(target))
                 .map(requirementContext -> (RequirementContext<TTarget>) requirementContext)
@@ -41,4 +60,35 @@ public interface RequirementHolder {
                 .reduce(Result::combine)
                 .orElse(CombinedResult.empty());
     }
+
+    /**
+     * Gets the requirements in the order they are tested if requirements are short circuited.
+     * <p>Implementations should cache the order with a {@link RequirementOrder} instead of sorting them on every test.
+     *
+     * @return the requirements ordered by their declared cost and their observed test duration
+     */
+    default List<RequirementContext<?>> costOrderedRequirements() {
+
+        return RequirementOrder.sort(requirements());
+    }
+
+    /**
+     * Tests the requirements in the given order until the first one fails.
+     * Stateful requirements are tested anyways to keep their state consistent.
+     */
+    @SuppressWarnings("unchecked")
+    private <TTarget> CombinedResult testRequirementsLazily(List<RequirementContext<?>> requirements, Target<TTarget> target, ExecutionContext<?> context, boolean failed) {
+
+        CombinedResult result = CombinedResult.empty();
+        for (RequirementContext<?> requirement : requirements) {
+            if (!requirement.isTargetType(target)) continue;
+            if (failed && !requirement.stateful()) continue;
+
+            RequirementContext<TTarget> requirementContext = (RequirementContext<TTarget>) requirement;
+            result = result.combine(requirementContext.test(target, context.next(requirementContext)));
+            failed = failed || result.failure();
+        }
+
+        return result;
+    }
 }
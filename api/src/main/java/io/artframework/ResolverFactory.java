@@ -3,8 +3,8 @@ package io.artframework;
 import io.artframework.conf.KeyValuePair;
 import io.artframework.impl.DefaultResolverFactory;
 import io.artframework.util.ConfigUtil;
+import io.artframework.util.MethodHandleUtil;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -28,10 +28,12 @@ public interface ResolverFactory<TType> extends Scoped {
      */
     static <TResolver extends Resolver<TType>, TType> ResolverFactory<TType> of(Scope scope, Class<TResolver> resolverClass) throws ConfigurationException {
 
+        Supplier<TResolver> constructor = MethodHandleUtil.constructor(resolverClass).orElse(null);
         Supplier<TResolver> supplier = () -> {
+            if (constructor == null) return null;
             try {
-                return resolverClass.getDeclaredConstructor().newInstance();
-            } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+                return constructor.get();
+            } catch (RuntimeException e) {
                 e.printStackTrace();
                 return null;
             }
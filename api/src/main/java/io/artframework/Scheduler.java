@@ -16,6 +16,7 @@
 
 package io.artframework;
 
+import io.artframework.impl.DefaultScheduler;
 import lombok.NonNull;
 
 import java.util.concurrent.Callable;
@@ -23,6 +24,18 @@ import java.util.concurrent.Future;
 
 public interface Scheduler {
 
+    /**
+     * Creates a new platform independent scheduler that is backed by a {@link java.util.concurrent.ScheduledThreadPoolExecutor}.
+     * <p>It is used if no module provided a scheduler while bootstrapping and the
+     * {@code defaultScheduler} setting is enabled.
+     *
+     * @param scope the scope whose settings configure the scheduler
+     * @return a new scheduler
+     */
+    static Scheduler of(Scope scope) {
+        return new DefaultScheduler(scope.settings());
+    }
+
     /**
      * Schedules a once off task to occur after a delay.
      * <p>
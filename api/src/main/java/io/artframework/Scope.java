@@ -60,6 +60,17 @@ public interface Scope extends DataProvider {
      */
     Configuration configuration();
 
+    /**
+     * Gets the profiler that measures the startup of this scope.
+     * <p>Scopes that do not measure their startup return a {@link StartupProfiler#disabled() disabled} profiler.
+     *
+     * @return the startup profiler of this scope
+     */
+    default StartupProfiler profiler() {
+
+        return StartupProfiler.disabled();
+    }
+
     /**
      * Tries to find a provider for the registered provider class and returns its instance.
      * <p>The lifetime of the underlying provider is handled by the module that registered it.
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.NonNull;
+import lombok.extern.java.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how long the different phases of starting the art-framework take.
+ * <p>Every measurement is recorded with a phase, e.g. {@link #MODULE_ENABLE}, and a name,
+ * e.g. the identifier of the module that was enabled. Measurements with the same phase and name are aggregated.
+ * <p>The report is logged as a summary and written as json to the {@link #REPORT_FILE}
+ * in the config path after all modules have been enabled. Nothing is recorded after the report was written,
+ * e.g. art that is loaded while the server is running.
+ * Use the {@code profileStartup} setting to disable the profiler.
+ * <pre>{@code
+ * try (StartupProfiler.Timer timer = scope.profiler().start(StartupProfiler.PARSE, "my-script")) {
+ *     // parse the script
+ * }
+ * }</pre>
+ */
+@Log(topic = "art-framework")
+public final class StartupProfiler {
+
+    /**
+     * The top level phases {@code bootstrap}, {@code loadAll} and {@code enableAll} of the scope.
+     */
+    public static final String STARTUP = "startup";
+    public static final String MODULE_BOOTSTRAP = "module bootstrap";
+    public static final String MODULE_LOAD = "module load";
+    public static final String MODULE_ENABLE = "module enable";
+    /**
+     * The class scans of the finders per finder and scanned file.
+     */
+    public static final String FINDER = "finder";
+    /**
+     * The initialization of the {@link ArtObjectMeta} per art object class.
+     */
+    public static final String META = "meta";
+    /**
+     * The loading of config files per file.
+     */
+    public static final String CONFIG = "config";
+    /**
+     * The parsing of art per storage key.
+     */
+    public static final String PARSE = "parse";
+    public static final String REPORT_FILE = "startup-report.json";
+
+    private static final Timer NOOP_TIMER = () -> {};
+    private static final StartupProfiler DISABLED = new StartupProfiler();
+    private static final int SUMMARY_ENTRIES = 3;
+
+    private final Scope scope;
+    private final long createdNanos = System.nanoTime();
+    private final Map<String, Map<String, Entry>> phases = new ConcurrentHashMap<>();
+    private volatile boolean finished = false;
+
+    public StartupProfiler(@NonNull Scope scope) {
+        this.scope = scope;
+    }
+
+    private StartupProfiler() {
+        this.scope = null;
+        this.finished = true;
+    }
+
+    /**
+     * @return a profiler that never records anything
+     */
+    public static StartupProfiler disabled() {
+
+        return DISABLED;
+    }
+
+    /**
+     * @return true if the {@code profileStartup} setting is enabled and the startup has not finished yet
+     */
+    public boolean enabled() {
+
+        return !finished && scope.settings().profileStartup();
+    }
+
+    /**
+     * Starts a new measurement that is recorded when the returned timer is closed.
+     *
+     * @param phase the phase of the measurement, e.g. {@link #MODULE_LOAD}
+     * @param name the name of the measured unit, e.g. the identifier of the module
+     * @return the timer of the measurement. does nothing if the profiler is disabled.
+     */
+    public Timer start(@NonNull String phase, @NonNull String name) {
+
+        if (!enabled()) return NOOP_TIMER;
+
+        long start = System.nanoTime();
+        return () -> record(phase, name, System.nanoTime() - start);
+    }
+
+    /**
+     * Records the given duration for the phase and name.
+     *
+     * @param phase the phase of the measurement, e.g. {@link #MODULE_LOAD}
+     * @param name the name of the measured unit, e.g. the identifier of the module
+     * @param nanos the measured duration in nanoseconds
+     */
+    public void record(@NonNull String phase, @NonNull String name, long nanos) {
+
+        if (!enabled()) return;
+
+        phases.computeIfAbsent(phase, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, key -> new Entry())
+                .add(nanos);
+    }
+
+    /**
+     * Creates a report of all measurements that can be serialized to json.
+     * <p>The phases are sorted by name and the entries of every phase by their total duration.
+     *
+     * @return the report of all measurements
+     */
+    public Map<String, Object> report() {
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("uptimeMillis", millis(System.nanoTime() - createdNanos));
+
+        Map<String, Object> phaseReports = new LinkedHashMap<>();
+        for (String phase : new TreeSet<>(phases.keySet())) {
+            List<Map.Entry<String, Entry>> entries = sortedEntries(phase);
+
+            Map<String, Object> phaseReport = new LinkedHashMap<>();
+            phaseReport.put("totalMillis", millis(entries.stream().mapToLong(entry -> entry.getValue().total.sum()).sum()));
+            List<Map<String, Object>> entryReports = new ArrayList<>();
+            for (Map.Entry<String, Entry> entry : entries) {
+                Map<String, Object> entryReport = new LinkedHashMap<>();
+                entryReport.put("name", entry.getKey());
+                entryReport.put("count", entry.getValue().count.sum());
+                entryReport.put("totalMillis", millis(entry.getValue().total.sum()));
+                entryReport.put("maxMillis", millis(entry.getValue().max.get()));
+                entryReports.add(entryReport);
+            }
+            phaseReport.put("entries", entryReports);
+            phaseReports.put(phase, phaseReport);
+        }
+        report.put("phases", phaseReports);
+
+        return report;
+    }
+
+    /**
+     * Creates a human readable summary with the total duration and slowest entries of every phase.
+     *
+     * @return the summary of all measurements
+     */
+    public String summary() {
+
+        StringBuilder sb = new StringBuilder("startup report:");
+        for (String phase : new TreeSet<>(phases.keySet())) {
+            List<Map.Entry<String, Entry>> entries = sortedEntries(phase);
+            long total = entries.stream().mapToLong(entry -> entry.getValue().total.sum()).sum();
+
+            sb.append(System.lineSeparator()).append("  ").append(phase).append(": ")
+                    .append(String.format(Locale.ROOT, "%.2fms", millis(total)))
+                    .append(" (").append(entries.size()).append(" entries)");
+            for (int i = 0; i < Math.min(SUMMARY_ENTRIES, entries.size()); i++) {
+                Map.Entry<String, Entry> entry = entries.get(i);
+                sb.append(i == 0 ? " slowest: " : ", ")
+                        .append(entry.getKey())
+                        .append(String.format(Locale.ROOT, " %.2fms", millis(entry.getValue().total.sum())));
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Writes the {@link #report()} as json to the given file.
+     *
+     * @param file the file the report is written to
+     * @throws IOException if the file cannot be written
+     */
+    public void write(@NonNull File file) throws IOException {
+
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file, report());
+    }
+
+    /**
+     * Logs the {@link #summary()} and writes the report to the {@link #REPORT_FILE} in the config path.
+     * <p>Stops the profiler from recording any further measurements.
+     * Does nothing if the profiler is disabled or already finished.
+     * No report is written if nothing was recorded, e.g. for scopes that are created without a startup.
+     */
+    public synchronized void finish() {
+
+        if (!enabled()) return;
+        finished = true;
+        if (phases.isEmpty()) return;
+
+        log.info(summary());
+
+        File file = new File(scope.settings().configPath(), REPORT_FILE);
+        try {
+            write(file);
+        } catch (IOException e) {
+            log.warning("unable to write the startup report to " + file.getAbsolutePath() + ": " + e.getMessage());
+        }
+    }
+
+    private List<Map.Entry<String, Entry>> sortedEntries(String phase) {
+
+        List<Map.Entry<String, Entry>> entries = new ArrayList<>(phases.getOrDefault(phase, Collections.emptyMap()).entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, Entry> entry) -> entry.getValue().total.sum()).reversed());
+        return entries;
+    }
+
+    private static double millis(long nanos) {
+
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * A running measurement of the profiler that is recorded when it is closed.
+     */
+    @FunctionalInterface
+    public interface Timer extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private static final class Entry {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private void add(long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulate(nanos);
+        }
+    }
+}
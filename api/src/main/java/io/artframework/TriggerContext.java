@@ -20,6 +20,8 @@ import io.artframework.conf.TriggerConfig;
 import io.artframework.impl.DefaultTriggerContext;
 import lombok.NonNull;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 
 public interface TriggerContext extends ArtObjectContext<Trigger>, ActionHolder, RequirementHolder {
@@ -74,6 +76,16 @@ public interface TriggerContext extends ArtObjectContext<Trigger>, ActionHolder,
      */
     void disable();
 
+    /**
+     * Gets the index keys that were declared by the config of an {@link IndexedTrigger}.
+     *
+     * @return the index keys of the trigger or an empty collection to be executed for every event
+     */
+    default Collection<?> indexKeys() {
+
+        return Collections.emptyList();
+    }
+
     /**
      * Fires this trigger and informs all listeners about its executing
      * if the given predicate and target type matches.
@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.experimental.Accessors;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 @Accessors(fluent = true)
@@ -19,6 +21,7 @@ public final class TriggerExecution<TTrigger extends Trigger> implements Scoped,
     @Getter
     private final Class<TTrigger> triggerClass;
     private final List<Target<?>> targets = new ArrayList<>();
+    private final List<Object> indexKeys = new ArrayList<>();
     @Getter
     private boolean executed = false;
 
@@ -53,6 +56,30 @@ public final class TriggerExecution<TTrigger extends Trigger> implements Scoped,
         return this;
     }
 
+    /**
+     * @return the index keys of the event that fired this trigger execution
+     * @see IndexedTrigger
+     */
+    public List<Object> indexKeys() {
+
+        return Collections.unmodifiableList(indexKeys);
+    }
+
+    /**
+     * Adds the keys of the event to the index keys of this execution.
+     * <p>Only the trigger contexts that declared any of the keys or no keys at all are executed
+     * if at least one key was added. All trigger contexts are executed if no key was added.
+     *
+     * @param keys the keys extracted from the event that fired the trigger
+     * @return this trigger execution context
+     * @see IndexedTrigger
+     */
+    public TriggerExecution<TTrigger> index(Object... keys) {
+
+        indexKeys.addAll(Arrays.asList(keys));
+        return this;
+    }
+
     /**
      * Finalizes this trigger execution and calls all listeners subscribed to the trigger type.
      * <p>Every trigger execution can only be called once.
@@ -71,4 +71,36 @@ public @interface ART {
      * @return true if this art-object should be automatically registered with the provider
      */
     boolean autoRegister() default true;
+
+    /**
+     * The estimated cost of testing a requirement relative to other requirements,
+     * e.g. {@code 0} for an in memory check and {@code 100} for a database query.
+     * <p>Requirements with a lower cost are tested first if the {@code shortCircuitRequirements} setting is enabled.
+     * Requirements with the same cost are ordered by their observed test duration.
+     *
+     * @return the estimated cost of testing the requirement
+     */
+    int cost() default 0;
+
+    /**
+     * A requirement is pure if its result only depends on its config and target
+     * and testing it has no side effects, e.g. checking a permission or the health of a player.
+     * <p>Pure requirements are only tested once per target and execution. Pure requirements with the same config
+     * are shared by all trigger contexts and only tested once per target and event.
+     * The result is reused by every other context that is tested with the same requirement
+     * and target during the same execution, even if an action of the execution changed the state it checks.
+     *
+     * @return true if the result of the requirement may be reused during one execution
+     */
+    boolean pure() default false;
+
+    /**
+     * The result of a cacheable requirement is reused across executions for the same config and target
+     * until the {@code requirementCacheMillis} elapsed or the {@link io.artframework.RequirementCache} was invalidated,
+     * e.g. to skip querying the same permission for every move of a player in the same tick.
+     * <p>Only mark requirements as cacheable that are {@link #pure()} and whose config does not depend on variables of the execution.
+     *
+     * @return true if the result of the requirement may be reused across executions
+     */
+    boolean cacheable() default false;
 }
@@ -106,4 +106,14 @@ public @interface ArtModule {
      * @return a list of packages to search for art
      */
     String[] packages() default {};
+
+    /**
+     * Set to true if the lifecycle methods of this module must be called on the main thread.
+     * <p>Modules are loaded and enabled in parallel if {@code parallelModuleLoading} is enabled in the settings.
+     * Modules that do not depend on each other are then loaded on multiple threads at the same time.
+     * Use this flag if your module calls an api that is not thread safe when loading or enabling it.
+     *
+     * @return true if the module must be loaded and enabled on the main thread
+     */
+    boolean mainThreadOnly() default false;
 }
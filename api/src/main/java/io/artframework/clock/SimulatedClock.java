@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.clock;
+
+import io.artframework.Clock;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A clock that only moves if it is advanced manually.
+ * <p>Use it in tests and simulations to check cooldowns without waiting for them to pass.
+ */
+public final class SimulatedClock implements Clock {
+
+    private final AtomicLong time;
+
+    /**
+     * Creates a new simulated clock that starts at the given time.
+     * <p>Make sure to start after zero, because a last execution of zero means that an action never executed.
+     *
+     * @param startMillis the start time in milliseconds since the epoch
+     */
+    public SimulatedClock(long startMillis) {
+        this.time = new AtomicLong(startMillis);
+    }
+
+    /**
+     * Advances the time of the clock.
+     *
+     * @param millis the milliseconds to advance the clock by
+     * @return the new time of the clock
+     */
+    public long advance(long millis) {
+
+        if (millis < 0) throw new IllegalArgumentException("a simulated clock cannot go back in time");
+
+        return time.addAndGet(millis);
+    }
+
+    /**
+     * Sets the time of the clock.
+     *
+     * @param millis the new time in milliseconds since the epoch
+     */
+    public void set(long millis) {
+
+        time.set(millis);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+
+        return time.get();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.clock;
+
+import io.artframework.Clock;
+import lombok.NonNull;
+
+/**
+ * A clock that caches the time of its source until it is updated.
+ * <p>Platforms with a fixed tick rate update the clock once per tick to make reading the time
+ * on hot paths, e.g. checking the cooldown of every action, as cheap as reading a field.
+ * The time is at most one tick behind the time of the source.
+ */
+public final class TickCachedClock implements Clock {
+
+    private final Clock source;
+    private volatile long time;
+
+    public TickCachedClock(@NonNull Clock source) {
+        this.source = source;
+        this.time = source.currentTimeMillis();
+    }
+
+    /**
+     * Caches the current time of the source. Call this once per tick.
+     */
+    public void update() {
+
+        time = source.currentTimeMillis();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+
+        return time;
+    }
+}
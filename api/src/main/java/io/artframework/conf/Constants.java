@@ -16,11 +16,36 @@
 
 package io.artframework.conf;
 
+import java.util.UUID;
+
 public final class Constants {
 
     public static final class Storage {
         public static final String LAST_EXECUTION = "last_execution";
         public static final String COUNT = "count";
         public static final String CHECK_ONCE_RESULT = "check_once_result";
+        /**
+         * The prefix of the random storage keys of art that was loaded without a storage key.
+         */
+        public static final String GENERATED_KEY_PREFIX = "generated-";
+        /**
+         * The name under which all generated storage keys are aggregated, e.g. in metrics and profiles.
+         */
+        public static final String GENERATED_KEYS = GENERATED_KEY_PREFIX + "*";
+
+        /**
+         * @return a new random storage key for art that was loaded without a storage key
+         */
+        public static String generatedKey() {
+            return GENERATED_KEY_PREFIX + UUID.randomUUID();
+        }
+
+        /**
+         * @param storageKey the storage key to check
+         * @return true if the storage key was generated by {@link #generatedKey()}
+         */
+        public static boolean isGeneratedKey(String storageKey) {
+            return storageKey == null || storageKey.startsWith(GENERATED_KEY_PREFIX);
+        }
     }
 }
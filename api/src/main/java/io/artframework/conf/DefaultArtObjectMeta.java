@@ -19,7 +19,9 @@ package io.artframework.conf;
 import com.google.common.base.Strings;
 import io.artframework.*;
 import io.artframework.annotations.ART;
+import io.artframework.util.ArtIndex;
 import io.artframework.util.ConfigUtil;
+import io.artframework.util.MethodHandleUtil;
 import io.artframework.util.ReflectionUtil;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -34,6 +36,7 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Accessors(fluent = true)
 @EqualsAndHashCode
@@ -45,6 +48,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
     private final String[] description;
     private final String[] alias;
     private final boolean autoRegister;
+    private final int cost;
+    private final boolean pure;
+    private final boolean cacheable;
     private final Class<?> configClass;
     private final Class<?> targetClass;
     private final Map<String, ConfigFieldInformation> configMap;
@@ -59,6 +65,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
             @NonNull String[] description,
             @NonNull String[] alias,
             boolean autoRegister,
+            int cost,
+            boolean pure,
+            boolean cacheable,
             @Nullable Class<?> configClass,
             @NonNull Class<?> targetClass,
             @NonNull Map<String, ConfigFieldInformation> configMap,
@@ -68,6 +77,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
         this.description = description;
         this.alias = alias;
         this.autoRegister = autoRegister;
+        this.cost = cost;
+        this.pure = pure;
+        this.cacheable = cacheable;
         this.configClass = configClass;
         this.targetClass = targetClass;
         this.configMap = configMap;
@@ -86,6 +98,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
         this.description = new String[0];
         this.alias = new String[0];
         this.autoRegister = false;
+        this.cost = 0;
+        this.pure = false;
+        this.cacheable = false;
         this.configClass = null;
         this.targetClass = null;
         this.configMap = new HashMap<>();
@@ -106,6 +121,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
         this.description = new String[0];
         this.alias = new String[0];
         this.autoRegister = false;
+        this.cost = 0;
+        this.pure = false;
+        this.cacheable = false;
         this.configClass = null;
         this.targetClass = targetClass;
         this.configMap = new HashMap<>();
@@ -145,6 +163,30 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
         return autoRegister;
     }
 
+    @Override
+    public int cost() {
+        if (!this.initialized()) {
+            throw new UnsupportedOperationException("You must initialize() the ArtObjectInformation object before you can use it!");
+        }
+        return cost;
+    }
+
+    @Override
+    public boolean pure() {
+        if (!this.initialized()) {
+            throw new UnsupportedOperationException("You must initialize() the ArtObjectInformation object before you can use it!");
+        }
+        return pure;
+    }
+
+    @Override
+    public boolean cacheable() {
+        if (!this.initialized()) {
+            throw new UnsupportedOperationException("You must initialize() the ArtObjectInformation object before you can use it!");
+        }
+        return cacheable;
+    }
+
     @Override
     public Optional<Class<?>> configClass() {
         if (!this.initialized()) {
@@ -200,6 +242,13 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
     public ArtObjectMeta<TArtObject> initialize(Scope scope) throws ArtMetaDataException {
         if (this.initialized()) return this;
 
+        try (StartupProfiler.Timer timer = scope.profiler().start(StartupProfiler.META, artObjectClass().getName())) {
+            return initializeMeta(scope);
+        }
+    }
+
+    private ArtObjectMeta<TArtObject> initializeMeta(Scope scope) throws ArtMetaDataException {
+
         try {
             String identifier = tryGetIdentifier();
             String[] description = tryGetDescription();
@@ -207,6 +256,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
             Class<?> targetClass = tryGetTargetClass();
             Class<?> configClass = findConfigClass();
             boolean autoRegister = tryGetAutoRegister();
+            int cost = tryGetCost();
+            boolean pure = tryGetPure();
+            boolean cacheable = tryGetCacheable();
             ArtObjectProvider<TArtObject> provider = tryGetArtObjectProvider();
             Map<String, ConfigFieldInformation> configMap = tryGetConfigMap(configClass);
 
@@ -225,7 +277,7 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
                 identifier = sourceModule.get().prefix() + ":" + identifier;
             }
 
-            return new DefaultArtObjectMeta<>(artObjectClass, identifier, description, alias, autoRegister, configClass, targetClass, configMap, provider);
+            return new DefaultArtObjectMeta<>(artObjectClass, identifier, description, alias, autoRegister, cost, pure, cacheable, configClass, targetClass, configMap, provider);
         } catch (ConfigurationException e) {
             throw new ArtMetaDataException(ArtObjectError.of(e.getMessage(), ArtObjectError.Reason.INVALID_CONFIG, artObjectClass()), e);
         }
@@ -247,9 +299,22 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
         return getAnnotation().map(ART::autoRegister).orElse(true);
     }
 
+    private int tryGetCost() {
+        return getAnnotation().map(ART::cost).orElse(0);
+    }
+
+    private boolean tryGetPure() {
+        return getAnnotation().map(ART::pure).orElse(false);
+    }
+
+    private boolean tryGetCacheable() {
+        return getAnnotation().map(ART::cacheable).orElse(false);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private Class<?> findConfigClass() throws ArtMetaDataException {
-        Class configClass = ReflectionUtil.getInterfaceTypeArgument(artObjectClass, Configurable.class, 0).orElse(artObjectClass);
+        Class configClass = indexedType(ArtIndex.CONFIG)
+                .orElseGet(() -> ReflectionUtil.getInterfaceTypeArgument(artObjectClass, Configurable.class, 0).orElse(artObjectClass));
 
         // lets make sure the config has a public parameterless constructor
         if (!configClass.equals(artObjectClass())) {
@@ -283,6 +348,9 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
             ));
         }
 
+        Optional<Class<?>> indexedTarget = indexedType(ArtIndex.TARGET);
+        if (indexedTarget.isPresent()) return indexedTarget.get();
+
         ArtMetaDataException exception = new ArtMetaDataException(ArtObjectError.of(
                 "Unable to find a valid target type for the class " + artObjectClass.getCanonicalName(),
                 ArtObjectError.Reason.INVALID_ART_OBJECT,
@@ -305,20 +373,19 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
 
         if (artObjectProvider != null) return artObjectProvider;
 
+        // the constructor is resolved once per class, because art objects are created for every execution
+        Supplier<TArtObject> constructor = MethodHandleUtil.constructor(artObjectClass()).orElseThrow(() -> new ArtMetaDataException(ArtObjectError.of(
+                "Unable to find a parameterless constructor for " + artObjectClass().getCanonicalName(),
+                ArtObjectError.Reason.INVALID_CONSTRUCTOR,
+                artObjectClass()
+        )));
         try {
-            Constructor<TArtObject> constructor = artObjectClass().getDeclaredConstructor();
-            constructor.newInstance();
-            return () -> {
-                try {
-                    return constructor.newInstance();
-                } catch (InstantiationException | IllegalAccessException | InvocationTargetException ignored) {
-                    // we know this works since we tested it above
-                    return null;
-                }
-            };
-        } catch (IllegalAccessException | InstantiationException | InvocationTargetException | NoSuchMethodException e) {
+            constructor.get();
+        } catch (Exception e) {
             throw new ArtMetaDataException(ArtObjectError.of(e.getMessage(), ArtObjectError.Reason.INVALID_CONSTRUCTOR, artObjectClass()), e);
         }
+
+        return constructor::get;
     }
 
     private Map<String, ConfigFieldInformation> tryGetConfigMap(Class<?> configClass) throws ConfigurationException {
@@ -331,6 +398,23 @@ public final class DefaultArtObjectMeta<TArtObject extends ArtObject> implements
         }
     }
 
+    /**
+     * Gets a type of the art object from the {@link ArtIndex} that was generated at compile time.
+     * The index is used to avoid resolving the generic type arguments of the art object class with reflection.
+     */
+    private Optional<Class<?>> indexedType(String attribute) {
+
+        return ArtIndex.of(location)
+                .flatMap(index -> index.attribute(attribute, artObjectClass.getName()))
+                .flatMap(className -> {
+                    try {
+                        return Optional.of(Class.forName(className, false, artObjectClass.getClassLoader()));
+                    } catch (ClassNotFoundException e) {
+                        return Optional.empty();
+                    }
+                });
+    }
+
     private Optional<ART> getAnnotation() {
 
         if (artObjectClass.isAnnotationPresent(ART.class)) {
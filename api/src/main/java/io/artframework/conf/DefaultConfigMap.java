@@ -57,11 +57,36 @@ public class DefaultConfigMap implements ConfigMap {
         this.loaded = true;
     }
 
+    @Override
+    public Map<String, Object> values() {
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (ConfigValue configValue : configValues()) {
+            values.put(configValue.field().identifier(), configValue.value());
+        }
+
+        return values;
+    }
+
     @Override
     public ConfigMap with(@NonNull List<KeyValuePair> keyValuePairs) throws ConfigurationException {
         return new DefaultConfigMap(configFields(), loadConfigValues(keyValuePairs));
     }
 
+    @Override
+    public boolean isStatic(@NonNull Scope scope) {
+
+        ReplacementProvider replacements = scope.configuration().replacements();
+        for (ConfigValue configValue : configValues()) {
+            Object value = configValue.value();
+            if (configValue.field().resolve() && value instanceof String) return false;
+            if (value instanceof String && replacements.canReplace((String) value)) return false;
+            if (value instanceof String[] && Arrays.stream((String[]) value).anyMatch(replacements::canReplace)) return false;
+        }
+
+        return true;
+    }
+
     @Override
     public ConfigMap resolve(@NonNull Scope scope, @Nullable Target<?> target, @Nullable ExecutionContext<?> context) {
 
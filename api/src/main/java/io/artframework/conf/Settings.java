@@ -53,6 +53,9 @@ public class Settings extends SettingsBase implements Serializable, Cloneable {
     @Builder.Default
     private String configPath = "configs";
 
+    @Builder.Default
+    private String cachePath = "cache";
+
     /**
      * If this is set to true, the ART-Framework will automatically scan the whole
      * classpath to find and register any {@link ArtObject}s that
@@ -63,6 +66,108 @@ public class Settings extends SettingsBase implements Serializable, Cloneable {
      */
     @Builder.Default
     private boolean autoRegisterAllArt = true;
+    /**
+     * If this is set to true, the results of scanning jar files for classes are cached
+     * in the {@link #cachePath()}. Only classes of changed jar files will be scanned again.
+     */
+    @Builder.Default
+    private boolean cacheClassScans = true;
+    /**
+     * If this is set to true, art that is loaded with a storage key is stored as a parsed snapshot
+     * in the {@link #cachePath()} after all modules have been enabled.
+     * Unchanged art is restored from the snapshot on the next start instead of parsing it again.
+     */
+    @Builder.Default
+    private boolean snapshotArt = true;
+    /**
+     * If this is set to true, modules are loaded and enabled in parallel.
+     * <p>Modules are grouped into layers by their dependencies. All modules of a layer are
+     * loaded in parallel after the modules of the previous layer have been loaded.
+     * Modules marked as {@code mainThreadOnly} are always loaded on the calling thread.
+     */
+    @Builder.Default
+    private boolean parallelModuleLoading = false;
+    /**
+     * If this is set to true, the duration of bootstrapping, loading and enabling every module,
+     * scanning for classes, loading configs and parsing art is measured.
+     * <p>A summary is logged after all modules have been enabled and the full report
+     * is written to the {@link io.artframework.StartupProfiler#REPORT_FILE} in the {@link #configPath()}.
+     */
+    @Builder.Default
+    private boolean profileStartup = true;
+    /**
+     * If this is set to true, the result status and duration of every action execution,
+     * requirement test and trigger execution is recorded by the {@link io.artframework.MetricsProvider}.
+     */
+    @Builder.Default
+    private boolean metrics = true;
+    /**
+     * If this is set to true, the recorded metrics are also exposed as JMX MBeans.
+     * <p>The MBeans are registered in the platform MBean server and keep the classes of the art-framework
+     * loaded until they are unregistered when all modules are disabled.
+     */
+    @Builder.Default
+    private boolean metricsMBeans = false;
+    /**
+     * Traces one of every n trigger executions with all requirement tests, actions and delayed actions
+     * that were executed because of the trigger. Set to zero to disable tracing.
+     * <p>The traces are kept in memory and can be dumped to json with the {@link io.artframework.ExecutionTracer}.
+     */
+    @Builder.Default
+    private int traceSampleRate = 0;
+    /**
+     * The maximum number of traces that are kept in memory. The oldest trace is discarded first.
+     */
+    @Builder.Default
+    private int traceBufferSize = 100;
+    /**
+     * The resolution in milliseconds of the {@link io.artframework.DelayedExecutionQueue} that holds
+     * all delayed actions and triggers. Delays are rounded up to a multiple of it.
+     * <p>Defaults to the length of one server tick.
+     */
+    @Builder.Default
+    private long delayQueueTickMillis = 50;
+    /**
+     * If this is set to true, a scheduler that is backed by a thread pool is used
+     * if no module provided a {@link io.artframework.Scheduler} while bootstrapping.
+     * <p>Without a scheduler delayed actions are executed immediately and asynchronous work runs on the calling thread.
+     */
+    @Builder.Default
+    private boolean defaultScheduler = true;
+    /**
+     * The number of threads the default scheduler uses to run asynchronous tasks.
+     */
+    @Builder.Default
+    private int schedulerThreads = 4;
+    /**
+     * If this is set to true, the default scheduler runs all synchronous tasks on a single main thread
+     * to mimic the main thread of a server. Otherwise synchronous tasks share the threads of the asynchronous tasks.
+     */
+    @Builder.Default
+    private boolean schedulerMainThread = true;
+    /**
+     * If this is set to true and the art-framework runs on Java 21 or newer, the default scheduler runs
+     * every asynchronous task with its own virtual thread instead of the bounded pool of {@link #schedulerThreads()}.
+     * <p>This setting has no effect on older Java versions.
+     */
+    @Builder.Default
+    private boolean virtualThreads = true;
+    /**
+     * If this is set to true, requirements are tested lazily and the test stops at the first requirement that fails.
+     * <p>The requirements are tested in order of their declared {@link io.artframework.annotations.ART#cost()}
+     * and their observed test duration. Requirements that count their successful tests or only check once
+     * are always tested to keep their state consistent.
+     * <p>The result only contains the messages of the requirements that were tested.
+     */
+    @Builder.Default
+    private boolean shortCircuitRequirements = false;
+    /**
+     * The time in milliseconds the results of {@link io.artframework.annotations.ART#cacheable()} requirements
+     * are reused by the {@link io.artframework.RequirementCache} across executions.
+     * <p>Defaults to the length of one server tick. Set it to zero to disable the cache.
+     */
+    @Builder.Default
+    private long requirementCacheMillis = 50;
     /**
      * If set to true the art-framework will increase the log level to fines and print debug outputs.
      */
@@ -86,6 +191,11 @@ public class Settings extends SettingsBase implements Serializable, Cloneable {
         return new File(basePath(), configPath);
     }
 
+    public File cachePath() {
+
+        return new File(basePath(), cachePath);
+    }
+
     public File modulePath() {
         return new File(basePath(), modulePath);
     }
@@ -17,7 +17,6 @@
 package io.artframework.finder;
 
 import io.artframework.*;
-import io.artframework.util.FileUtil;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -38,7 +37,7 @@ public final class ArtObjectFinder extends AbstractFinder {
         final List<ArtObjectMeta<?>> artObjectMetas = new ArrayList<>();
         final List<ArtObjectError> errors = new ArrayList<>();
 
-        FileUtil.findClasses(classLoader, file, ArtObject.class)
+        findClasses(classLoader, file, ArtObject.class)
                 .stream().filter(predicate)
                 .filter(this::search)
                 .forEach(artClass -> {
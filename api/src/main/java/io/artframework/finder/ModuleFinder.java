@@ -18,7 +18,6 @@ package io.artframework.finder;
 
 import io.artframework.*;
 import io.artframework.annotations.ArtModule;
-import io.artframework.util.FileUtil;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -39,7 +38,7 @@ public class ModuleFinder extends AbstractFinder {
         final List<Class<?>> moduleClasses = new ArrayList<>();
         final List<ArtObjectError> errors = new ArrayList<>();
 
-        FileUtil.findClasses(classLoader, file, aClass -> aClass.isAnnotationPresent(ArtModule.class))
+        findAnnotatedClasses(classLoader, file, ArtModule.class)
                 .stream().filter(predicate)
                 .filter(this::search)
                 .forEach(moduleClass -> {
@@ -17,7 +17,6 @@
 package io.artframework.finder;
 
 import io.artframework.*;
-import io.artframework.util.FileUtil;
 import lombok.Value;
 
 import java.io.File;
@@ -39,7 +38,7 @@ public class ReplacementFinder extends AbstractFinder {
         final Collection<ReplacementClassWrapper> replacements = new ArrayList<>();
         final Collection<ArtObjectError> errors = new ArrayList<>();
 
-        FileUtil.findClasses(classLoader, file, Replacement.class)
+        findClasses(classLoader, file, Replacement.class)
                 .stream().filter(predicate)
                 .filter(this::search)
                 .forEach(clazz -> {
@@ -20,7 +20,6 @@ import io.artframework.AbstractFinder;
 import io.artframework.FinderResult;
 import io.artframework.Resolver;
 import io.artframework.Scope;
-import io.artframework.util.FileUtil;
 import lombok.Value;
 
 import java.io.File;
@@ -40,7 +39,7 @@ public class ResolverFinder extends AbstractFinder {
     @Override
     public ResolverFinderResult findAllIn(ClassLoader classLoader, File file, Predicate<Class<?>> predicate) {
 
-        return new ResolverFinderResult(FileUtil.findClasses(classLoader, file, Resolver.class)
+        return new ResolverFinderResult(findClasses(classLoader, file, Resolver.class)
                 .stream().filter(predicate)
                 .filter(this::search)
                 .map(aClass -> new ResolverClassWrapper(aClass))
@@ -17,7 +17,6 @@
 package io.artframework.finder;
 
 import io.artframework.*;
-import io.artframework.util.FileUtil;
 import io.artframework.util.ReflectionUtil;
 import lombok.Value;
 
@@ -42,7 +41,7 @@ public class TargetFinder extends AbstractFinder {
         final Collection<TargetClassWrapper<?>> targets = new ArrayList<>();
         final Collection<ArtObjectError> errors = new ArrayList<>();
 
-        FileUtil.findClasses(classLoader, file, Target.class)
+        findClasses(classLoader, file, Target.class)
                 .stream().filter(predicate)
                 .filter(this::search)
                 .forEach(targetClass -> {
@@ -19,6 +19,9 @@ package io.artframework.impl;
 import io.artframework.*;
 import io.artframework.conf.ActionConfig;
 import io.artframework.conf.Constants;
+import io.artframework.jfr.ActionEvent;
+import io.artframework.jfr.ArtEvent;
+import io.artframework.tracing.Span;
 import io.artframework.util.TimeUtil;
 import lombok.Getter;
 import lombok.NonNull;
@@ -51,6 +54,7 @@ public final class DefaultActionContext<TTarget> extends AbstractArtObjectContex
     private final List<ActionContext<?>> actions = new ArrayList<>();
     @Getter
     private final List<RequirementContext<?>> requirements = new ArrayList<>();
+    private final RequirementOrder requirementOrder = new RequirementOrder(requirements);
 
     public DefaultActionContext(
             @NonNull Scope scope,
@@ -78,7 +82,9 @@ public final class DefaultActionContext<TTarget> extends AbstractArtObjectContex
         if (action != null) {
             return action;
         } else {
-            return factory().create(artObjectConfig().resolve(scope(), target, context));
+            ConfigMap config = artObjectConfig().resolve(scope(), target, context);
+            configuration().tracer().config(context, config);
+            return factory().create(config);
         }
     }
 
@@ -90,6 +96,13 @@ public final class DefaultActionContext<TTarget> extends AbstractArtObjectContex
     @Override
     public final void addRequirement(RequirementContext<?> requirement) {
         this.requirements.add(requirement);
+        this.requirementOrder.invalidate();
+    }
+
+    @Override
+    public List<RequirementContext<?>> costOrderedRequirements() {
+
+        return requirementOrder.get();
     }
 
     @Override
@@ -100,52 +113,70 @@ public final class DefaultActionContext<TTarget> extends AbstractArtObjectContex
             return empty(target, this);
         }
 
+        Span span = configuration().tracer().start(this, target, context);
+        long testStartTime = System.nanoTime();
+
         FutureResult executionTest = testExecution(target);
         if (executionTest.failure()) {
             log.finest("execution test failure: " + Arrays.toString(executionTest.messages()));
+            configuration().metrics().record(this, executionTest.status(), System.nanoTime() - testStartTime);
+            configuration().tracer().finish(span, executionTest.status());
             return executionTest;
         }
 
         CombinedResult requirementTest = testRequirements(context);
         if (requirementTest.failure()) {
             log.finest("requirements check failure: " + Arrays.toString(requirementTest.messages()));
+            configuration().metrics().record(this, requirementTest.status(), System.nanoTime() - testStartTime);
+            configuration().tracer().finish(span, requirementTest.status());
             return of(requirementTest, target, this);
         }
 
         final FutureResult result = empty(target, this);
 
-        Runnable runnable = () -> {
-
-            long startTime = System.nanoTime();
-
-            Action<TTarget> action = action(target, context);
-            log.finest("executing " + action.getClass().getCanonicalName() + " with " + target);
-            Result actionResult = action
-                    .execute(target, context)
-                    .with(target, this);
-
-            store(target, Constants.Storage.LAST_EXECUTION, System.currentTimeMillis());
-            long endTime = System.nanoTime();
-            log.finest("executed in " + (startTime - endTime) / 1000000 + "ms: " + Arrays.toString(actionResult.messages()));
-
-            if (!actionResult.error()) {
-                log.finest("executing " + actions().size() + " nested actions");
-                result.complete(actionResult.combine(executeActions(target, context)));
-            }
-        };
-
         long delay = this.config().delay();
 
         if (configuration().scheduler().isPresent() && delay > 0) {
             log.finest("running delayed action " + delay + "ms delay");
-            configuration().scheduler().get().runTaskLater(runnable, delay);
+            // the result of the action is traced by the span of the delayed continuation
+            configuration().tracer().finish(span, null);
+            configuration().delayQueue().schedule(this, delay, () -> {
+                Span continuation = configuration().tracer().resume(span, this, target, context);
+                // the pure requirements must be tested again and not reuse the results of the scheduling execution
+                configuration().tracer().finish(continuation, executeAction(target, context.withNewMemo(), result));
+            }, target);
         } else {
-            runnable.run();
+            configuration().tracer().finish(span, executeAction(target, context, result));
         }
 
         return result;
     }
 
+    private ResultStatus executeAction(Target<TTarget> target, ExecutionContext<ActionContext<TTarget>> context, FutureResult result) {
+
+        long startTime = System.nanoTime();
+        ActionEvent event = ArtEvent.start(ActionEvent::new);
+
+        Action<TTarget> action = action(target, context);
+        log.finest("executing " + action.getClass().getCanonicalName() + " with " + target);
+        Result actionResult = action
+                .execute(target, context)
+                .with(target, this);
+
+        store(target, Constants.Storage.LAST_EXECUTION, configuration().clock().currentTimeMillis());
+        long endTime = System.nanoTime();
+        log.finest("executed in " + (endTime - startTime) / 1000000 + "ms: " + Arrays.toString(actionResult.messages()));
+        configuration().metrics().record(this, actionResult.status(), endTime - startTime);
+
+        if (!actionResult.error()) {
+            log.finest("executing " + actions().size() + " nested actions");
+            result.complete(actionResult.combine(executeActions(target, context)));
+        }
+        ArtEvent.commit(event, this, target, actionResult.status());
+
+        return actionResult.status();
+    }
+
     /**
      * Checks if the {@link DefaultActionContext} has the execute_once option
      * and already executed once for the {@link Target}.
@@ -179,9 +210,10 @@ public final class DefaultActionContext<TTarget> extends AbstractArtObjectContex
 
         if (lastExecution < 1) return success(target, this);
 
-        long remainingCooldown = (lastExecution + cooldown) - System.currentTimeMillis();
+        long remainingCooldown = (lastExecution + cooldown) - configuration().clock().currentTimeMillis();
 
         if (remainingCooldown > 0) {
+            configuration().metrics().recordCooldownRejection(this);
             return failure(target, this, "Action is still on cooldown. "
                     + TimeUtil.getAccurrateShortFormatedTime(remainingCooldown) + " are remaining.");
         } else {
@@ -19,6 +19,7 @@ package io.artframework.impl;
 import com.google.common.collect.ImmutableList;
 import io.artframework.*;
 import io.artframework.conf.ArtSettings;
+import io.artframework.conf.Constants;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
@@ -161,9 +162,26 @@ public class DefaultArtContext extends AbstractScoped implements ArtContext, Tri
                 .filter(artObjectContext -> artObjectContext instanceof TriggerContext)
                 .map(artObjectContext -> (TriggerContext) artObjectContext)
                 .forEach(context -> context.removeListener(this).disable());
+        cancelDelayedExecutions(artContexts());
+        artContexts().stream()
+                .map(ArtObjectContext::storageKey)
+                .filter(storageKey -> !Constants.Storage.isGeneratedKey(storageKey))
+                .distinct()
+                .forEach(storageKey -> configuration().metrics().remove(storageKey));
         return this;
     }
 
+    // the pending continuations of delayed triggers and actions reference their contexts and must not run after disposal
+    private void cancelDelayedExecutions(Collection<? extends ArtObjectContext<?>> contexts) {
+
+        for (ArtObjectContext<?> context : contexts) {
+            configuration().delayQueue().cancel(context);
+            if (context instanceof ActionHolder) {
+                cancelDelayedExecutions(((ActionHolder) context).actions());
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected final <TContext> CombinedResult executeContext(
             Class<TContext> contextClass,
@@ -16,7 +16,10 @@
 
 package io.artframework.impl;
 
+import io.artframework.ArtContext;
 import io.artframework.ArtLoader;
+import io.artframework.ParseException;
+import io.artframework.ParseResult;
 import io.artframework.Scope;
 import io.artframework.parser.Parser;
 import io.artframework.parser.flow.FlowParser;
@@ -25,8 +28,10 @@ import lombok.Getter;
 import lombok.experimental.Accessors;
 import lombok.extern.java.Log;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 @Log(topic = "art-framework")
@@ -35,7 +40,7 @@ public class DefaultArtLoader implements ArtLoader {
     @Getter
     @Accessors(fluent = true)
     private final Scope scope;
-    private final Map<Class<?>, Function<Scope, ? extends Parser<?>>> parsers = new HashMap<>();
+    private final Map<Class<?>, Function<Scope, ? extends Parser<?>>> parsers = new ConcurrentHashMap<>();
 
     public DefaultArtLoader(Scope scope) {
         this.scope = scope;
@@ -64,4 +69,26 @@ public class DefaultArtLoader implements ArtLoader {
 
         return (TParser) parser;
     }
+
+    @Override
+    public ParseResult parseAll(Map<String, Collection<String>> sources, ForkJoinPool pool) {
+
+        Map<String, ArtContext> contexts = new ConcurrentHashMap<>();
+        Map<String, ParseException> errors = new ConcurrentHashMap<>();
+
+        // running the parallel stream inside the pool forces all of its tasks onto the given pool
+        pool.submit(() -> sources.entrySet().parallelStream().forEach(entry -> {
+            try {
+                contexts.put(entry.getKey(), parser().storageKey(entry.getKey()).parse(entry.getValue()));
+            } catch (ParseException e) {
+                errors.put(entry.getKey(), e);
+            } catch (Exception e) {
+                errors.put(entry.getKey(), new ParseException(e.getMessage(), e));
+            }
+        })).join();
+
+        log.fine("parsed " + contexts.size() + "/" + sources.size() + " art sources");
+
+        return ParseResult.of(contexts, errors);
+    }
 }
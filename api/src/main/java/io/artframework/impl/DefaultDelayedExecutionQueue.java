@@ -0,0 +1,284 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.impl;
+
+import io.artframework.*;
+import lombok.NonNull;
+import lombok.extern.java.Log;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * A hierarchical timing wheel with {@link #LEVELS} levels of {@link #SLOTS} slots each.
+ * <p>Every level covers {@link #SLOTS} times the range of the level below it.
+ * Continuations are placed in the lowest level that covers their deadline and cascade
+ * into the lower levels once the wheel reaches their slot. Continuations that are due
+ * after the range of the highest level are parked in it and cascade until they fit.
+ * <p>The wheel is advanced by one tick every {@code delayQueueTickMillis} by a single
+ * repeating {@link Scheduler} task that is cancelled as soon as no continuation is pending.
+ */
+@Log(topic = "art-framework")
+public class DefaultDelayedExecutionQueue extends AbstractProvider implements DelayedExecutionQueue {
+
+    static final int LEVELS = 4;
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int SLOT_MASK = SLOTS - 1;
+
+    private final AtomicInteger taskIds = new AtomicInteger();
+    private final List<List<List<Entry>>> wheels = new ArrayList<>(LEVELS);
+    private long currentTick = 0;
+    private long tickMillis = 1;
+    private int size = 0;
+    @Nullable
+    private Task driver;
+
+    public DefaultDelayedExecutionQueue(Scope scope) {
+        super(scope);
+
+        for (int level = 0; level < LEVELS; level++) {
+            List<List<Entry>> wheel = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel.add(new ArrayList<>());
+            }
+            wheels.add(wheel);
+        }
+    }
+
+    @Override
+    public Task schedule(@NonNull ArtObjectContext<?> context, long delay, @NonNull Runnable task, @NonNull Target<?>... targets) {
+
+        Entry entry = new Entry(taskIds.incrementAndGet(), context, targets, task);
+
+        Optional<Scheduler> scheduler = configuration().scheduler();
+        if (delay < 1 || !scheduler.isPresent()) {
+            entry.done = true;
+            entry.run();
+            return entry;
+        }
+
+        synchronized (this) {
+            if (driver == null) {
+                tickMillis = Math.max(1, scope().settings().delayQueueTickMillis());
+                driver = scheduler.get().runTaskTimer(this::tick, tickMillis, tickMillis);
+            }
+            // round up to the next tick to never run a continuation before its delay
+            entry.deadline = currentTick + Math.max(1, (delay + tickMillis - 1) / tickMillis);
+            insert(entry);
+            size++;
+        }
+
+        return entry;
+    }
+
+    @Override
+    public int cancel(@NonNull Target<?> target) {
+
+        return cancel(entry -> {
+            for (Target<?> entryTarget : entry.targets) {
+                if (entryTarget.uniqueId().equals(target.uniqueId())) return true;
+            }
+            return false;
+        });
+    }
+
+    @Override
+    public int cancel(@NonNull ArtObjectContext<?> context) {
+
+        return cancel(entry -> entry.context == context);
+    }
+
+    @Override
+    public int cancelAll() {
+
+        return cancel(entry -> true);
+    }
+
+    @Override
+    public synchronized int size() {
+
+        return size;
+    }
+
+    /**
+     * Advances the wheel by one tick and runs all continuations that are due.
+     */
+    void tick() {
+
+        List<Entry> due = new ArrayList<>();
+        synchronized (this) {
+            currentTick++;
+            // cascade the highest levels first to let their entries flow down to the lowest level in the same tick
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+
+            List<Entry> slot = slot(0, currentTick);
+            for (Entry entry : slot) {
+                if (entry.cancelled) continue;
+                entry.done = true;
+                due.add(entry);
+            }
+            slot.clear();
+            size -= due.size();
+            stopIfIdle();
+        }
+
+        for (Entry entry : due) {
+            entry.run();
+        }
+    }
+
+    private void insert(Entry entry) {
+
+        long delta = entry.deadline - currentTick;
+        if (delta < SLOTS) {
+            slot(0, Math.max(entry.deadline, currentTick)).add(entry);
+            return;
+        }
+
+        for (int level = 1; level < LEVELS; level++) {
+            if (delta < 1L << (SLOT_BITS * (level + 1))) {
+                slot(level, entry.deadline).add(entry);
+                return;
+            }
+        }
+
+        // the deadline is after the range of the wheel: park the entry until the highest level wrapped around
+        slot(LEVELS - 1, currentTick).add(entry);
+    }
+
+    private void cascade(int level) {
+
+        List<Entry> slot = slot(level, currentTick);
+        if (slot.isEmpty()) return;
+
+        List<Entry> entries = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry entry : entries) {
+            if (!entry.cancelled) {
+                insert(entry);
+            }
+        }
+    }
+
+    private List<Entry> slot(int level, long tick) {
+
+        return wheels.get(level).get((int) ((tick >> (SLOT_BITS * level)) & SLOT_MASK));
+    }
+
+    private synchronized int cancel(Predicate<Entry> predicate) {
+
+        int cancelled = 0;
+        for (List<List<Entry>> wheel : wheels) {
+            for (List<Entry> slot : wheel) {
+                Iterator<Entry> iterator = slot.iterator();
+                while (iterator.hasNext()) {
+                    Entry entry = iterator.next();
+                    if (entry.cancelled) {
+                        iterator.remove();
+                    } else if (predicate.test(entry)) {
+                        entry.cancelled = true;
+                        iterator.remove();
+                        cancelled++;
+                    }
+                }
+            }
+        }
+        size -= cancelled;
+        stopIfIdle();
+
+        return cancelled;
+    }
+
+    private void stopIfIdle() {
+
+        if (size > 0 || driver == null) return;
+
+        driver.cancel();
+        driver = null;
+    }
+
+    private final class Entry implements Task {
+
+        private final int taskId;
+        private final ArtObjectContext<?> context;
+        private final Target<?>[] targets;
+        private final Runnable task;
+        private long deadline;
+        private boolean cancelled = false;
+        private boolean done = false;
+
+        private Entry(int taskId, ArtObjectContext<?> context, Target<?>[] targets, Runnable task) {
+            this.taskId = taskId;
+            this.context = context;
+            this.targets = targets;
+            this.task = task;
+        }
+
+        private void run() {
+
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.severe("failed to execute delayed continuation of " + context.uniqueId() + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+
+        @Override
+        public int getTaskId() {
+
+            return taskId;
+        }
+
+        @Override
+        public boolean isSync() {
+
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+
+            synchronized (DefaultDelayedExecutionQueue.this) {
+                return cancelled;
+            }
+        }
+
+        @Override
+        public void cancel() {
+
+            synchronized (DefaultDelayedExecutionQueue.this) {
+                if (cancelled || done) return;
+                // the entry is removed from its slot once the wheel reaches it
+                cancelled = true;
+                size--;
+                stopIfIdle();
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import lombok.experimental.Accessors;
 
 import javax.annotation.Nullable;
 import java.util.*;
+import java.util.function.Supplier;
 
 @Accessors(fluent = true)
 public class DefaultExecutionContext<TContext extends ArtObjectContext<?>> extends AbstractScoped implements ExecutionContext<TContext> {
@@ -39,7 +40,27 @@ public class DefaultExecutionContext<TContext extends ArtObjectContext<?>> exten
     ) {
         super(scope);
         this.root = root;
-        this.container = new Container(targets);
+        this.container = new Container(new ResultMemo(), targets);
+        this.currentContext = null;
+    }
+
+    /**
+     * Creates a new execution context that shares the given memo with other executions.
+     *
+     * @param scope the scope of the execution
+     * @param root the root context that initiated the execution. can be null.
+     * @param memo the memo of the pure requirement results that is shared with other executions
+     * @param targets the targets of the execution
+     */
+    public DefaultExecutionContext(
+            @NonNull Scope scope,
+            @Nullable Context root,
+            @NonNull ResultMemo memo,
+            @NonNull Target<?>... targets
+    ) {
+        super(scope);
+        this.root = root;
+        this.container = new Container(memo, targets);
         this.currentContext = null;
     }
 
@@ -105,6 +126,16 @@ public class DefaultExecutionContext<TContext extends ArtObjectContext<?>> exten
         return Optional.empty();
     }
 
+    @Override
+    public <TResult extends Result> TResult memoize(@NonNull ArtObjectContext<?> context, @NonNull Target<?> target, @NonNull Supplier<TResult> supplier) {
+        return container.memo.memoize(context, target, supplier);
+    }
+
+    @Override
+    public ExecutionContext<TContext> withNewMemo() {
+        return new DefaultExecutionContext<>(scope(), root, new Container(container, new ResultMemo()), currentContext);
+    }
+
     @Override
     public @NonNull Map<String, Object> data() {
         return container.data;
@@ -121,17 +152,27 @@ public class DefaultExecutionContext<TContext extends ArtObjectContext<?>> exten
         private final Map<String, Object> data;
         private final Stack<ArtObjectContext<?>> history;
         private final Set<Target<?>> targets;
+        private final ResultMemo memo;
 
         private Container() {
             this.data = new HashMap<>();
             this.history = new Stack<>();
             this.targets = new HashSet<>();
+            this.memo = new ResultMemo();
         }
 
-        private Container(Target<?>... targets) {
+        private Container(ResultMemo memo, Target<?>... targets) {
             this.data = new HashMap<>();
             this.history = new Stack<>();
             this.targets = new HashSet<>(Arrays.asList(targets));
+            this.memo = memo;
+        }
+
+        private Container(Container container, ResultMemo memo) {
+            this.data = container.data;
+            this.history = container.history;
+            this.targets = container.targets;
+            this.memo = memo;
         }
     }
 }
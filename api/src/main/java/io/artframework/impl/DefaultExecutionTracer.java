@@ -0,0 +1,157 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.artframework.*;
+import io.artframework.tracing.Span;
+import io.artframework.tracing.Trace;
+import lombok.NonNull;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DefaultExecutionTracer extends AbstractProvider implements ExecutionTracer {
+
+    static final String TRACE_KEY = "io.artframework.trace";
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong traceIds = new AtomicLong();
+    private final Deque<Trace> traces = new ArrayDeque<>();
+
+    public DefaultExecutionTracer(Scope scope) {
+        super(scope);
+    }
+
+    @Override
+    public boolean enabled() {
+
+        return scope().settings().traceSampleRate() > 0;
+    }
+
+    @Override
+    @Nullable
+    public Span startTrace(@NonNull ArtObjectContext<?> context, @Nullable Target<?> target, @NonNull ExecutionContext<?> executionContext) {
+
+        // a previous target of the same execution context may still hold a finished trace
+        executionContext.data().remove(TRACE_KEY);
+
+        int sampleRate = scope().settings().traceSampleRate();
+        if (sampleRate < 1 || executions.incrementAndGet() % sampleRate != 0) return null;
+
+        Trace trace = new Trace(traceIds.incrementAndGet(), context, target);
+        executionContext.data().put(TRACE_KEY, trace);
+        add(trace);
+
+        return trace.root();
+    }
+
+    @Override
+    @Nullable
+    public Span start(@NonNull ArtObjectContext<?> context, @Nullable Target<?> target, @NonNull ExecutionContext<?> executionContext) {
+
+        Trace trace = trace(executionContext);
+        if (trace == null || !trace.active()) return null;
+
+        return trace.start(context, target);
+    }
+
+    @Override
+    @Nullable
+    public Span resume(@Nullable Span parent, @NonNull ArtObjectContext<?> context, @Nullable Target<?> target, @NonNull ExecutionContext<?> executionContext) {
+
+        if (parent == null) return null;
+
+        // the execution context may have been reused by another trace while the continuation was scheduled
+        executionContext.data().put(TRACE_KEY, parent.trace());
+
+        return parent.trace().resume(parent, context, target);
+    }
+
+    @Override
+    public void finish(@Nullable Span span, @Nullable ResultStatus status) {
+
+        if (span == null) return;
+
+        span.trace().finish(span, status);
+    }
+
+    @Override
+    public void config(@NonNull ExecutionContext<?> executionContext, @NonNull ConfigMap config) {
+
+        Trace trace = trace(executionContext);
+        if (trace == null || !trace.active()) return;
+
+        trace.config(config.values());
+    }
+
+    @Override
+    public List<Trace> traces() {
+
+        synchronized (traces) {
+            return new ArrayList<>(traces);
+        }
+    }
+
+    @Override
+    public void write(@NonNull File file) throws IOException {
+
+        List<Map<String, Object>> json = new ArrayList<>();
+        for (Trace trace : traces()) {
+            json.add(trace.toMap());
+        }
+
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file, json);
+    }
+
+    @Override
+    public void clear() {
+
+        synchronized (traces) {
+            traces.clear();
+        }
+    }
+
+    private void add(Trace trace) {
+
+        int bufferSize = Math.max(1, scope().settings().traceBufferSize());
+        synchronized (traces) {
+            while (traces.size() >= bufferSize) {
+                traces.pollFirst();
+            }
+            traces.addLast(trace);
+        }
+    }
+
+    @Nullable
+    private Trace trace(ExecutionContext<?> executionContext) {
+
+        Object trace = executionContext.data().get(TRACE_KEY);
+
+        return trace instanceof Trace ? (Trace) trace : null;
+    }
+}
@@ -23,13 +23,13 @@ import io.artframework.FinderProvider;
 import io.artframework.Scope;
 import lombok.NonNull;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class DefaultFinderProvider extends AbstractProvider implements FinderProvider {
 
-    private final List<Finder> finders = new ArrayList<>();
+    private final List<Finder> finders = new CopyOnWriteArrayList<>();
 
     public DefaultFinderProvider(@NonNull Scope scope) {
         super(scope);
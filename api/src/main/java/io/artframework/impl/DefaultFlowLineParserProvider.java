@@ -22,16 +22,17 @@ import io.artframework.parser.flow.FlowLineParser;
 import io.artframework.parser.flow.FlowLineParserProvider;
 import lombok.NonNull;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 public class DefaultFlowLineParserProvider extends AbstractProvider implements FlowLineParserProvider {
 
-    private final List<BiFunction<Iterator<String>, Scope, FlowLineParser>> flowLineParsers = new ArrayList<>();
+    // copy on write allows parsing multiple sources in parallel while the parsers are rarely modified
+    private final List<BiFunction<Iterator<String>, Scope, FlowLineParser>> flowLineParsers = new CopyOnWriteArrayList<>();
 
     public DefaultFlowLineParserProvider(@NonNull Scope scope) {
         super(scope);
@@ -19,13 +19,25 @@ package io.artframework.impl;
 import io.artframework.AbstractProvider;
 import io.artframework.InjectionProvider;
 import io.artframework.Scope;
+import io.artframework.util.MethodHandleUtil;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.function.Function;
 
 import static io.artframework.util.ConfigUtil.injectConfigFields;
 
 public class DefaultInjectionProvider extends AbstractProvider implements InjectionProvider {
 
+    // the constructors are resolved once per class instead of searching them on every creation
+    private static final ClassValue<Optional<Function<Scope, ?>>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Optional<Function<Scope, ?>> computeValue(Class<?> type) {
+            return findConstructor(type);
+        }
+    };
+
     public DefaultInjectionProvider(Scope scope) {
         super(scope);
     }
@@ -34,24 +46,34 @@ public class DefaultInjectionProvider extends AbstractProvider implements Inject
     @SuppressWarnings("unchecked")
     public <TObject> TObject create(Class<TObject> objectClass, Scope scope) throws ReflectiveOperationException {
 
-        TObject object = null;
-        for (Constructor<?> constructor : objectClass.getDeclaredConstructors()) {
-            constructor.setAccessible(true);
-            if (constructor.getParameterTypes().length == 1 && Scope.class.isAssignableFrom(constructor.getParameterTypes()[0])) {
-                object = (TObject) constructor.newInstance(scope);
-                break;
-            } else if (constructor.getParameterTypes().length < 1) {
-                object = (TObject) constructor.newInstance();
-                break;
-            }
-        }
+        Function<Scope, ?> constructor = CONSTRUCTORS.get(objectClass).orElseThrow(() -> new ReflectiveOperationException(
+                "Unable to find a valid constructor to create a new instance of " + objectClass.getCanonicalName()));
 
-        if (object == null) {
-            throw new ReflectiveOperationException("Unable to find a valid constructor to create a new instance of " + objectClass.getCanonicalName());
+        TObject object;
+        try {
+            object = (TObject) constructor.apply(scope);
+        } catch (RuntimeException e) {
+            throw new InvocationTargetException(e, "Failed to create a new instance of " + objectClass.getCanonicalName() + ": " + e.getMessage());
         }
 
         injectConfigFields(scope, object);
 
         return object;
     }
+
+    private static Optional<Function<Scope, ?>> findConstructor(Class<?> objectClass) {
+
+        for (Constructor<?> constructor : objectClass.getDeclaredConstructors()) {
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            if (parameterTypes.length == 1 && Scope.class.isAssignableFrom(parameterTypes[0])) {
+                return MethodHandleUtil.constructor(objectClass, parameterTypes[0])
+                        .map(scopeConstructor -> scopeConstructor::apply);
+            } else if (parameterTypes.length < 1) {
+                return MethodHandleUtil.constructor(objectClass)
+                        .map(noArgsConstructor -> scope -> noArgsConstructor.get());
+            }
+        }
+
+        return Optional.empty();
+    }
 }
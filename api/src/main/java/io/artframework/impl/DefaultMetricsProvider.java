@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.*;
+import io.artframework.conf.Constants;
+import io.artframework.metrics.ArtMetrics;
+import io.artframework.metrics.ArtMetricsRecorder;
+import lombok.NonNull;
+import lombok.extern.java.Log;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Log(topic = "art-framework")
+public class DefaultMetricsProvider extends AbstractProvider implements MetricsProvider {
+
+    private static final AtomicInteger SCOPE_IDS = new AtomicInteger();
+    static final String GENERATED_STORAGE_KEY = Constants.Storage.GENERATED_KEYS;
+
+    private final String scopeId = String.valueOf(SCOPE_IDS.incrementAndGet());
+    // storage key -> identifier -> recorder, nested to avoid creating a combined key on every execution
+    private final Map<String, Map<String, ArtMetricsRecorder>> recorders = new ConcurrentHashMap<>();
+
+    public DefaultMetricsProvider(Scope scope) {
+        super(scope);
+    }
+
+    @Override
+    public boolean enabled() {
+
+        return scope().settings().metrics();
+    }
+
+    @Override
+    public void record(@NonNull ArtObjectContext<?> context, @NonNull ResultStatus status, long nanos) {
+
+        if (!enabled()) return;
+
+        recorder(context).record(status, nanos);
+    }
+
+    @Override
+    public void recordCooldownRejection(@NonNull ArtObjectContext<?> context) {
+
+        if (!enabled()) return;
+
+        recorder(context).recordCooldownRejection();
+    }
+
+    @Override
+    public List<ArtMetrics> snapshot() {
+
+        List<ArtMetrics> metrics = new ArrayList<>();
+        for (Map<String, ArtMetricsRecorder> contextRecorders : recorders.values()) {
+            for (ArtMetricsRecorder recorder : contextRecorders.values()) {
+                metrics.add(recorder.snapshot());
+            }
+        }
+
+        return metrics;
+    }
+
+    @Override
+    public Map<String, ArtMetrics> snapshotByIdentifier() {
+
+        Map<String, ArtMetrics> metrics = new HashMap<>();
+        for (ArtMetrics artMetrics : snapshot()) {
+            metrics.merge(artMetrics.identifier(), artMetrics, ArtMetrics::merge);
+        }
+
+        return metrics;
+    }
+
+    @Override
+    public void remove(@NonNull String storageKey) {
+
+        Map<String, ArtMetricsRecorder> contextRecorders = recorders.remove(storageKey);
+        if (contextRecorders != null) {
+            contextRecorders.values().forEach(this::unregisterMBean);
+        }
+    }
+
+    @Override
+    public void reset() {
+
+        for (Map<String, ArtMetricsRecorder> contextRecorders : recorders.values()) {
+            contextRecorders.values().forEach(this::unregisterMBean);
+        }
+        recorders.clear();
+    }
+
+    private ArtMetricsRecorder recorder(ArtObjectContext<?> context) {
+
+        String identifier = context.meta().identifier();
+        // art without a storage key gets a new random key on every load and is recorded per identifier
+        String storageKey = Constants.Storage.isGeneratedKey(context.storageKey()) ? GENERATED_STORAGE_KEY : context.storageKey();
+        return recorders.computeIfAbsent(storageKey, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(identifier, key -> {
+                    ArtMetricsRecorder recorder = new ArtMetricsRecorder(storageKey, identifier);
+                    return scope().settings().metricsMBeans() ? registerMBean(recorder) : recorder;
+                });
+    }
+
+    private ArtMetricsRecorder registerMBean(ArtMetricsRecorder recorder) {
+
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectName(recorder);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(recorder, name);
+            }
+        } catch (JMException | SecurityException e) {
+            log.warning("unable to register the metrics of " + recorder.getIdentifier() + " as MBean: " + e.getMessage());
+        }
+
+        return recorder;
+    }
+
+    private void unregisterMBean(ArtMetricsRecorder recorder) {
+
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectName(recorder);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException | SecurityException e) {
+            log.warning("unable to unregister the metrics MBean of " + recorder.getIdentifier() + ": " + e.getMessage());
+        }
+    }
+
+    private ObjectName objectName(ArtMetricsRecorder recorder) throws JMException {
+
+        return new ObjectName("io.artframework:type=ArtMetrics"
+                + ",scope=" + scopeId
+                + ",context=" + ObjectName.quote(recorder.getStorageKey())
+                + ",identifier=" + ObjectName.quote(recorder.getIdentifier()));
+    }
+}
@@ -40,6 +40,7 @@ public class DefaultModuleMeta implements ModuleMeta {
     String[] dependencies;
     String[] packages;
     boolean bootstrapModule;
+    boolean mainThreadOnly;
 
     DefaultModuleMeta(@NonNull String identifier,
                       @NonNull String prefix,
@@ -49,6 +50,18 @@ public class DefaultModuleMeta implements ModuleMeta {
                       @NonNull String[] dependencies,
                       @NonNull String[] packages) {
 
+        this(identifier, prefix, moduleClass, version, description, dependencies, packages, false);
+    }
+
+    DefaultModuleMeta(@NonNull String identifier,
+                      @NonNull String prefix,
+                      @NonNull Class<?> moduleClass,
+                      @NonNull String version,
+                      @NonNull String[] description,
+                      @NonNull String[] dependencies,
+                      @NonNull String[] packages,
+                      boolean mainThreadOnly) {
+
         this.identifier = Strings.isNullOrEmpty(identifier) ? moduleClass.getCanonicalName() : identifier;
         this.prefix = prefix;
         this.moduleClass = moduleClass;
@@ -58,6 +71,7 @@ public class DefaultModuleMeta implements ModuleMeta {
         this.dependencies = Arrays.stream(dependencies).map(s -> s.replace("module:", "")).toArray(String[]::new);
         this.packages = packages.length == 0 ? new String[] {moduleClass.getPackageName()} : packages;
         this.bootstrapModule = BootstrapModule.class.isAssignableFrom(moduleClass);
+        this.mainThreadOnly = mainThreadOnly;
     }
 
     public DefaultModuleMeta(@NonNull Class<?> moduleClass,
@@ -69,6 +83,7 @@ public class DefaultModuleMeta implements ModuleMeta {
                 annotation.version(),
                 annotation.description(),
                 annotation.depends(),
-                annotation.packages());
+                annotation.packages(),
+                annotation.mainThreadOnly());
     }
 }
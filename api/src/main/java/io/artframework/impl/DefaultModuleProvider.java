@@ -19,8 +19,8 @@ package io.artframework.impl;
 import io.artframework.*;
 import io.artframework.annotations.*;
 import io.artframework.util.ConfigUtil;
+import io.artframework.util.MethodHandleUtil;
 import io.artframework.util.ReflectionUtil;
-import io.artframework.util.graphs.CycleSearch;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
@@ -40,13 +40,21 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.CodeSource;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Log(topic = "art-framework")
 public class DefaultModuleProvider extends AbstractProvider implements ModuleProvider {
 
-    final Map<Class<?>, ModuleInformation> modules = new HashMap<>();
-    private CycleSearch<ModuleMeta> cycleSearcher = new CycleSearch<>(new boolean[0][0], new ModuleMeta[0]);
+    // concurrent to allow loading and enabling modules in parallel
+    final Map<Class<?>, ModuleInformation> modules = new ConcurrentHashMap<>();
+    // index of the registered modules by their identifier used to resolve dependencies
+    private final Map<String, ModuleInformation> moduleIdentifiers = new ConcurrentHashMap<>();
     private ArtModuleDependencyResolver resolver;
 
     public DefaultModuleProvider(@NonNull Scope scope) {
@@ -147,25 +155,125 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
     @Override
     public void loadAll() {
 
-        for (ModuleInformation module : modules.values()) {
-            try {
-                loadModule(module);
-            } catch (ModuleRegistrationException e) {
-                e.printStackTrace();
-            }
-        }
+        forAllModules(this::loadModule);
     }
 
     @Override
     public void enableAll() {
 
+        forAllModules(this::enableModule);
+    }
+
+    /**
+     * Applies the given lifecycle action to all registered modules.
+     * <p>The modules are processed in parallel, layer by layer, if parallel module loading is enabled.
+     * Every layer only contains modules whose dependencies are part of a previous layer.
+     * Modules that are marked as main thread only are processed on the calling thread.
+     *
+     * @param action the lifecycle action, e.g. load or enable
+     */
+    private void forAllModules(ChildModuleLoader action) {
+
+        if (!scope().settings().parallelModuleLoading()) {
+            for (ModuleInformation module : modules.values()) {
+                applyAction(action, module);
+            }
+            return;
+        }
+
+        ExecutorService executor = moduleExecutor();
+        try {
+            for (List<ModuleInformation> layer : getDependencyLayers()) {
+                List<CompletableFuture<Void>> tasks = new ArrayList<>();
+                List<ModuleInformation> mainThreadModules = new ArrayList<>();
+                for (ModuleInformation module : layer) {
+                    if (module.moduleMeta().mainThreadOnly()) {
+                        mainThreadModules.add(module);
+                    } else {
+                        tasks.add(CompletableFuture.runAsync(() -> applyAction(action, module), executor));
+                    }
+                }
+
+                mainThreadModules.forEach(module -> applyAction(action, module));
+                tasks.forEach(CompletableFuture::join);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Creates the executor that loads and enables the modules of a layer in parallel.
+     * <p>The threads use the class loader of the configuration as their context class loader.
+     * Modules and libraries like jackson load classes with the context class loader,
+     * which would not see the classes of the plugin on the threads of a shared pool.
+     */
+    private ExecutorService moduleExecutor() {
+
+        ClassLoader classLoader = configuration().classLoader();
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, "art-modules-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            if (classLoader != null) thread.setContextClassLoader(classLoader);
+            return thread;
+        });
+    }
+
+    private void applyAction(ChildModuleLoader action, ModuleInformation module) {
+
+        try {
+            action.accept(module);
+        } catch (ModuleRegistrationException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Groups all registered modules into layers by their dependencies.
+     * <p>The first layer contains all modules without dependencies. Every following layer
+     * contains the modules that only depend on modules of the previous layers.
+     * Missing and cyclic dependencies are ignored and will be reported when the module is loaded.
+     *
+     * @return the dependency layers of all modules
+     */
+    List<List<ModuleInformation>> getDependencyLayers() {
+
+        Map<String, ModuleInformation> moduleMap = new HashMap<>();
         for (ModuleInformation module : modules.values()) {
-            try {
-                enableModule(module);
-            } catch (ModuleRegistrationException e) {
-                e.printStackTrace();
+            moduleMap.put(module.moduleMeta().identifier(), module);
+        }
+
+        Map<String, Integer> depths = new HashMap<>();
+        List<List<ModuleInformation>> layers = new ArrayList<>();
+        for (ModuleInformation module : modules.values()) {
+            int depth = getDependencyDepth(module, moduleMap, depths, new HashSet<>());
+            while (layers.size() <= depth) {
+                layers.add(new ArrayList<>());
+            }
+            layers.get(depth).add(module);
+        }
+
+        return layers;
+    }
+
+    private int getDependencyDepth(ModuleInformation module, Map<String, ModuleInformation> moduleMap, Map<String, Integer> depths, Set<String> visited) {
+
+        String identifier = module.moduleMeta().identifier();
+        Integer depth = depths.get(identifier);
+        if (depth != null) return depth;
+        if (!visited.add(identifier)) return 0;
+
+        int result = 0;
+        for (String dependency : module.moduleMeta().dependencies()) {
+            ModuleInformation dependencyModule = moduleMap.get(dependency);
+            if (dependencyModule != null) {
+                result = Math.max(result, getDependencyDepth(dependencyModule, moduleMap, depths, visited) + 1);
             }
         }
+
+        depths.put(identifier, result);
+        return result;
     }
 
     @Override
@@ -178,6 +286,9 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
                 e.printStackTrace();
             }
         }
+
+        // the scope shuts down and its metrics MBeans must not keep the classes of the scope loaded
+        configuration().metrics().reset();
     }
 
     @Override
@@ -216,6 +327,7 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
 
         ModuleInformation information = modules.remove(module.getClass());
         if (information != null) {
+            moduleIdentifiers.remove(information.moduleMeta().identifier(), information);
             try {
                 disableModule(information);
             } catch (ModuleRegistrationException e) {
@@ -282,8 +394,9 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
 
     private ModuleInformation registerModule(@NonNull ModuleMeta moduleMeta, @NonNull Object module) throws ModuleRegistrationException {
 
-        Optional<ModuleMeta> existingModule = modules.values().stream().map(ModuleInformation::moduleMeta)
-                .filter(meta -> meta.identifier().equals(moduleMeta.identifier()) && !meta.moduleClass().equals(moduleMeta.moduleClass())).findAny();
+        Optional<ModuleMeta> existingModule = Optional.ofNullable(moduleIdentifiers.get(moduleMeta.identifier()))
+                .map(ModuleInformation::moduleMeta)
+                .filter(meta -> !meta.moduleClass().equals(moduleMeta.moduleClass()));
         if (existingModule.isPresent()) {
             throw new ModuleRegistrationException(moduleMeta, ModuleState.DUPLICATE_MODULE,
                     "There is already a module named \"" + moduleMeta.identifier() + "\" registered: " + existingModule.get().moduleClass().getCanonicalName());
@@ -295,11 +408,10 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
         } else {
             moduleInformation = updateModuleCache(new ModuleInformation(moduleMeta, module).state(ModuleState.REGISTERED));
             modules.put(moduleMeta.moduleClass(), moduleInformation);
+            moduleIdentifiers.put(moduleMeta.identifier(), moduleInformation);
             logState(moduleInformation);
 
-            cycleSearcher = CycleSearch.of(modules.values().stream().map(ModuleInformation::moduleMeta).collect(Collectors.toList()));
-
-            Optional<List<ModuleMeta>> dependencyGraph = getDependencyGraph(moduleInformation);
+            Optional<List<ModuleMeta>> dependencyGraph = findCycle(moduleMeta);
             if (dependencyGraph.isPresent()) {
                 updateModuleCache(moduleInformation.state(ModuleState.CYCLIC_DEPENDENCIES));
                 throw new ModuleRegistrationException(moduleInformation.moduleMeta(), moduleInformation.state(),
@@ -314,7 +426,7 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
 
         if (!module.state().canBootstrap()) return;
 
-        try {
+        try (StartupProfiler.Timer timer = scope.profiler().start(StartupProfiler.MODULE_BOOTSTRAP, module.moduleMeta().identifier())) {
             module.onBootstrap(scope);
             updateModuleCache(module.state(ModuleState.BOOTSTRAPPED));
             logState(module);
@@ -325,22 +437,28 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
 
     private void loadModule(ModuleInformation module) throws ModuleRegistrationException {
 
-        if (!module.state().canLoad()) return;
+        // the state check and transition are atomic per module, because modules that share a dependency
+        // may load or enable it at the same time if parallel module loading is enabled
+        synchronized (module) {
+            if (!module.state().canLoad()) return;
 
-        checkDependencies(module, this::loadModule);
-        if (scope().settings().autoRegisterAllArt()) {
-            findAndLoadAllArt(module);
-        }
+            checkDependencies(module, this::loadModule);
+            if (scope().settings().autoRegisterAllArt()) {
+                try (StartupProfiler.Timer timer = scope().profiler().start(StartupProfiler.FINDER, "module " + module.moduleMeta().identifier())) {
+                    findAndLoadAllArt(module);
+                }
+            }
 
-        try {
-            module.onLoad(scope());
-            updateModuleCache(module.state(ModuleState.LOADED));
-            logState(module);
-        } catch (Exception e) {
-            updateModuleCache(module.state(ModuleState.ERROR));
-            logState(module, e.getMessage());
-            throw new ModuleRegistrationException(module.moduleMeta(), ModuleState.ERROR,
-                    "An error occured when trying to load the module \"" + module.moduleMeta().identifier() + "\": " + e.getMessage(), e);
+            try (StartupProfiler.Timer timer = scope().profiler().start(StartupProfiler.MODULE_LOAD, module.moduleMeta().identifier())) {
+                module.onLoad(scope());
+                updateModuleCache(module.state(ModuleState.LOADED));
+                logState(module);
+            } catch (Exception e) {
+                updateModuleCache(module.state(ModuleState.ERROR));
+                logState(module, e.getMessage());
+                throw new ModuleRegistrationException(module.moduleMeta(), ModuleState.ERROR,
+                        "An error occured when trying to load the module \"" + module.moduleMeta().identifier() + "\": " + e.getMessage(), e);
+            }
         }
     }
 
@@ -358,20 +476,22 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
 
     private void enableModule(ModuleInformation module) throws ModuleRegistrationException {
 
-        if (!module.state().canEnable()) return;
+        synchronized (module) {
+            if (!module.state().canEnable()) return;
 
-        loadModule(module);
-        checkDependencies(module, this::enableModule);
+            loadModule(module);
+            checkDependencies(module, this::enableModule);
 
-        try {
-            module.onEnable(scope());
-            updateModuleCache(module.state(ModuleState.ENABLED));
-            logState(module);
-        } catch (Exception e) {
-            updateModuleCache(module.state(ModuleState.ERROR));
-            logState(module, e.getMessage());
-            throw new ModuleRegistrationException(module.moduleMeta(), ModuleState.ERROR,
-                    "Encountered an error while enabling the module \"" + module.moduleMeta().identifier() + "\": " + e.getMessage(), e);
+            try (StartupProfiler.Timer timer = scope().profiler().start(StartupProfiler.MODULE_ENABLE, module.moduleMeta().identifier())) {
+                module.onEnable(scope());
+                updateModuleCache(module.state(ModuleState.ENABLED));
+                logState(module);
+            } catch (Exception e) {
+                updateModuleCache(module.state(ModuleState.ERROR));
+                logState(module, e.getMessage());
+                throw new ModuleRegistrationException(module.moduleMeta(), ModuleState.ERROR,
+                        "Encountered an error while enabling the module \"" + module.moduleMeta().identifier() + "\": " + e.getMessage(), e);
+            }
         }
     }
 
@@ -471,12 +591,45 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
         }
     }
 
-    private Optional<List<ModuleMeta>> getDependencyGraph(ModuleInformation information) {
+    /**
+     * Searches for a dependency cycle that goes through the given module.
+     * <p>The graph of the previously registered modules is free of new cycles, which means
+     * that any new cycle must contain one of the edges added with the module.
+     * It is therefore enough to search for a path from the module through its dependencies back to itself.
+     * The search is iterative and visits every reachable module at most once.
+     *
+     * @param moduleMeta the module that was just registered
+     * @return the modules of the cycle starting with the given module or an empty optional if there is no cycle
+     */
+    private Optional<List<ModuleMeta>> findCycle(ModuleMeta moduleMeta) {
+
+        String start = moduleMeta.identifier();
+        Map<String, String> parents = new HashMap<>();
+        Set<String> visited = new HashSet<>();
+        Deque<String> stack = new ArrayDeque<>();
+        visited.add(start);
+        stack.push(start);
+
+        while (!stack.isEmpty()) {
+            String current = stack.pop();
+            ModuleMeta currentMeta = current.equals(start) ? moduleMeta : moduleIdentifiers.get(current).moduleMeta();
+
+            for (String dependency : currentMeta.dependencies()) {
+                if (dependency.equals(start)) {
+                    LinkedList<ModuleMeta> cycle = new LinkedList<>();
+                    for (String node = current; node != null; node = parents.get(node)) {
+                        cycle.addFirst(node.equals(start) ? moduleMeta : moduleIdentifiers.get(node).moduleMeta());
+                    }
+                    return Optional.of(cycle);
+                }
+                if (moduleIdentifiers.containsKey(dependency) && visited.add(dependency)) {
+                    parents.put(dependency, current);
+                    stack.push(dependency);
+                }
+            }
+        }
 
-        return this.cycleSearcher.getCycles().stream()
-                .filter(moduleMetas -> !moduleMetas.isEmpty())
-                .filter(moduleMetas -> moduleMetas.get(0).equals(information.moduleMeta()))
-                .findFirst();
+        return Optional.empty();
     }
 
     private String dependencyGraphToString(@NonNull List<ModuleMeta> graph) {
@@ -497,11 +650,6 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
         return sb.toString();
     }
 
-    private boolean hasCyclicDependencies(ModuleInformation moduleInformation) {
-
-        return getDependencyGraph(moduleInformation).isPresent();
-    }
-
     private Collection<String> getMissingDependencies(ModuleInformation moduleInformation) {
 
         String[] dependencies = moduleInformation.moduleMeta().dependencies();
@@ -565,16 +713,16 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
         @Nullable
         private final Object module;
         @Nullable
-        private final Method onBootstrap;
+        private final LifecycleMethod onBootstrap;
         @Nullable
-        private final Method onLoad;
+        private final LifecycleMethod onLoad;
         @Nullable
-        private final Method onEnable;
+        private final LifecycleMethod onEnable;
         @Nullable
-        private final Method onDisable;
+        private final LifecycleMethod onDisable;
         @Nullable
-        private final Method onReload;
-        private ModuleState state;
+        private final LifecycleMethod onReload;
+        private volatile ModuleState state;
 
         @SuppressWarnings("unchecked")
         public ModuleInformation(ModuleMeta moduleMeta, @Nullable Object module) {
@@ -584,12 +732,12 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
             this.allMethods = ReflectionUtil.getAllMethods(moduleClass, new ArrayList<>());
             if (BootstrapModule.class.isAssignableFrom(moduleClass)) {
                 try {
-                    onBootstrap = moduleClass.getMethod("onBootstrap", BootstrapScope.class);
-                    onLoad = moduleClass.getMethod("onLoad", Scope.class);
-                    onEnable = moduleClass.getMethod("onEnable", Scope.class);
-                    onDisable = moduleClass.getMethod("onDisable", Scope.class);
-                    onReload = moduleClass.getMethod("onReload", Scope.class);
-                } catch (NoSuchMethodException e) {
+                    onBootstrap = new LifecycleMethod(moduleClass.getMethod("onBootstrap", BootstrapScope.class));
+                    onLoad = new LifecycleMethod(moduleClass.getMethod("onLoad", Scope.class));
+                    onEnable = new LifecycleMethod(moduleClass.getMethod("onEnable", Scope.class));
+                    onDisable = new LifecycleMethod(moduleClass.getMethod("onDisable", Scope.class));
+                    onReload = new LifecycleMethod(moduleClass.getMethod("onReload", Scope.class));
+                } catch (NoSuchMethodException | IllegalAccessException e) {
                     throw new RuntimeException(e);
                 }
             } else {
@@ -608,53 +756,90 @@ public class DefaultModuleProvider extends AbstractProvider implements ModulePro
 
         public void onBootstrap(BootstrapScope scope) {
             if (onBootstrap == null) return;
-            invokeMethod(onBootstrap, scope);
+            onBootstrap.invoke(module, scope);
         }
 
         public void onLoad(Scope scope) {
             if (onLoad == null) return;
-            invokeMethod(onLoad, scope);
+            onLoad.invoke(module, scope);
         }
 
         public void onEnable(Scope scope) {
             if (onEnable == null) return;
-            invokeMethod(onEnable, scope);
+            onEnable.invoke(module, scope);
         }
 
         public void onDisable(Scope scope) {
             if (onDisable == null) return;
-            invokeMethod(onDisable, scope);
+            onDisable.invoke(module, scope);
         }
 
         public void onReload(Scope scope) {
             if (onReload == null) return;
-            invokeMethod(onReload, scope);
+            onReload.invoke(module, scope);
         }
 
-        private void invokeMethod(@NonNull Method method, Scope scope) {
+        @Nullable
+        private LifecycleMethod findMethod(Class<? extends Annotation> annotation) {
+
+            Method lifecycleMethod = allMethods.stream()
+                    .filter(method -> method.isAnnotationPresent(annotation))
+                    .findFirst()
+                    .orElse(null);
+            if (lifecycleMethod == null) return null;
+
             try {
-                Class<?>[] parameterTypes = method.getParameterTypes();
-                Object[] parameters = new Object[parameterTypes.length];
-                for (int i = 0; i < parameterTypes.length; i++) {
-                    if (parameterTypes[i].isInstance(scope)) {
-                        parameters[i] = scope;
-                    } else {
-                        parameters[i] = null;
-                    }
-                }
-                method.setAccessible(true);
-                method.invoke(module, parameters);
-            } catch (IllegalAccessException | InvocationTargetException e) {
+                return new LifecycleMethod(lifecycleMethod);
+            } catch (IllegalAccessException e) {
                 throw new RuntimeException(e);
             }
         }
+    }
 
-        private Method findMethod(Class<? extends Annotation> annotation) {
-
-            return allMethods.stream()
-                    .filter(method -> method.isAnnotationPresent(annotation))
-                    .findFirst()
-                    .orElse(null);
+    /**
+     * A lifecycle method of a module that is resolved once when the module is registered.
+     * <p>The indices of the parameters that accept the scope are precomputed and the method is invoked through a method handle.
+     * Parameters of a subtype of the scope, e.g. the {@link io.artframework.BootstrapScope}, are only passed the scope
+     * if it is an instance of that type. All other parameters are null.
+     */
+    static class LifecycleMethod {
+
+        private final MethodHandleUtil.Invoker invoker;
+        private final int parameterCount;
+        // the parameters that accept any scope
+        private final int[] scopeParameters;
+        // the parameters that accept a subtype of the scope
+        private final int[] scopeSubtypeParameters;
+        private final Class<?>[] scopeSubtypes;
+
+        LifecycleMethod(Method method) throws IllegalAccessException {
+            this.invoker = MethodHandleUtil.invoker(method);
+
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            this.parameterCount = parameterTypes.length;
+            this.scopeParameters = IntStream.range(0, parameterTypes.length)
+                    .filter(i -> parameterTypes[i].isAssignableFrom(Scope.class))
+                    .toArray();
+            this.scopeSubtypeParameters = IntStream.range(0, parameterTypes.length)
+                    .filter(i -> !parameterTypes[i].isAssignableFrom(Scope.class) && Scope.class.isAssignableFrom(parameterTypes[i]))
+                    .toArray();
+            this.scopeSubtypes = Arrays.stream(scopeSubtypeParameters)
+                    .mapToObj(i -> parameterTypes[i])
+                    .toArray(Class<?>[]::new);
+        }
+
+        void invoke(@Nullable Object module, Scope scope) {
+
+            Object[] parameters = new Object[parameterCount];
+            for (int index : scopeParameters) {
+                parameters[index] = scope;
+            }
+            for (int i = 0; i < scopeSubtypeParameters.length; i++) {
+                if (scopeSubtypes[i].isInstance(scope)) {
+                    parameters[scopeSubtypeParameters[i]] = scope;
+                }
+            }
+            invoker.invoke(module, parameters);
         }
     }
 
@@ -8,11 +8,12 @@ import lombok.NonNull;
 import lombok.extern.java.Log;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Log(topic = "art-framework")
 public class DefaultReplacementProvider extends AbstractProvider implements ReplacementProvider {
 
-    private final Map<Class<?>, Replacement> replacements = new HashMap<>();
+    private final Map<Class<?>, Replacement> replacements = new ConcurrentHashMap<>();
 
     public DefaultReplacementProvider(Scope scope) {
 
@@ -29,12 +30,11 @@ public class DefaultReplacementProvider extends AbstractProvider implements Repl
     @Override
     public ReplacementProvider add(@NonNull Replacement replacement) {
 
-        if (replacements.containsKey(replacement.getClass())) {
+        if (replacements.putIfAbsent(replacement.getClass(), replacement) != null) {
             log.warning("not registering duplicate replacement: " + replacement.getClass().getCanonicalName());
             return this;
         }
 
-        replacements.put(replacement.getClass(), replacement);
         log.info("[REGISTERED] replacement: " + replacement.getClass().getCanonicalName());
 
         return this;
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.impl;
+
+import com.google.common.collect.MapMaker;
+import io.artframework.*;
+import lombok.NonNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Caches the requirement results per target in a map that holds its requirement contexts weakly,
+ * to release the results of requirements that were removed by reloading their scripts.
+ * <p>Expired results are replaced by the next test of the requirement and all expired results
+ * are removed at most once per {@link #SWEEP_INTERVAL_MILLIS}, e.g. the results of despawned entities.
+ * Only the status and messages of a result are cached to not hold on to the target and its source.
+ */
+public class DefaultRequirementCache extends AbstractProvider implements RequirementCache {
+
+    static final long SWEEP_INTERVAL_MILLIS = 1000;
+
+    private final Map<String, Map<RequirementContext<?>, Entry>> results = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong();
+
+    public DefaultRequirementCache(Scope scope) {
+        super(scope);
+    }
+
+    @Override
+    public Result get(@NonNull RequirementContext<?> context, @NonNull Target<?> target, @NonNull Supplier<? extends Result> supplier) {
+
+        long lifetime = scope().settings().requirementCacheMillis();
+        if (lifetime < 1) return supplier.get();
+
+        long now = configuration().clock().currentTimeMillis();
+        long sweep = nextSweep.get();
+        if (now >= sweep && nextSweep.compareAndSet(sweep, now + Math.max(lifetime, SWEEP_INTERVAL_MILLIS))) {
+            sweep(now);
+        }
+
+        Map<RequirementContext<?>, Entry> targetResults = results.computeIfAbsent(target.uniqueId(),
+                id -> new MapMaker().weakKeys().makeMap());
+        Entry entry = targetResults.get(context);
+        if (entry != null && entry.expires > now) {
+            return Result.of(entry.status, entry.messages);
+        }
+
+        Result result = supplier.get();
+        targetResults.put(context, new Entry(result.status(), result.messages(), now + lifetime));
+
+        return result;
+    }
+
+    /**
+     * Removes all expired results and the targets without any results.
+     * <p>A result that is cached for a target while its empty map is removed is lost
+     * and the requirement is tested again on its next test.
+     *
+     * @param now the current time of the clock
+     */
+    void sweep(long now) {
+
+        for (Map<RequirementContext<?>, Entry> targetResults : results.values()) {
+            targetResults.values().removeIf(entry -> entry.expires <= now);
+        }
+        results.values().removeIf(Map::isEmpty);
+    }
+
+    @Override
+    public int invalidate(@NonNull Target<?> target) {
+
+        Map<RequirementContext<?>, Entry> targetResults = results.remove(target.uniqueId());
+        if (targetResults == null) return 0;
+
+        return targetResults.size();
+    }
+
+    @Override
+    public int invalidate(@NonNull Target<?> target, @NonNull Class<?> requirementClass) {
+
+        Map<RequirementContext<?>, Entry> targetResults = results.get(target.uniqueId());
+        if (targetResults == null) return 0;
+
+        return remove(targetResults, context -> requirementClass.equals(context.meta().artObjectClass()));
+    }
+
+    @Override
+    public int invalidate(@NonNull Class<?> requirementClass) {
+
+        int removed = 0;
+        for (Map<RequirementContext<?>, Entry> targetResults : results.values()) {
+            removed += remove(targetResults, context -> requirementClass.equals(context.meta().artObjectClass()));
+        }
+
+        return removed;
+    }
+
+    @Override
+    public int invalidateAll() {
+
+        int removed = size();
+        results.clear();
+
+        return removed;
+    }
+
+    @Override
+    public int size() {
+
+        return results.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private int remove(Map<RequirementContext<?>, Entry> targetResults, Predicate<RequirementContext<?>> predicate) {
+
+        int removed = 0;
+        Iterator<RequirementContext<?>> iterator = targetResults.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (predicate.test(iterator.next())) {
+                iterator.remove();
+                removed++;
+            }
+        }
+
+        return removed;
+    }
+
+    private static final class Entry {
+
+        private final ResultStatus status;
+        private final String[] messages;
+        private final long expires;
+
+        private Entry(ResultStatus status, String[] messages, long expires) {
+            this.status = status;
+            this.messages = messages;
+            this.expires = expires;
+        }
+    }
+}
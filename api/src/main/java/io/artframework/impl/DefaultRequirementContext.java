@@ -20,6 +20,9 @@ import com.google.common.base.Strings;
 import io.artframework.*;
 import io.artframework.conf.Constants;
 import io.artframework.conf.RequirementConfig;
+import io.artframework.jfr.ArtEvent;
+import io.artframework.jfr.RequirementEvent;
+import io.artframework.tracing.Span;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
@@ -42,6 +45,9 @@ public class DefaultRequirementContext<TTarget> extends AbstractArtObjectContext
     @Getter
     private final ConfigMap artObjectConfig;
     private final Requirement<TTarget> requirement;
+    // exponentially weighted moving average of the test duration, races only lose single samples
+    private volatile long averageNanos = 0;
+    private volatile Boolean staticConfig;
 
     public DefaultRequirementContext(
             @NonNull Scope scope,
@@ -80,7 +86,9 @@ public class DefaultRequirementContext<TTarget> extends AbstractArtObjectContext
         if (requirement != null) {
             return requirement;
         } else {
-            return factory().create(artObjectConfig().resolve(scope(), target, context));
+            ConfigMap config = artObjectConfig().resolve(scope(), target, context);
+            configuration().tracer().config(context, config);
+            return factory().create(config);
         }
     }
 
@@ -89,6 +97,64 @@ public class DefaultRequirementContext<TTarget> extends AbstractArtObjectContext
 
         if (!isTargetType(target.source())) return empty().with(target, this);
 
+        // stateful requirements count their tests and must never be skipped
+        if (stateful()) return measure(target, context);
+
+        if (meta().pure()) {
+            TargetResult<TTarget, RequirementContext<TTarget>> result = context.memoize(this, target, () -> cached(target, context));
+            // identical requirements of other trigger contexts share their results
+            return result.context() == this ? result : result.with(target, this);
+        }
+
+        return cached(target, context);
+    }
+
+    @Override
+    public long averageNanos() {
+
+        return averageNanos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TargetResult<TTarget, RequirementContext<TTarget>> cached(Target<TTarget> target, ExecutionContext<RequirementContext<TTarget>> context) {
+
+        // the result of a config with replacements depends on the execution and must not be reused by others
+        if (!meta().cacheable() || !staticConfig()) return measure(target, context);
+
+        Result result = configuration().requirementCache().get(this, target, () -> measure(target, context));
+        // cached results are not bound to a target and are bound to the tested target again
+        return result instanceof TargetResult ? (TargetResult<TTarget, RequirementContext<TTarget>>) result : result.with(target, this);
+    }
+
+    private boolean staticConfig() {
+
+        Boolean isStatic = staticConfig;
+        if (isStatic == null) {
+            isStatic = artObjectConfig() == null || artObjectConfig().isStatic(scope());
+            staticConfig = isStatic;
+        }
+
+        return isStatic;
+    }
+
+    private TargetResult<TTarget, RequirementContext<TTarget>> measure(Target<TTarget> target, ExecutionContext<RequirementContext<TTarget>> context) {
+
+        long startTime = System.nanoTime();
+        RequirementEvent event = ArtEvent.start(RequirementEvent::new);
+        Span span = configuration().tracer().start(this, target, context);
+        TargetResult<TTarget, RequirementContext<TTarget>> result = testRequirement(target, context);
+        long duration = System.nanoTime() - startTime;
+        long average = averageNanos;
+        averageNanos = average == 0 ? duration : average + (duration - average) / 8;
+        configuration().metrics().record(this, result.status(), duration);
+        ArtEvent.commit(event, this, target, result.status());
+        configuration().tracer().finish(span, result.status());
+
+        return result;
+    }
+
+    private TargetResult<TTarget, RequirementContext<TTarget>> testRequirement(Target<TTarget> target, ExecutionContext<RequirementContext<TTarget>> context) {
+
         if (config().checkOnce()) {
             Optional<Boolean> result = store(target, Constants.Storage.CHECK_ONCE_RESULT, Boolean.class);
             if (result.isPresent()) {
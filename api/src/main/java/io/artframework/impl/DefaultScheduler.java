@@ -0,0 +1,275 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.impl;
+
+import io.artframework.Scheduler;
+import io.artframework.Task;
+import io.artframework.conf.Settings;
+import lombok.NonNull;
+import lombok.extern.java.Log;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A platform independent scheduler that runs its tasks with a {@link ScheduledThreadPoolExecutor}.
+ * <p>Synchronous tasks are run by a single main thread if the {@code schedulerMainThread} setting is enabled.
+ * Otherwise they share the thread pool of the asynchronous tasks.
+ * All threads are daemon threads and are only started once the first task is scheduled.
+ * <p>If the {@code virtualThreads} setting is enabled and the art-framework runs on Java 21 or newer,
+ * every asynchronous task that does not repeat is run by its own virtual thread. This allows actions,
+ * resolvers and storage operations to block on I/O without exhausting the thread pool.
+ * Repeating asynchronous tasks always use the thread pool to never overlap with themselves.
+ */
+@Log(topic = "art-framework")
+public class DefaultScheduler implements Scheduler {
+
+    private final ScheduledThreadPoolExecutor asyncExecutor;
+    private final ScheduledThreadPoolExecutor syncExecutor;
+    private final ExecutorService asyncWorkers;
+    private final AtomicInteger taskIds = new AtomicInteger();
+    private final Map<Integer, ExecutorTask> tasks = new ConcurrentHashMap<>();
+
+    public DefaultScheduler(@NonNull Settings settings) {
+
+        this.asyncExecutor = executor(Math.max(1, settings.schedulerThreads()), "art-async-");
+        this.syncExecutor = settings.schedulerMainThread() ? executor(1, "art-main-") : asyncExecutor;
+        this.asyncWorkers = settings.virtualThreads() && VirtualThreads.supported()
+                ? VirtualThreads.newExecutor("art-async-virtual-")
+                : asyncExecutor;
+    }
+
+    private static ScheduledThreadPoolExecutor executor(int threads, String threadPrefix) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, threadPrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+
+        return executor;
+    }
+
+    /**
+     * Cancels all tasks and stops the threads of this scheduler.
+     * No tasks can be scheduled after the scheduler was shut down.
+     */
+    public void shutdown() {
+
+        cancelTasks();
+        asyncExecutor.shutdownNow();
+        syncExecutor.shutdownNow();
+        asyncWorkers.shutdownNow();
+    }
+
+    /**
+     * @return true if asynchronous tasks are run by virtual threads
+     */
+    public boolean virtualThreads() {
+
+        return asyncWorkers != asyncExecutor;
+    }
+
+    @Override
+    public int scheduleSyncDelayedTask(@NonNull Runnable task, long delay) {
+
+        return taskId(() -> schedule(task, delay, 0, true));
+    }
+
+    @Override
+    public int scheduleSyncDelayedTask(@NonNull Runnable task) {
+
+        return taskId(() -> schedule(task, 0, 0, true));
+    }
+
+    @Override
+    public int scheduleSyncRepeatingTask(@NonNull Runnable task, long delay, long period) {
+
+        return taskId(() -> schedule(task, delay, period, true));
+    }
+
+    @Override
+    public @NonNull <T> Future<T> callSyncMethod(@NonNull Callable<T> task) {
+
+        return syncExecutor.submit(task);
+    }
+
+    @Override
+    public void cancelTask(int taskId) {
+
+        ExecutorTask task = tasks.get(taskId);
+        if (task != null) task.cancel();
+    }
+
+    @Override
+    public void cancelTasks() {
+
+        tasks.values().forEach(ExecutorTask::cancel);
+    }
+
+    @Override
+    public boolean isCurrentlyRunning(int taskId) {
+
+        ExecutorTask task = tasks.get(taskId);
+        return task != null && task.running;
+    }
+
+    @Override
+    public boolean isQueued(int taskId) {
+
+        ExecutorTask task = tasks.get(taskId);
+        return task != null && !task.running && !task.cancelled;
+    }
+
+    @Override
+    public @NonNull Task runTask(@NonNull Runnable task) throws IllegalArgumentException {
+
+        return schedule(task, 0, 0, true);
+    }
+
+    @Override
+    public @NonNull Task runTaskAsynchronously(@NonNull Runnable task) throws IllegalArgumentException {
+
+        return schedule(task, 0, 0, false);
+    }
+
+    @Override
+    public @NonNull Task runTaskLater(@NonNull Runnable task, long delay) throws IllegalArgumentException {
+
+        return schedule(task, delay, 0, true);
+    }
+
+    @Override
+    public @NonNull Task runTaskLaterAsynchronously(@NonNull Runnable task, long delay) throws IllegalArgumentException {
+
+        return schedule(task, delay, 0, false);
+    }
+
+    @Override
+    public @NonNull Task runTaskTimer(@NonNull Runnable task, long delay, long period) throws IllegalArgumentException {
+
+        return schedule(task, delay, period, true);
+    }
+
+    @Override
+    public @NonNull Task runTaskTimerAsynchronously(@NonNull Runnable task, long delay, long period) throws IllegalArgumentException {
+
+        return schedule(task, delay, period, false);
+    }
+
+    private int taskId(Callable<Task> schedule) {
+
+        try {
+            return schedule.call().getTaskId();
+        } catch (Exception e) {
+            log.warning("unable to schedule task: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    private Task schedule(Runnable runnable, long delay, long period, boolean sync) {
+
+        ScheduledThreadPoolExecutor executor = sync ? syncExecutor : asyncExecutor;
+        ExecutorTask task = new ExecutorTask(taskIds.incrementAndGet(), sync, period > 0);
+        tasks.put(task.taskId, task);
+
+        try {
+            if (period > 0) {
+                task.future = executor.scheduleAtFixedRate(() -> task.run(runnable), Math.max(0, delay), period, TimeUnit.MILLISECONDS);
+            } else if (sync || !virtualThreads()) {
+                task.future = executor.schedule(() -> task.run(runnable), Math.max(0, delay), TimeUnit.MILLISECONDS);
+            } else if (delay > 0) {
+                // the thread pool only waits for the delay and hands the task over to a virtual thread
+                task.future = executor.schedule(() -> asyncWorkers.execute(() -> task.run(runnable)), delay, TimeUnit.MILLISECONDS);
+            } else {
+                task.future = asyncWorkers.submit(() -> task.run(runnable));
+            }
+        } catch (RejectedExecutionException e) {
+            tasks.remove(task.taskId);
+            throw e;
+        }
+
+        return task;
+    }
+
+    private final class ExecutorTask implements Task {
+
+        private final int taskId;
+        private final boolean sync;
+        private final boolean repeating;
+        private volatile Future<?> future;
+        private volatile boolean running = false;
+        private volatile boolean cancelled = false;
+
+        private ExecutorTask(int taskId, boolean sync, boolean repeating) {
+            this.taskId = taskId;
+            this.sync = sync;
+            this.repeating = repeating;
+        }
+
+        private void run(Runnable runnable) {
+
+            if (cancelled) return;
+
+            running = true;
+            try {
+                runnable.run();
+            } catch (Exception e) {
+                // a repeating task would never run again if the exception is thrown to the executor
+                log.severe("task " + taskId + " threw an exception: " + e.getMessage());
+                e.printStackTrace();
+            } finally {
+                running = false;
+                if (!repeating) {
+                    tasks.remove(taskId);
+                }
+            }
+        }
+
+        @Override
+        public int getTaskId() {
+
+            return taskId;
+        }
+
+        @Override
+        public boolean isSync() {
+
+            return sync;
+        }
+
+        @Override
+        public boolean isCancelled() {
+
+            return cancelled;
+        }
+
+        @Override
+        public void cancel() {
+
+            cancelled = true;
+            tasks.remove(taskId);
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
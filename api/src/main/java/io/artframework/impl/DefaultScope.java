@@ -18,7 +18,10 @@ package io.artframework.impl;
 
 import io.artframework.*;
 import io.artframework.conf.Settings;
+import io.artframework.parser.flow.ArtSnapshot;
 import io.artframework.parser.flow.FlowLineParserProvider;
+import io.artframework.util.ArtIndex;
+import io.artframework.util.ClassScanCache;
 import io.artframework.util.ReflectionUtil;
 import lombok.Getter;
 import lombok.experimental.Accessors;
@@ -41,6 +44,7 @@ public final class DefaultScope implements BootstrapScope, BootstrapPhase {
     private final Settings settings;
     private final BootstrapModule bootstrapModule;
     private final Map<Object, Object> data = new HashMap<>();
+    private final StartupProfiler profiler = new StartupProfiler(this);
     // class of the provider to prover function mapping
     private final Map<Class<?>, Function<Scope, ? extends Provider>> providerMap = new HashMap<>();
 
@@ -58,7 +62,12 @@ public final class DefaultScope implements BootstrapScope, BootstrapPhase {
             .targets(TargetProvider.of(this))
             .trigger(TriggerProvider.of(this))
             .configs(ConfigProvider.of(this))
-            .injector(InjectionProvider.of(this));
+            .injector(InjectionProvider.of(this))
+            .metrics(MetricsProvider.of(this))
+            .tracer(ExecutionTracer.of(this))
+            .delayQueue(DelayedExecutionQueue.of(this))
+            .requirementCache(RequirementCache.of(this))
+            .clock(Clock.system());
 
     private Configuration configuration = configurationBuilder().build();
     private boolean bootstrapped = false;
@@ -67,6 +76,8 @@ public final class DefaultScope implements BootstrapScope, BootstrapPhase {
         this.settings = Settings.defaultSettings();
         this.bootstrapModule = null;
         this.bootstrapped = true;
+        // the scope is created without a startup and must not record the art that is parsed at runtime
+        this.profiler.finish();
     }
 
     public DefaultScope(BootstrapModule module, Settings settings) {
@@ -135,7 +146,12 @@ public final class DefaultScope implements BootstrapScope, BootstrapPhase {
             setDebugLogLevel();
         }
 
-        this.configuration.modules().bootstrap(this);
+        try (StartupProfiler.Timer timer = profiler().start(StartupProfiler.STARTUP, "bootstrap")) {
+            this.configuration.modules().bootstrap(this);
+        }
+        if (!configuration.scheduler().isPresent() && settings().defaultScheduler()) {
+            this.configuration = configuration.toBuilder().scheduler(Scheduler.of(this)).build();
+        }
         this.bootstrapped = true;
 
         return this;
@@ -144,7 +160,9 @@ public final class DefaultScope implements BootstrapScope, BootstrapPhase {
     @Override
     public BootstrapPhase loadAll() {
 
-        this.configuration().modules().loadAll();
+        try (StartupProfiler.Timer timer = profiler().start(StartupProfiler.STARTUP, "loadAll")) {
+            this.configuration().modules().loadAll();
+        }
 
         return this;
     }
@@ -152,7 +170,13 @@ public final class DefaultScope implements BootstrapScope, BootstrapPhase {
     @Override
     public Scope enableAll() {
 
-        this.configuration().modules().enableAll();
+        try (StartupProfiler.Timer timer = profiler().start(StartupProfiler.STARTUP, "enableAll")) {
+            this.configuration().modules().enableAll();
+        }
+        ClassScanCache.flushAll();
+        ArtIndex.clearCache();
+        ArtSnapshot.flushAll();
+        profiler().finish();
 
         return this;
     }
@@ -27,16 +27,16 @@ import lombok.extern.java.Log;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 @Log(topic = "art-framework")
 public class DefaultTargetProvider extends AbstractProvider implements TargetProvider {
 
     @SuppressWarnings("rawtypes")
-    private final Map<Class<?>, Function> targetProviders = new HashMap<>();
+    private final Map<Class<?>, Function> targetProviders = new ConcurrentHashMap<>();
 
     public DefaultTargetProvider(@NonNull Scope scope) {
         super(scope);
@@ -17,13 +17,19 @@
 package io.artframework.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
 import io.artframework.*;
 import io.artframework.conf.Constants;
+import io.artframework.conf.RequirementConfig;
 import io.artframework.conf.TriggerConfig;
+import io.artframework.jfr.ArtEvent;
+import io.artframework.jfr.TriggerEvent;
+import io.artframework.tracing.Span;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
 
+import javax.annotation.Nullable;
 import java.util.*;
 
 @SuppressWarnings("unused")
@@ -34,7 +40,10 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
     private final List<ActionContext<?>> actions = new ArrayList<>();
     @Getter
     private final List<RequirementContext<?>> requirements = new ArrayList<>();
+    private final RequirementOrder requirementOrder = new RequirementOrder(requirements);
     private final Map<Class<?>, Set<TriggerListener<?>>> listeners = new HashMap<>();
+    // the listeners grouped by their target class are rebuilt on every change and read on every execution
+    private volatile ListenerGroup[] listenerGroups = new ListenerGroup[0];
     @Getter
     private final Map<String, Variable<?>> variables = new HashMap<>();
     @Getter
@@ -43,6 +52,11 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
     @Getter
     private final TriggerConfig config;
     private final Trigger trigger;
+    // lazily initialized with double checked locking, because triggers may be executed from multiple threads
+    private volatile Collection<?> indexKeys;
+    private volatile Boolean staticConfig;
+    private volatile Trigger staticTrigger;
+    private volatile RequirementContext<?> triggerRequirement;
 
     public DefaultTriggerContext(
             @NonNull Scope scope,
@@ -85,15 +99,69 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
     public void addRequirement(RequirementContext<?> requirement) {
 
         this.requirements.add(requirement);
+        this.requirementOrder.invalidate();
+    }
+
+    @Override
+    public List<RequirementContext<?>> costOrderedRequirements() {
+
+        return requirementOrder.get();
     }
 
     public <TTarget> Trigger trigger(Target<TTarget> target, ExecutionContext<TriggerContext> context) {
 
-        if (trigger != null) {
-            return trigger;
-        } else {
-            return factory().create(artObjectConfig.resolve(scope(), target, context));
+        return createTrigger(target, context);
+    }
+
+    private Trigger createTrigger(Target<?> target, ExecutionContext<?> context) {
+
+        if (trigger != null) return trigger;
+
+        Trigger result = staticTrigger;
+        if (result != null) return result;
+
+        Boolean isStatic = staticConfig;
+        if (isStatic == null) {
+            isStatic = artObjectConfig.isStatic(scope());
+            staticConfig = isStatic;
+        }
+        if (isStatic) {
+            // the trigger is the same for every target and execution and only created once
+            synchronized (this) {
+                result = staticTrigger;
+                if (result == null) {
+                    result = factory().create(artObjectConfig.resolve(scope()));
+                    staticTrigger = result;
+                }
+            }
+            return result;
         }
+
+        return factory().create(artObjectConfig.resolve(scope(), target, context));
+    }
+
+    @Override
+    public Collection<?> indexKeys() {
+
+        Collection<?> result = indexKeys;
+        if (result != null) return result;
+
+        synchronized (this) {
+            result = indexKeys;
+            if (result != null) return result;
+
+            if (trigger instanceof IndexedTrigger) {
+                result = ImmutableList.copyOf(((IndexedTrigger) trigger).indexKeys());
+            } else if (trigger == null && IndexedTrigger.class.isAssignableFrom(meta().artObjectClass())) {
+                // the index keys are read from the config without a target and must be static
+                result = ImmutableList.copyOf(((IndexedTrigger) factory().create(artObjectConfig.resolve(scope()))).indexKeys());
+            } else {
+                result = ImmutableList.of();
+            }
+            indexKeys = result;
+        }
+
+        return result;
     }
 
     @Override
@@ -121,77 +189,124 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
     @Override
     public void trigger(ExecutionContext<TriggerContext> context, Target<?>... targets) {
 
-        Runnable runnable = () -> {
-            // only execute the trigger for any target if the provided requirement matches
-            if (!Arrays.stream(targets).allMatch(target -> testTriggerRequirement(target, context))) {
-                return;
-            }
+        long delay = this.config().delay();
+        if (configuration().scheduler().isPresent() && delay > 0) {
+            // the requirements are tested when the trigger runs and must not reuse the results memoized for the event
+            configuration().delayQueue().schedule(this, delay, () -> execute(context.withNewMemo(), targets), targets);
+        } else {
+            execute(context, targets);
+        }
+    }
 
-            for (Target<?> target : targets) {
-                if (cannotExecute(target)) continue;
+    private void execute(ExecutionContext<TriggerContext> context, Target<?>... targets) {
 
-                if (testRequirements(context).success()) {
+        // only execute the trigger for any target if the provided requirement matches
+        if (!Arrays.stream(targets).allMatch(target -> testTriggerRequirement(target, context))) {
+            return;
+        }
 
-                    if (increaseAndCheckCount(target)) {
-                        store(target, Constants.Storage.LAST_EXECUTION, System.currentTimeMillis());
+        // the requirements must match for all targets and are only tested once for all of them
+        CombinedResult requirements = null;
+        for (Target<?> target : targets) {
+            if (cannotExecute(target)) continue;
+
+            long startTime = System.nanoTime();
+            TriggerEvent event = ArtEvent.start(TriggerEvent::new);
+            Span span = configuration().tracer().startTrace(this, target, context);
+            ResultStatus status = ResultStatus.FAILURE;
+            boolean countPending = false;
+            if (requirements == null) {
+                requirements = testRequirements(context);
+            }
+            if (requirements.success()) {
 
-                        if (config().executeActions()) {
-                            executeActions(target, context);
-                        }
+                countPending = !increaseAndCheckCount(target);
+                if (!countPending) {
+                    store(target, Constants.Storage.LAST_EXECUTION, configuration().clock().currentTimeMillis());
 
-                        callListeners(context);
+                    if (config().executeActions()) {
+                        executeActions(target, context);
                     }
+
+                    callListeners(context);
+                    status = ResultStatus.SUCCESS;
                 }
             }
-        };
-
-        long delay = this.config().delay();
-        if (configuration().scheduler().isPresent() && delay > 0) {
-            configuration().scheduler().get().runTaskLater(runnable, delay);
-        } else {
-            runnable.run();
+            // executions that only increased the count are neither a success nor a failure of the trigger
+            if (!countPending) {
+                configuration().metrics().record(this, status, System.nanoTime() - startTime);
+            }
+            ArtEvent.commit(event, this, target, status);
+            configuration().tracer().finish(span, status);
         }
     }
 
     @SuppressWarnings("unchecked")
     private <TTarget> boolean testTriggerRequirement(Target<TTarget> target, ExecutionContext<TriggerContext> context) {
 
-        Trigger trigger = trigger(target, context);
-        if (trigger instanceof Requirement) {
-            RequirementContext<?> requirementContext = RequirementContext.of(scope(), meta().get(), (Requirement<Object>) trigger, config);
-            if (requirementContext.isTargetType(target)) {
-                return ((RequirementContext<TTarget>) requirementContext).test(target, context.next((RequirementContext<TTarget>) requirementContext)).success();
-            }
+        RequirementContext<?> requirementContext = triggerRequirement();
+        if (requirementContext != null && requirementContext.isTargetType(target)) {
+            return ((RequirementContext<TTarget>) requirementContext).test(target, context.next((RequirementContext<TTarget>) requirementContext)).success();
         }
 
         return true;
     }
 
+    /**
+     * Gets the requirement context that tests the trigger if it is a requirement.
+     * The context is created once and creates the trigger for every test unless its config is static.
+     * <p>The count and check once options are handled by the trigger context itself
+     * and only the negation is passed on to the requirement.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private RequirementContext<?> triggerRequirement() {
+
+        RequirementContext<?> result = triggerRequirement;
+        if (result != null) return result;
+
+        boolean requirement = trigger != null ? trigger instanceof Requirement : Requirement.class.isAssignableFrom(meta().artObjectClass());
+        if (!requirement) return null;
+
+        synchronized (this) {
+            result = triggerRequirement;
+            if (result == null) {
+                Requirement<Object> triggerAsRequirement = (target, context) -> ((Requirement<Object>) createTrigger(target, context)).test(target, context);
+                result = RequirementContext.of(scope(), meta().get(), triggerAsRequirement, new RequirementConfig().negated(config().negated()));
+                triggerRequirement = result;
+            }
+        }
+
+        return result;
+    }
+
     @SuppressWarnings("unchecked")
-    private <TTarget> void callListeners(ExecutionContext<TriggerContext> executionContext) {
-        for (Map.Entry<Class<?>, Set<TriggerListener<?>>> entry : listeners.entrySet()) {
-            Target<TTarget>[] targets = executionContext.targets().stream()
-                    .filter(target -> entry.getKey().isInstance(target.source()))
-                    .toArray(Target[]::new);
-
-            entry.getValue().stream()
-                    .map(listener -> (TriggerListener<TTarget>) listener)
-                    .forEach(listener -> {
-                        for (Target<TTarget> target : targets) {
-                            listener.onTrigger(target, executionContext);
-                        }
-                    });
+    private void callListeners(ExecutionContext<TriggerContext> executionContext) {
+
+        ListenerGroup[] groups = listenerGroups;
+        if (groups.length == 0) return;
+
+        Collection<Target<?>> targets = executionContext.targets();
+        for (ListenerGroup group : groups) {
+            for (TriggerListener<?> listener : group.listeners) {
+                for (Target<?> target : targets) {
+                    if (group.targetClass.isInstance(target.source())) {
+                        ((TriggerListener<Object>) listener).onTrigger((Target<Object>) target, executionContext);
+                    }
+                }
+            }
         }
     }
 
     @Override
-    public <TTarget> TriggerContext addListener(Class<TTarget> targetClass, TriggerListener<TTarget> listener) {
+    public synchronized <TTarget> TriggerContext addListener(Class<TTarget> targetClass, TriggerListener<TTarget> listener) {
 
         if (!listeners.containsKey(targetClass)) {
             listeners.put(targetClass, new HashSet<>());
         }
 
         listeners.get(targetClass).add(listener);
+        updateListenerGroups();
 
         return this;
     }
@@ -205,13 +320,22 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
     }
 
     @Override
-    public <TTarget> TriggerContext removeListener(TriggerListener<TTarget> listener) {
+    public synchronized <TTarget> TriggerContext removeListener(TriggerListener<TTarget> listener) {
 
         listeners.values().forEach(triggerListeners -> triggerListeners.remove(listener));
+        updateListenerGroups();
 
         return this;
     }
 
+    private void updateListenerGroups() {
+
+        listenerGroups = listeners.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(entry -> new ListenerGroup(entry.getKey(), entry.getValue().toArray(new TriggerListener<?>[0])))
+                .toArray(ListenerGroup[]::new);
+    }
+
     private <TTarget> boolean cannotExecute(Target<TTarget> target) {
 
         return wasExecutedOnce(target) || isOnCooldown(target);
@@ -263,10 +387,26 @@ public class DefaultTriggerContext extends AbstractArtObjectContext<Trigger> imp
 
         if (lastExecution < 1) return false;
 
-        return System.currentTimeMillis() < lastExecution + cooldown;
+        if (configuration().clock().currentTimeMillis() < lastExecution + cooldown) {
+            configuration().metrics().recordCooldownRejection(this);
+            return true;
+        }
+
+        return false;
     }
 
     private <TTarget> long getLastExecution(Target<TTarget> target) {
         return store(target, Constants.Storage.LAST_EXECUTION, Long.class).orElse(0L);
     }
+
+    private static final class ListenerGroup {
+
+        private final Class<?> targetClass;
+        private final TriggerListener<?>[] listeners;
+
+        private ListenerGroup(Class<?> targetClass, TriggerListener<?>[] listeners) {
+            this.targetClass = targetClass;
+            this.listeners = listeners;
+        }
+    }
 }
@@ -23,12 +23,14 @@ import lombok.NonNull;
 import lombok.extern.java.Log;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Log(topic = "art-framework")
 public class DefaultTriggerProvider extends AbstractFactoryProvider<TriggerFactory> implements TriggerProvider, CombinedResultCreator {
 
     // trigger class -> context listeners
-    private final Map<Class<?>, Set<TriggerContext>> contextListeners = new HashMap<>();
+    private final Map<Class<?>, TriggerIndex> contextListeners = new ConcurrentHashMap<>();
+    private final RequirementNetwork requirementNetwork = new RequirementNetwork();
 
     public DefaultTriggerProvider(Scope scope) {
         super(scope);
@@ -68,29 +70,51 @@ public class DefaultTriggerProvider extends AbstractFactoryProvider<TriggerFacto
     }
 
     @Override
-    public void register(TriggerContext context) {
+    public synchronized void register(TriggerContext context) {
 
-        contextListeners.computeIfAbsent(context.meta().artObjectClass(), aClass -> new HashSet<>()).add(context);
-        log.info("foo");
+        if (contextListeners.computeIfAbsent(context.meta().artObjectClass(), aClass -> new TriggerIndex()).add(context)) {
+            requirementNetwork.add(context);
+        }
     }
 
     @Override
-    public void unregister(TriggerContext context) {
+    public synchronized void unregister(TriggerContext context) {
 
-        contextListeners.computeIfAbsent(context.meta().artObjectClass(), aClass -> new HashSet<>()).remove(context);
+        TriggerIndex index = contextListeners.get(context.meta().artObjectClass());
+        if (index != null && index.remove(context)) {
+            requirementNetwork.remove(context);
+        }
     }
 
     @Override
-    public void unregisterAll() {
+    public synchronized void unregisterAll() {
 
         contextListeners.clear();
+        requirementNetwork.clear();
     }
 
     @Override
     public <TTrigger extends Trigger> void execute(TriggerExecution<TTrigger> execution) {
 
-        ReflectionUtil.getEntryForTargetClass(execution.triggerClass(), contextListeners)
-                .ifPresent(triggerContexts -> triggerContexts.forEach(context -> context.trigger(execution.targets())));
+        ReflectionUtil.getEntryForTargetClass(execution.triggerClass(), contextListeners).ifPresent(index -> {
+            List<TriggerContext> triggerContexts = index.get(execution.indexKeys());
+            if (triggerContexts.isEmpty()) return;
+
+            // identical pure requirements are only tested once for all trigger contexts of the event
+            ResultMemo memo = requirementNetwork.memo();
+            for (TriggerContext context : triggerContexts) {
+                Context root = context instanceof Context ? (Context) context : null;
+                context.trigger(new DefaultExecutionContext<>(scope(), root, memo, execution.targets()).next(context), execution.targets());
+            }
+        });
+    }
+
+    /**
+     * @return the network of the requirements of all registered trigger contexts
+     */
+    public RequirementNetwork requirementNetwork() {
+
+        return requirementNetwork;
     }
 
     @Override
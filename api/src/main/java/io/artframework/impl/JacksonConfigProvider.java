@@ -25,6 +25,7 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import io.artframework.AbstractScoped;
 import io.artframework.ConfigProvider;
 import io.artframework.Scope;
+import io.artframework.StartupProfiler;
 
 import java.io.File;
 import java.io.IOException;
@@ -44,6 +45,13 @@ public class JacksonConfigProvider extends AbstractScoped implements ConfigProvi
     @Override
     public <TConfig> Optional<TConfig> load(Class<TConfig> configClass, File file) {
 
+        try (StartupProfiler.Timer timer = scope().profiler().start(StartupProfiler.CONFIG, file.getPath())) {
+            return loadConfig(configClass, file);
+        }
+    }
+
+    private <TConfig> Optional<TConfig> loadConfig(Class<TConfig> configClass, File file) {
+
         if (!file.exists()) {
             try {
                 save(scope().configuration().injector().create(configClass, scope()), file, false);
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.impl;
+
+import com.google.common.collect.MapMaker;
+import io.artframework.ArtObjectContext;
+import io.artframework.ConfigMap;
+import io.artframework.RequirementContext;
+import io.artframework.TriggerContext;
+import io.artframework.conf.RequirementConfig;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.*;
+
+/**
+ * A discrimination network of the requirements of all registered trigger contexts.
+ * <p>The {@link io.artframework.annotations.ART#pure()} requirements of the trigger contexts are compiled into nodes.
+ * Requirements with the same class, requirement config and config values share a single node.
+ * All trigger contexts that are executed for the same event share one {@link #memo()}
+ * that tests every node only once per target and fans the result out to all dependent requirements.
+ * The cost of an event then scales with the number of distinct requirements instead of the number of scripts.
+ * <p>Impure and stateful requirements and requirements whose config is not {@link ConfigMap#isStatic(io.artframework.Scope) static}
+ * are not part of the network and are tested by every trigger context.
+ */
+public class RequirementNetwork {
+
+    private final Map<NodeKey, Node> nodes = new HashMap<>();
+    // requirement contexts compare their scope in equals and must be mapped by identity
+    private final Map<RequirementContext<?>, Node> requirementNodes = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Compiles the pure requirements of the given trigger context into the network.
+     *
+     * @param context the trigger context that was registered
+     */
+    public synchronized void add(@NonNull TriggerContext context) {
+
+        for (RequirementContext<?> requirement : context.requirements()) {
+            if (requirementNodes.containsKey(requirement)) continue;
+
+            nodeKey(requirement).ifPresent(key -> {
+                Node node = nodes.computeIfAbsent(key, Node::new);
+                node.dependents++;
+                requirementNodes.put(requirement, node);
+            });
+        }
+    }
+
+    /**
+     * Removes the requirements of the given trigger context from the network
+     * and removes all nodes that have no dependent requirements left.
+     *
+     * @param context the trigger context that was unregistered
+     */
+    public synchronized void remove(@NonNull TriggerContext context) {
+
+        for (RequirementContext<?> requirement : context.requirements()) {
+            Node node = requirementNodes.remove(requirement);
+            if (node != null && --node.dependents < 1) {
+                nodes.remove(node.key);
+            }
+        }
+    }
+
+    /**
+     * Removes all nodes from the network.
+     */
+    public synchronized void clear() {
+
+        nodes.clear();
+        requirementNodes.clear();
+    }
+
+    /**
+     * @return the number of distinct requirements in the network
+     */
+    public synchronized int size() {
+
+        return nodes.size();
+    }
+
+    /**
+     * @return the number of requirements that share the nodes of the network
+     */
+    public synchronized int dependents() {
+
+        return requirementNodes.size();
+    }
+
+    /**
+     * Creates a new memo for the executions of a single event.
+     * The results of the requirements in the network are stored under their node
+     * and the results of all other contexts under the context itself.
+     *
+     * @return a new memo that is shared by all trigger contexts of an event
+     */
+    public ResultMemo memo() {
+
+        return new ResultMemo(this::key);
+    }
+
+    private Object key(ArtObjectContext<?> context) {
+
+        Node node = requirementNodes.get(context);
+        return node != null ? node : context;
+    }
+
+    private static Optional<NodeKey> nodeKey(RequirementContext<?> requirement) {
+
+        if (!(requirement instanceof DefaultRequirementContext) || !requirement.meta().pure() || requirement.stateful()) {
+            return Optional.empty();
+        }
+
+        DefaultRequirementContext<?> context = (DefaultRequirementContext<?>) requirement;
+        ConfigMap configMap = context.artObjectConfig();
+        // the raw values of a config with replacements or resolvers, e.g. ${player.name},
+        // are equal for requirements whose resolved values differ and must not share a node
+        if (configMap == null || !configMap.isStatic(context.scope())) return Optional.empty();
+
+        Map<String, Object> values = new HashMap<>();
+        for (Map.Entry<String, Object> entry : configMap.values().entrySet()) {
+            Object value = entry.getValue();
+            values.put(entry.getKey(), value instanceof Object[] ? Arrays.asList((Object[]) value) : value);
+        }
+
+        return Optional.of(new NodeKey(requirement.meta().artObjectClass(), requirement.config(), values));
+    }
+
+    @Value
+    static class NodeKey {
+
+        Class<?> requirementClass;
+        RequirementConfig config;
+        Map<String, Object> values;
+    }
+
+    private static final class Node {
+
+        private final NodeKey key;
+        private int dependents = 0;
+
+        private Node(NodeKey key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.RequirementContext;
+import lombok.NonNull;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The order in which a {@link io.artframework.RequirementHolder} tests its requirements
+ * if {@link io.artframework.conf.Settings#shortCircuitRequirements()} is enabled.
+ * <p>The requirements are sorted by their declared cost and their observed test duration.
+ * The durations are read once before sorting, because they are updated by other threads while the requirements are tested.
+ * The order is cached and only sorted again after {@link #REFRESH_NANOS} or if a requirement was added.
+ */
+public final class RequirementOrder {
+
+    static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Sorts the given requirements by their declared cost and their observed test duration.
+     * <p>The sort is stable and keeps the declared order of requirements with the same cost and duration.
+     *
+     * @param requirements the requirements to sort
+     * @return a new list with the sorted requirements
+     */
+    public static List<RequirementContext<?>> sort(@NonNull Collection<RequirementContext<?>> requirements) {
+
+        RequirementContext<?>[] contexts = requirements.toArray(new RequirementContext<?>[0]);
+        int[] costs = new int[contexts.length];
+        long[] durations = new long[contexts.length];
+        Integer[] indices = new Integer[contexts.length];
+        for (int i = 0; i < contexts.length; i++) {
+            costs[i] = contexts[i].cost();
+            durations[i] = contexts[i].averageNanos();
+            indices[i] = i;
+        }
+
+        Arrays.sort(indices, Comparator.<Integer>comparingInt(i -> costs[i]).thenComparingLong(i -> durations[i]));
+
+        List<RequirementContext<?>> result = new ArrayList<>(contexts.length);
+        for (int index : indices) {
+            result.add(contexts[index]);
+        }
+
+        return result;
+    }
+
+    private final Collection<RequirementContext<?>> requirements;
+    private volatile Sorted sorted;
+
+    /**
+     * @param requirements the live collection of requirements of the holder
+     */
+    public RequirementOrder(@NonNull Collection<RequirementContext<?>> requirements) {
+        this.requirements = requirements;
+    }
+
+    /**
+     * @return the cached order of the requirements, sorted again if it is outdated
+     */
+    public List<RequirementContext<?>> get() {
+
+        Sorted current = sorted;
+        long now = System.nanoTime();
+        if (current == null || now - current.time > REFRESH_NANOS) {
+            // concurrent refreshes only sort the requirements twice
+            current = new Sorted(Collections.unmodifiableList(sort(requirements)), now);
+            sorted = current;
+        }
+
+        return current.requirements;
+    }
+
+    /**
+     * Discards the cached order, e.g. after a requirement was added.
+     */
+    public void invalidate() {
+
+        sorted = null;
+    }
+
+    private static final class Sorted {
+
+        private final List<RequirementContext<?>> requirements;
+        private final long time;
+
+        private Sorted(List<RequirementContext<?>> requirements, long time) {
+            this.requirements = requirements;
+            this.time = time;
+        }
+    }
+}
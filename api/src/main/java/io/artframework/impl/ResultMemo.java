@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.impl;
+
+import io.artframework.ArtObjectContext;
+import io.artframework.Result;
+import io.artframework.Target;
+import lombok.NonNull;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The memo table behind {@link io.artframework.ExecutionContext#memoize(ArtObjectContext, Target, Supplier)}.
+ * <p>A memo is shared by all contexts of one execution and can be shared by multiple executions,
+ * e.g. by all trigger contexts that are executed for the same event. The key function maps every context
+ * to the object its results are stored under, which allows identical contexts to share their results.
+ * Keys are compared by identity.
+ */
+public class ResultMemo {
+
+    private final Function<ArtObjectContext<?>, Object> keys;
+    private final Map<Object, Map<String, Result>> results = new IdentityHashMap<>();
+
+    public ResultMemo() {
+        this(context -> context);
+    }
+
+    public ResultMemo(@NonNull Function<ArtObjectContext<?>, Object> keys) {
+        this.keys = keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <TResult extends Result> TResult memoize(@NonNull ArtObjectContext<?> context, @NonNull Target<?> target, @NonNull Supplier<TResult> supplier) {
+
+        Map<String, Result> targetResults = results.computeIfAbsent(keys.apply(context), key -> new HashMap<>());
+        Result result = targetResults.get(target.uniqueId());
+        if (result == null) {
+            // not using computeIfAbsent, the supplier may test other requirements of the same execution
+            result = supplier.get();
+            targetResults.put(target.uniqueId(), result);
+        }
+
+        return (TResult) result;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.impl;
+
+import io.artframework.TriggerContext;
+import lombok.NonNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Indexes the registered trigger contexts of a trigger class by the keys of their {@link io.artframework.IndexedTrigger}.
+ * <p>Trigger contexts without keys are executed for every event. Trigger contexts with keys are
+ * only executed for events that have at least one of their keys.
+ * <p>The contexts compare their scope in equals and are kept by identity in lists that are rarely modified.
+ */
+public class TriggerIndex {
+
+    private final List<TriggerContext> all = new CopyOnWriteArrayList<>();
+    private final List<TriggerContext> unindexed = new CopyOnWriteArrayList<>();
+    private final Map<Object, List<TriggerContext>> indexed = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the given trigger context under its index keys.
+     *
+     * @param context the trigger context to add
+     * @return false if the trigger context was already added
+     */
+    public synchronized boolean add(@NonNull TriggerContext context) {
+
+        if (contains(all, context)) return false;
+
+        all.add(context);
+        Collection<?> keys = context.indexKeys();
+        if (keys.isEmpty()) {
+            unindexed.add(context);
+        } else {
+            for (Object key : keys) {
+                indexed.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(context);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the given trigger context from the index.
+     *
+     * @param context the trigger context to remove
+     * @return false if the trigger context was never added
+     */
+    public synchronized boolean remove(@NonNull TriggerContext context) {
+
+        if (!all.removeIf(triggerContext -> triggerContext == context)) return false;
+
+        unindexed.removeIf(triggerContext -> triggerContext == context);
+        for (Object key : context.indexKeys()) {
+            List<TriggerContext> contexts = indexed.get(key);
+            if (contexts != null) {
+                contexts.removeIf(triggerContext -> triggerContext == context);
+                if (contexts.isEmpty()) indexed.remove(key);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets all trigger contexts that must be executed for an event with the given keys.
+     *
+     * @param keys the index keys of the event. all trigger contexts are returned if no key is provided.
+     * @return the matching trigger contexts without duplicates
+     */
+    public List<TriggerContext> get(@NonNull Collection<?> keys) {
+
+        if (keys.isEmpty()) return all;
+
+        List<TriggerContext> contexts = new ArrayList<>(unindexed);
+        // contexts that declared multiple keys of the event must only be executed once
+        Set<TriggerContext> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object key : keys) {
+            for (TriggerContext context : indexed.getOrDefault(key, Collections.emptyList())) {
+                if (matched.add(context)) contexts.add(context);
+            }
+        }
+
+        return contexts;
+    }
+
+    /**
+     * @return all trigger contexts of the index
+     */
+    public List<TriggerContext> all() {
+
+        return Collections.unmodifiableList(all);
+    }
+
+    private static boolean contains(List<TriggerContext> contexts, TriggerContext context) {
+
+        return contexts.stream().anyMatch(triggerContext -> triggerContext == context);
+    }
+}
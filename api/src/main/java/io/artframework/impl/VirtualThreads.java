@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.impl;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Creates executors that start a new virtual thread for every task.
+ * <p>This is the Java 11 version of the class that does not support virtual threads.
+ * The Java 21 version in {@code src/main/java21} replaces it in the {@code META-INF/versions/21}
+ * directory of the multi-release jar.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+
+    }
+
+    /**
+     * @return true if the running Java version supports virtual threads
+     */
+    static boolean supported() {
+
+        return false;
+    }
+
+    /**
+     * Creates a new executor that runs every task with its own virtual thread.
+     *
+     * @param threadPrefix the prefix of the thread names
+     * @return the created executor
+     * @throws UnsupportedOperationException if virtual threads are not {@link #supported()}
+     */
+    static ExecutorService newExecutor(String threadPrefix) {
+
+        throw new UnsupportedOperationException("virtual threads require Java 21 or newer");
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.jfr;
+
+import io.artframework.ArtObjectContext;
+import io.artframework.ResultStatus;
+import io.artframework.Target;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import javax.annotation.Nullable;
+import java.util.function.Supplier;
+
+/**
+ * Base class of all Java Flight Recorder events of the art-framework.
+ * <p>Events are only begun and committed while a recording of the event is active,
+ * e.g. one that was started with {@code jcmd <pid> JFR.start}.
+ * Otherwise {@link #start(Supplier)} returns null and the event is never begun.
+ * <pre>{@code
+ * ActionEvent event = ArtEvent.start(ActionEvent::new);
+ * // execute the action
+ * ArtEvent.commit(event, this, target, result.status());
+ * }</pre>
+ */
+@StackTrace(false)
+@Category("ART Framework")
+public abstract class ArtEvent extends Event {
+
+    @Label("Identifier")
+    String identifier;
+
+    @Label("Storage Key")
+    String storageKey;
+
+    @Label("Target Type")
+    Class<?> targetType;
+
+    @Label("Result Status")
+    String status;
+
+    /**
+     * Creates and begins a new event if a recording of the event is active.
+     *
+     * @param supplier the constructor of the event
+     * @param <TEvent> the type of the event
+     * @return the started event or null if the event is disabled
+     */
+    @Nullable
+    public static <TEvent extends ArtEvent> TEvent start(Supplier<TEvent> supplier) {
+
+        TEvent event = supplier.get();
+        if (!event.isEnabled()) return null;
+
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the given event and commits it with the information of the context and target.
+     *
+     * @param event the event that was started with {@link #start(Supplier)}. does nothing if null.
+     * @param context the context of the recorded art object
+     * @param target the target of the execution. can be null.
+     * @param status the result status of the execution
+     */
+    public static void commit(@Nullable ArtEvent event, ArtObjectContext<?> context, @Nullable Target<?> target, ResultStatus status) {
+
+        if (event == null) return;
+
+        event.end();
+        if (!event.shouldCommit()) return;
+
+        event.identifier = context.meta().identifier();
+        event.storageKey = context.storageKey();
+        event.targetType = target != null ? target.source().getClass() : null;
+        event.status = status.name();
+        event.commit();
+    }
+}
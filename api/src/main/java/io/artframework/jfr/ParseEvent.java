@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.jfr;
+
+import jdk.jfr.*;
+
+import javax.annotation.Nullable;
+
+@Name("io.artframework.Parse")
+@Label("ART Parsing")
+@Description("The parsing of a list of ART lines into an art context.")
+@Category({"ART Framework", "Parser"})
+@StackTrace(false)
+public class ParseEvent extends Event {
+
+    @Label("Storage Key")
+    String storageKey;
+
+    @Label("Lines")
+    int lines;
+
+    @Label("Success")
+    boolean success;
+
+    /**
+     * Creates and begins a new parse event if a recording of the event is active.
+     *
+     * @return the started event or null if the event is disabled
+     */
+    @Nullable
+    public static ParseEvent start() {
+
+        ParseEvent event = new ParseEvent();
+        if (!event.isEnabled()) return null;
+
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits the given parse event.
+     *
+     * @param event the event that was started with {@link #start()}. does nothing if null.
+     * @param storageKey the storage key of the parsed art
+     * @param lines the number of parsed lines
+     * @param success true if the art was parsed without errors
+     */
+    public static void commit(@Nullable ParseEvent event, String storageKey, int lines, boolean success) {
+
+        if (event == null) return;
+
+        event.end();
+        if (!event.shouldCommit()) return;
+
+        event.storageKey = storageKey;
+        event.lines = lines;
+        event.success = success;
+        event.commit();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.jfr;
+
+import io.artframework.ArtObjectContext;
+import io.artframework.Target;
+import jdk.jfr.*;
+
+import javax.annotation.Nullable;
+
+@Name("io.artframework.Storage")
+@Label("ART Storage Access")
+@Description("Reading or writing a value of an art object from the storage provider.")
+@Category({"ART Framework", "Storage"})
+@StackTrace(false)
+public class StorageEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Key")
+    String key;
+
+    @Label("Identifier")
+    String identifier;
+
+    @Label("Storage Key")
+    String storageKey;
+
+    @Label("Target Type")
+    Class<?> targetType;
+
+    /**
+     * Creates and begins a new storage event if a recording of the event is active.
+     *
+     * @return the started event or null if the event is disabled
+     */
+    @Nullable
+    public static StorageEvent start() {
+
+        StorageEvent event = new StorageEvent();
+        if (!event.isEnabled()) return null;
+
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and commits the given storage event.
+     *
+     * @param event the event that was started with {@link #start()}. does nothing if null.
+     * @param operation the storage operation, e.g. get or set
+     * @param context the context that accessed the storage
+     * @param target the target the value is stored for
+     * @param key the key of the stored value
+     */
+    public static void commit(@Nullable StorageEvent event, String operation, ArtObjectContext<?> context, Target<?> target, String key) {
+
+        if (event == null) return;
+
+        event.end();
+        if (!event.shouldCommit()) return;
+
+        event.operation = operation;
+        event.key = key;
+        event.identifier = context.meta().identifier();
+        event.storageKey = context.storageKey();
+        event.targetType = target.source().getClass();
+        event.commit();
+    }
+}
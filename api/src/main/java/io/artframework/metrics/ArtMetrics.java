@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.metrics;
+
+import io.artframework.ResultStatus;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import javax.annotation.Nullable;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the metrics of an art object.
+ * <p>The metrics are either recorded for an art object inside a single art context
+ * or aggregated for all art objects with the same identifier, in which case the {@link #storageKey()} is null.
+ */
+@Value
+@Accessors(fluent = true)
+public class ArtMetrics {
+
+    /**
+     * The storage key of the art context the art object is part of or null if the metrics are aggregated.
+     */
+    @Nullable
+    String storageKey;
+    /**
+     * The identifier of the art object, e.g. {@code give-item}.
+     */
+    String identifier;
+    /**
+     * The number of executions by their result status.
+     */
+    Map<ResultStatus, Long> results;
+    /**
+     * The number of executions that were rejected because the art object was on cooldown.
+     */
+    long cooldownRejections;
+    /**
+     * The latency of all executions.
+     */
+    LatencyHistogram.Snapshot latency;
+
+    /**
+     * @return the total number of executions
+     */
+    public long executions() {
+
+        return results.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * @param status the result status
+     * @return the number of executions that ended with the given status
+     */
+    public long count(@NonNull ResultStatus status) {
+
+        return results.getOrDefault(status, 0L);
+    }
+
+    /**
+     * Gets the rate of successful executions.
+     * <p>For requirements this is the rate in which the requirement was met.
+     *
+     * @return the rate of successful executions between zero and one or zero if nothing was executed
+     */
+    public double hitRate() {
+
+        long executions = executions();
+        if (executions == 0) return 0;
+
+        return (count(ResultStatus.SUCCESS) + count(ResultStatus.EMPTY)) / (double) executions;
+    }
+
+    /**
+     * Combines these metrics with the given metrics of the same identifier.
+     *
+     * @param other the metrics to combine with
+     * @return the combined metrics without a storage key
+     */
+    public ArtMetrics merge(@NonNull ArtMetrics other) {
+
+        Map<ResultStatus, Long> merged = new EnumMap<>(ResultStatus.class);
+        merged.putAll(results);
+        other.results().forEach((status, count) -> merged.merge(status, count, Long::sum));
+
+        return new ArtMetrics(null, identifier, merged, cooldownRejections + other.cooldownRejections(), latency.merge(other.latency()));
+    }
+}
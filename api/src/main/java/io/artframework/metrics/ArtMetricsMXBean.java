@@ -0,0 +1,49 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.metrics;
+
+/**
+ * Exposes the metrics of an art object inside an art context via JMX.
+ * <p>The beans are registered under {@code io.artframework:type=ArtMetrics}
+ * with the scope, context and identifier of the art object as additional keys.
+ */
+public interface ArtMetricsMXBean {
+
+    String getIdentifier();
+
+    String getStorageKey();
+
+    long getExecutions();
+
+    long getSuccesses();
+
+    long getFailures();
+
+    long getErrors();
+
+    long getCooldownRejections();
+
+    double getHitRate();
+
+    double getMeanMillis();
+
+    double getP50Millis();
+
+    double getP99Millis();
+
+    double getMaxMillis();
+}
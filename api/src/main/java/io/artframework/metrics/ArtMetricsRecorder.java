@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.metrics;
+
+import io.artframework.ResultStatus;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the metrics of a single art object inside an art context.
+ * <p>All methods are lock-free and can be called concurrently.
+ */
+public final class ArtMetricsRecorder implements ArtMetricsMXBean {
+
+    private static final ResultStatus[] STATUSES = ResultStatus.values();
+
+    @Getter
+    private final String storageKey;
+    @Getter
+    private final String identifier;
+    private final LongAdder[] results = new LongAdder[STATUSES.length];
+    private final LongAdder cooldownRejections = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public ArtMetricsRecorder(@NonNull String storageKey, @NonNull String identifier) {
+        this.storageKey = storageKey;
+        this.identifier = identifier;
+        for (int i = 0; i < results.length; i++) {
+            results[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records an execution of the art object.
+     *
+     * @param status the result status of the execution
+     * @param nanos the duration of the execution in nanoseconds
+     */
+    public void record(@NonNull ResultStatus status, long nanos) {
+
+        results[status.ordinal()].increment();
+        latency.record(nanos);
+    }
+
+    /**
+     * Records that an execution was rejected because the art object was on cooldown.
+     */
+    public void recordCooldownRejection() {
+
+        cooldownRejections.increment();
+    }
+
+    /**
+     * @return an immutable snapshot of the recorded metrics
+     */
+    public ArtMetrics snapshot() {
+
+        Map<ResultStatus, Long> counts = new EnumMap<>(ResultStatus.class);
+        for (ResultStatus status : STATUSES) {
+            counts.put(status, results[status.ordinal()].sum());
+        }
+
+        return new ArtMetrics(storageKey, identifier, counts, cooldownRejections.sum(), latency.snapshot());
+    }
+
+    @Override
+    public long getExecutions() {
+        long executions = 0;
+        for (LongAdder result : results) {
+            executions += result.sum();
+        }
+        return executions;
+    }
+
+    @Override
+    public long getSuccesses() {
+        return results[ResultStatus.SUCCESS.ordinal()].sum();
+    }
+
+    @Override
+    public long getFailures() {
+        return results[ResultStatus.FAILURE.ordinal()].sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return results[ResultStatus.ERROR.ordinal()].sum();
+    }
+
+    @Override
+    public long getCooldownRejections() {
+        return cooldownRejections.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        return snapshot().hitRate();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return LatencyHistogram.Snapshot.toMillis(latency.snapshot().mean());
+    }
+
+    @Override
+    public double getP50Millis() {
+        return LatencyHistogram.Snapshot.toMillis(latency.snapshot().percentile(50));
+    }
+
+    @Override
+    public double getP99Millis() {
+        return LatencyHistogram.Snapshot.toMillis(latency.snapshot().percentile(99));
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return LatencyHistogram.Snapshot.toMillis(latency.snapshot().max());
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.metrics;
+
+import lombok.NonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with logarithmic buckets in the style of a HDR histogram.
+ * <p>Every power of two is divided into {@value #SUB_BUCKET_COUNT} linear sub buckets,
+ * which keeps the relative error of every recorded value below 1/{@value #SUB_BUCKET_COUNT}
+ * while covering the full range of positive long values with a fixed amount of memory.
+ * <p>Recording a value only increments atomic counters and never blocks.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records the given duration. Negative values are recorded as zero.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Creates a snapshot of the current state of the histogram.
+     * <p>Values recorded while the snapshot is created may or may not be part of it.
+     *
+     * @return the snapshot of the histogram
+     */
+    public Snapshot snapshot() {
+
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+        }
+
+        return new Snapshot(counts, count.sum(), sum.sum(), max.get());
+    }
+
+    static int index(long value) {
+
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long lowerBound(int index) {
+
+        if (index < SUB_BUCKET_COUNT) return index;
+
+        int block = index / SUB_BUCKET_COUNT;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        return (long) (SUB_BUCKET_COUNT + subBucket) << (block - 1);
+    }
+
+    static long width(int index) {
+
+        if (index < SUB_BUCKET_COUNT) return 1;
+
+        return 1L << (index / SUB_BUCKET_COUNT - 1);
+    }
+
+    /**
+     * An immutable snapshot of a {@link LatencyHistogram}. All values are in nanoseconds.
+     */
+    public static final class Snapshot {
+
+        public static final Snapshot EMPTY = new Snapshot(new long[BUCKET_COUNT], 0, 0, 0);
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long sum, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * @return the number of recorded values
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * @return the highest recorded value
+         */
+        public long max() {
+            return max;
+        }
+
+        /**
+         * @return the arithmetic mean of all recorded values or zero if nothing was recorded
+         */
+        public double mean() {
+            return count == 0 ? 0 : sum / (double) count;
+        }
+
+        /**
+         * Gets the value at the given percentile.
+         * <p>The value is the middle of the bucket that contains the percentile
+         * and is never higher than the highest recorded value.
+         *
+         * @param percentile the percentile between 0 and 100, e.g. 99.9
+         * @return the value at the percentile or zero if nothing was recorded
+         */
+        public long percentile(double percentile) {
+
+            long total = 0;
+            for (long bucketCount : counts) {
+                total += bucketCount;
+            }
+            if (total == 0) return 0;
+
+            long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    return Math.min(max, lowerBound(i) + width(i) / 2);
+                }
+            }
+
+            return max;
+        }
+
+        /**
+         * Converts the given value of this snapshot to milliseconds.
+         *
+         * @param nanos the value in nanoseconds
+         * @return the value in milliseconds
+         */
+        public static double toMillis(double nanos) {
+            return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        /**
+         * Combines the recorded values of this and the given snapshot.
+         *
+         * @param other the snapshot to merge with
+         * @return a new snapshot containing the values of both snapshots
+         */
+        public Snapshot merge(@NonNull Snapshot other) {
+
+            long[] merged = new long[BUCKET_COUNT];
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                merged[i] = counts[i] + other.counts[i];
+            }
+
+            return new Snapshot(merged, count + other.count, sum + other.sum, Math.max(max, other.max));
+        }
+    }
+}
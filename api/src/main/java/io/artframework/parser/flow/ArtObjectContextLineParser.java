@@ -19,10 +19,13 @@ package io.artframework.parser.flow;
 import com.google.common.base.Strings;
 import io.artframework.*;
 import io.artframework.conf.ContextConfig;
+import io.artframework.conf.KeyValuePair;
 import io.artframework.parser.ConfigParser;
 import lombok.experimental.Accessors;
 
+import javax.annotation.Nullable;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -31,6 +34,7 @@ import java.util.regex.Pattern;
 public abstract class ArtObjectContextLineParser<TFactory extends Factory<?, ?>> extends FlowLineParser {
 
     private final FlowType flowType;
+    private ArtSnapshot.ParsedLine parsedLine;
 
     protected ArtObjectContextLineParser(Scope scope, Iterator<String> iterator, FlowType flowType) {
         // always edit the regexr link and update the link below!
@@ -62,30 +66,80 @@ public abstract class ArtObjectContextLineParser<TFactory extends Factory<?, ?>>
     public ArtObjectContext<?> parse() throws ParseException {
 
         String identifier = getIdentifier();
-        Optional<TFactory> factoryOptional = factory(identifier);
+        TFactory factory = factoryOrThrow(identifier);
+
+        List<KeyValuePair> config = null;
+        Optional<String> configString = getConfig();
+        if (configString.isPresent()) {
+            ConfigParser configParser = ConfigParser.of(configMap());
+            if (configParser.accept(configString.get())) {
+                config = configParser.extractKeyValuePairs();
+            }
+        }
 
-        if (factoryOptional.isEmpty()) {
+        List<KeyValuePair> userConfig = null;
+        ConfigParser configParser = ConfigParser.of(ConfigMap.of(factory.meta().configMap()));
+        if (configParser.accept(userConfig())) {
+            userConfig = configParser.extractKeyValuePairs();
+        }
+
+        parsedLine = new ArtSnapshot.ParsedLine(flowType.typeIdentifier(), identifier, factory.meta().artObjectClass().getName(), config, userConfig);
+
+        return create(factory, config, userConfig);
+    }
+
+    /**
+     * @return the line that was last parsed by this parser without its regex matching and config parsing
+     */
+    ArtSnapshot.ParsedLine parsedLine() {
+
+        return parsedLine;
+    }
+
+    /**
+     * Creates the art object context of the given parsed line without matching and parsing the line again.
+     *
+     * @param line the line that was parsed by a parser of the same flow type
+     * @return the created art object context
+     * @throws ParseException if no art object with the identifier exists or the config does not match the art object
+     */
+    ArtObjectContext<?> create(ArtSnapshot.ParsedLine line) throws ParseException {
+
+        return create(factoryOrThrow(line.identifier()), line.config(), line.userConfig());
+    }
+
+    FlowType flowType() {
+
+        return flowType;
+    }
+
+    private TFactory factoryOrThrow(String identifier) throws ParseException {
+
+        Optional<TFactory> factory = factory(identifier);
+
+        if (factory.isEmpty()) {
             throw new ParseException("No " + flowType.name() + " with identifier \"" + identifier + "\" found");
         }
 
-        TFactory factory = factoryOptional.get();
+        return factory.get();
+    }
 
-        ConfigMap contextConfig = configMap();
+    private ArtObjectContext<?> create(TFactory factory, @Nullable List<KeyValuePair> config, @Nullable List<KeyValuePair> userConfig) throws ParseException {
 
-        Optional<String> config = getConfig();
-        if (config.isPresent()) {
-            ConfigParser configParser = ConfigParser.of(contextConfig);
-            if (configParser.accept(config.get())) {
-                contextConfig = configParser.parse();
+        try {
+            ConfigMap contextConfig = configMap();
+            if (config != null) {
+                contextConfig = contextConfig.with(config);
             }
-        }
 
-        ConfigMap artObjectConfig = ConfigMap.of(factory.meta().configMap());
-        ConfigParser configParser = ConfigParser.of(artObjectConfig);
-        if (configParser.accept(userConfig())) {
-            artObjectConfig = configParser.parse();
-        }
+            ConfigMap artObjectConfig = ConfigMap.of(factory.meta().configMap());
+            if (userConfig != null) {
+                artObjectConfig = artObjectConfig.with(userConfig);
+            }
 
-        return factory.createContext(new ContextConfig(contextConfig, artObjectConfig));
+            return factory.createContext(new ContextConfig(contextConfig, artObjectConfig));
+        } catch (ConfigurationException e) {
+            throw new ParseException(e.getMessage(), e);
+        }
     }
 }
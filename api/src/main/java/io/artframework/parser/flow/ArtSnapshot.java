@@ -0,0 +1,507 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.parser.flow;
+
+import com.google.common.collect.ImmutableList;
+import io.artframework.*;
+import io.artframework.conf.KeyValuePair;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import lombok.extern.java.Log;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A versioned binary snapshot of parsed art that is used to skip the parsing on the next start.
+ * <p>Every entry is stored per storage key and contains the parsed lines with the identifiers,
+ * the class of the resolved factory and the config values, and the nesting that was created by the {@link FlowLogicSorter}.
+ * An entry is only restored if the input lines are unchanged and the jars of all referenced art objects
+ * have the same size and modification time. Otherwise the art is parsed again.
+ * <p>The snapshot is read once when it is loaded and only written to disk when it is {@link #flush() flushed},
+ * which the scope does after all modules have been enabled. The file is written to a temporary file first
+ * and then moved into place, so a failed write never leaves a truncated snapshot behind. Only entries that were parsed or restored
+ * since the snapshot was read are written. Art with a generated storage key is never snapshotted,
+ * because its storage key changes on every load.
+ */
+@Log(topic = "art-framework")
+public final class ArtSnapshot {
+
+    static final int MAGIC = 0x41525453;
+    static final int VERSION = 1;
+    public static final String FILE_NAME = "art-snapshot.cache";
+
+    private static final Map<File, ArtSnapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    /**
+     * Gets or loads the art snapshot that is stored in the given file.
+     *
+     * @param file the file of the snapshot. does not need to exist.
+     * @return the snapshot that is backed by the given file
+     */
+    public static ArtSnapshot of(@NonNull File file) {
+
+        return SNAPSHOTS.computeIfAbsent(file.getAbsoluteFile(), ArtSnapshot::new);
+    }
+
+    /**
+     * Writes all art snapshots that changed since they were read or last flushed to disk.
+     */
+    public static void flushAll() {
+
+        SNAPSHOTS.values().forEach(ArtSnapshot::flush);
+    }
+
+    private final File file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> usedKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    ArtSnapshot(File file) {
+        this.file = file;
+
+        read();
+    }
+
+    /**
+     * Restores the art that was parsed from the given input with the same storage key.
+     *
+     * @param scope the scope that creates the art object contexts
+     * @param storageKey the storage key of the art
+     * @param input the lines of the art
+     * @param parsers the flow line parsers of the scope that create the art object contexts of the parsed lines
+     * @return the restored art context or an empty optional if no valid snapshot of the art exists
+     */
+    public Optional<ArtContext> restore(@NonNull Scope scope, @NonNull String storageKey, @NonNull Collection<String> input, @NonNull Collection<FlowLineParser> parsers) {
+
+        Entry entry = entries.get(storageKey);
+        if (entry == null || !entry.inputHash.equals(hash(input)) || !entry.jarsUnchanged()) return Optional.empty();
+
+        Map<String, ArtObjectContextLineParser<?>> parserMap = new HashMap<>();
+        for (FlowLineParser parser : parsers) {
+            if (parser instanceof ArtObjectContextLineParser) {
+                ArtObjectContextLineParser<?> lineParser = (ArtObjectContextLineParser<?>) parser;
+                parserMap.putIfAbsent(lineParser.flowType().typeIdentifier(), lineParser);
+            }
+        }
+
+        try {
+            ArtObjectContext<?>[] nodes = new ArtObjectContext<?>[entry.lines.size()];
+            for (int i = 0; i < nodes.length; i++) {
+                ParsedLine line = entry.lines.get(i);
+                ArtObjectContextLineParser<?> parser = parserMap.get(line.typeIdentifier());
+                if (parser == null) return Optional.empty();
+
+                ArtObjectContext<?> context = parser.create(line);
+                if (!context.meta().artObjectClass().getName().equals(line.className())) return Optional.empty();
+                nodes[i] = context.storageKey(storageKey);
+            }
+
+            for (int i = 0; i < nodes.length; i++) {
+                for (int requirement : entry.requirements[i]) {
+                    ((RequirementHolder) nodes[i]).addRequirement((RequirementContext<?>) nodes[requirement]);
+                }
+                for (int action : entry.actions[i]) {
+                    ((ActionHolder) nodes[i]).addAction((ActionContext<?>) nodes[action]);
+                }
+            }
+
+            List<ArtObjectContext<?>> result = new ArrayList<>();
+            for (int root : entry.roots) {
+                result.add(nodes[root]);
+            }
+
+            usedKeys.add(storageKey);
+            return Optional.of(ArtContext.of(scope, scope.settings().artSettings(), ImmutableList.copyOf(result)));
+        } catch (ParseException | ClassCastException | IndexOutOfBoundsException e) {
+            log.info("discarding outdated art snapshot of " + storageKey + ": " + e.getMessage());
+            entries.remove(storageKey);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the parsed art of the given input.
+     * <p>Nothing is stored if any line was parsed by a custom parser or
+     * the result contains art object contexts that were not parsed from a line.
+     *
+     * @param storageKey the storage key of the art
+     * @param input the lines of the art
+     * @param lines the parsed lines in the order of the input or null for lines that cannot be snapshotted
+     * @param contexts the art object contexts of the parsed lines in the same order
+     * @param result the art object contexts that were sorted and nested by the {@link FlowLogicSorter}
+     */
+    public void put(@NonNull String storageKey, @NonNull Collection<String> input, @NonNull List<ParsedLine> lines,
+                    @NonNull List<ArtObjectContext<?>> contexts, @NonNull Collection<ArtObjectContext<?>> result) {
+
+        if (lines.size() != contexts.size() || lines.contains(null)) return;
+
+        Map<ArtObjectContext<?>, Integer> indices = new IdentityHashMap<>();
+        for (int i = 0; i < contexts.size(); i++) {
+            indices.put(contexts.get(i), i);
+        }
+
+        int[][] requirements = new int[contexts.size()][];
+        int[][] actions = new int[contexts.size()][];
+        for (int i = 0; i < contexts.size(); i++) {
+            ArtObjectContext<?> context = contexts.get(i);
+            requirements[i] = context instanceof RequirementHolder ? indicesOf(((RequirementHolder) context).requirements(), indices) : new int[0];
+            actions[i] = context instanceof ActionHolder ? indicesOf(((ActionHolder) context).actions(), indices) : new int[0];
+            if (requirements[i] == null || actions[i] == null) return;
+        }
+        int[] roots = indicesOf(result, indices);
+        if (roots == null) return;
+
+        Set<File> jarFiles = new LinkedHashSet<>();
+        for (ArtObjectContext<?> context : contexts) {
+            jarFile(context.meta().location()).ifPresent(jarFiles::add);
+        }
+        List<Jar> jars = new ArrayList<>();
+        for (File jarFile : jarFiles) {
+            jars.add(new Jar(jarFile.getAbsolutePath(), jarFile.length(), jarFile.lastModified()));
+        }
+
+        entries.put(storageKey, new Entry(hash(input), ImmutableList.copyOf(lines), requirements, actions, roots, jars));
+        usedKeys.add(storageKey);
+        dirty.set(true);
+    }
+
+    /**
+     * Writes the snapshot to disk if any entry was added since it was read or last flushed.
+     */
+    public void flush() {
+
+        if (dirty.compareAndSet(true, false)) {
+            write();
+        }
+    }
+
+    /**
+     * Removes all entries and deletes the snapshot file.
+     */
+    public void clear() {
+
+        entries.clear();
+        usedKeys.clear();
+        dirty.set(false);
+        if (file.exists() && !file.delete()) {
+            log.warning("unable to delete art snapshot " + file.getAbsolutePath());
+        }
+    }
+
+    @Nullable
+    private static int[] indicesOf(Collection<? extends ArtObjectContext<?>> contexts, Map<ArtObjectContext<?>, Integer> indices) {
+
+        int[] result = new int[contexts.size()];
+        int i = 0;
+        for (ArtObjectContext<?> context : contexts) {
+            Integer index = indices.get(context);
+            if (index == null) return null;
+            result[i++] = index;
+        }
+
+        return result;
+    }
+
+    private static Optional<File> jarFile(@Nullable URL location) {
+
+        if (location == null || !"file".equals(location.getProtocol())) return Optional.empty();
+
+        try {
+            File file = new File(location.toURI());
+            return file.isFile() ? Optional.of(file) : Optional.empty();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    static String hash(Collection<String> input) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String line : input) {
+                digest.update(String.valueOf(line).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void read() {
+
+        if (!file.exists()) return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                log.info("discarding outdated art snapshot " + file.getAbsolutePath());
+                return;
+            }
+
+            int entryCount = readCount(in);
+            for (int i = 0; i < entryCount; i++) {
+                String storageKey = readString(in);
+                String inputHash = readString(in);
+
+                int lineCount = readCount(in);
+                List<ParsedLine> lines = new ArrayList<>(lineCount);
+                for (int j = 0; j < lineCount; j++) {
+                    lines.add(new ParsedLine(readString(in), readString(in), readString(in), readPairs(in), readPairs(in)));
+                }
+
+                int[][] requirements = new int[lineCount][];
+                int[][] actions = new int[lineCount][];
+                for (int j = 0; j < lineCount; j++) {
+                    requirements[j] = readIndices(in);
+                    actions[j] = readIndices(in);
+                }
+                int[] roots = readIndices(in);
+
+                int jarCount = readCount(in);
+                List<Jar> jars = new ArrayList<>(jarCount);
+                for (int j = 0; j < jarCount; j++) {
+                    jars.add(new Jar(readString(in), in.readLong(), in.readLong()));
+                }
+
+                entries.put(storageKey, new Entry(inputHash, ImmutableList.copyOf(lines), requirements, actions, roots, jars));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warning("discarding corrupt art snapshot " + file.getAbsolutePath() + ": " + e.getMessage());
+            entries.clear();
+        }
+    }
+
+    private synchronized void write() {
+
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+
+        Map<String, Entry> snapshot = new LinkedHashMap<>();
+        for (String storageKey : usedKeys) {
+            Entry entry = entries.get(storageKey);
+            if (entry != null) snapshot.put(storageKey, entry);
+        }
+
+        File tempFile = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(snapshot.size());
+            for (Map.Entry<String, Entry> mapEntry : snapshot.entrySet()) {
+                Entry entry = mapEntry.getValue();
+                writeString(out, mapEntry.getKey());
+                writeString(out, entry.inputHash);
+
+                out.writeInt(entry.lines.size());
+                for (ParsedLine line : entry.lines) {
+                    writeString(out, line.typeIdentifier());
+                    writeString(out, line.identifier());
+                    writeString(out, line.className());
+                    writePairs(out, line.config());
+                    writePairs(out, line.userConfig());
+                }
+
+                for (int i = 0; i < entry.lines.size(); i++) {
+                    writeIndices(out, entry.requirements[i]);
+                    writeIndices(out, entry.actions[i]);
+                }
+                writeIndices(out, entry.roots);
+
+                out.writeInt(entry.jars.size());
+                for (Jar jar : entry.jars) {
+                    writeString(out, jar.path);
+                    out.writeLong(jar.length);
+                    out.writeLong(jar.lastModified);
+                }
+            }
+        } catch (IOException e) {
+            log.warning("unable to write art snapshot " + file.getAbsolutePath() + ": " + e.getMessage());
+            tempFile.delete();
+            return;
+        }
+
+        try {
+            try {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warning("unable to replace art snapshot " + file.getAbsolutePath() + ": " + e.getMessage());
+            tempFile.delete();
+        }
+    }
+
+    // validates counts and lengths against the remaining bytes to fail fast on corrupt files instead of allocating huge arrays
+    private static int readCount(DataInputStream in) throws IOException {
+
+        int count = in.readInt();
+        if (count > in.available()) throw new EOFException("invalid length " + count);
+        return count;
+    }
+
+    @Nullable
+    private static String readString(DataInputStream in) throws IOException {
+
+        int length = readCount(in);
+        if (length < 0) return null;
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, @Nullable String value) throws IOException {
+
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Nullable
+    private static List<KeyValuePair> readPairs(DataInputStream in) throws IOException {
+
+        int count = readCount(in);
+        if (count < 0) return null;
+
+        List<KeyValuePair> pairs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pairs.add(KeyValuePair.of(readString(in), readString(in)));
+        }
+        return pairs;
+    }
+
+    private static void writePairs(DataOutputStream out, @Nullable List<KeyValuePair> pairs) throws IOException {
+
+        if (pairs == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        out.writeInt(pairs.size());
+        for (KeyValuePair pair : pairs) {
+            writeString(out, pair.key().orElse(null));
+            writeString(out, pair.value().orElse(null));
+        }
+    }
+
+    private static int[] readIndices(DataInputStream in) throws IOException {
+
+        int[] indices = new int[readCount(in)];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = in.readInt();
+        }
+        return indices;
+    }
+
+    private static void writeIndices(DataOutputStream out, int[] indices) throws IOException {
+
+        out.writeInt(indices.length);
+        for (int index : indices) {
+            out.writeInt(index);
+        }
+    }
+
+    /**
+     * A line of art that was matched by its flow line parser and whose configs were parsed into key value pairs.
+     */
+    @Value
+    @Accessors(fluent = true)
+    public static class ParsedLine {
+
+        /**
+         * The type identifier of the flow line parser that parsed the line, e.g. {@code !} for actions.
+         */
+        String typeIdentifier;
+        String identifier;
+        /**
+         * The name of the art object class of the factory that was resolved for the identifier.
+         */
+        String className;
+        /**
+         * The key value pairs of the context config or null if the line has no context config.
+         */
+        @Nullable
+        List<KeyValuePair> config;
+        /**
+         * The key value pairs of the art object config or null if the line has no art object config.
+         */
+        @Nullable
+        List<KeyValuePair> userConfig;
+    }
+
+    private static final class Entry {
+
+        private final String inputHash;
+        private final List<ParsedLine> lines;
+        // the indices of the lines that were nested into the line with the same index
+        private final int[][] requirements;
+        private final int[][] actions;
+        private final int[] roots;
+        private final List<Jar> jars;
+
+        private Entry(String inputHash, List<ParsedLine> lines, int[][] requirements, int[][] actions, int[] roots, List<Jar> jars) {
+            this.inputHash = inputHash;
+            this.lines = lines;
+            this.requirements = requirements;
+            this.actions = actions;
+            this.roots = roots;
+            this.jars = jars;
+        }
+
+        private boolean jarsUnchanged() {
+
+            for (Jar jar : jars) {
+                File file = new File(jar.path);
+                if (file.length() != jar.length || file.lastModified() != jar.lastModified) return false;
+            }
+            return true;
+        }
+    }
+
+    private static final class Jar {
+
+        private final String path;
+        private final long length;
+        private final long lastModified;
+
+        private Jar(String path, long length, long lastModified) {
+            this.path = path;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -20,12 +20,17 @@ import io.artframework.ArtContext;
 import io.artframework.ArtObjectContext;
 import io.artframework.ParseException;
 import io.artframework.Scope;
+import io.artframework.StartupProfiler;
+import io.artframework.conf.Constants;
+import io.artframework.jfr.ParseEvent;
 import io.artframework.parser.Parser;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
+import javax.annotation.Nullable;
+import java.io.File;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -35,7 +40,7 @@ public final class FlowParser implements Parser<Collection<String>> {
     private final Scope scope;
     @Setter
     @Getter
-    private String storageKey = UUID.randomUUID().toString();
+    private String storageKey = Constants.Storage.generatedKey();
 
     public FlowParser(Scope scope) {
         this.scope = scope;
@@ -53,7 +58,43 @@ public final class FlowParser implements Parser<Collection<String>> {
             return ArtContext.empty();
         }
 
-        Collection<ArtObjectContext<?>> contexts = new ArrayList<>();
+        ParseEvent event = ParseEvent.start();
+        boolean success = false;
+        // random storage keys are recorded under one name to not create an entry for every parse
+        String profileName = Constants.Storage.isGeneratedKey(storageKey()) ? Constants.Storage.GENERATED_KEYS : storageKey();
+        try (StartupProfiler.Timer timer = scope().profiler().start(StartupProfiler.PARSE, profileName)) {
+            ArtSnapshot snapshot = snapshot();
+            if (snapshot != null) {
+                Optional<ArtContext> restored = snapshot.restore(scope(), storageKey(), input, configuration().parser().all(input.iterator(), scope()));
+                if (restored.isPresent()) {
+                    success = true;
+                    return restored.get();
+                }
+            }
+
+            ArtContext context = parseLines(input, snapshot);
+            success = true;
+            return context;
+        } finally {
+            ParseEvent.commit(event, storageKey(), input.size(), success);
+        }
+    }
+
+    /**
+     * @return the art snapshot of the scope or null if the art has a generated storage key or snapshots are disabled
+     */
+    @Nullable
+    private ArtSnapshot snapshot() {
+
+        if (!scope().settings().snapshotArt() || Constants.Storage.isGeneratedKey(storageKey())) return null;
+
+        return ArtSnapshot.of(new File(scope().settings().cachePath(), ArtSnapshot.FILE_NAME));
+    }
+
+    private ArtContext parseLines(Collection<String> input, @Nullable ArtSnapshot snapshot) throws ParseException {
+
+        List<ArtObjectContext<?>> contexts = new ArrayList<>();
+        List<ArtSnapshot.ParsedLine> parsedLines = new ArrayList<>();
 
         Iterator<String> iterator = input.iterator();
         Collection<FlowLineParser> parsers = configuration().parser().all(iterator, scope);
@@ -68,6 +109,7 @@ public final class FlowParser implements Parser<Collection<String>> {
                     if (parser.accept(line)) {
                         matched = true;
                         contexts.add(parser.parse().storageKey(storageKey()));
+                        parsedLines.add(parser instanceof ArtObjectContextLineParser ? ((ArtObjectContextLineParser<?>) parser).parsedLine() : null);
                         break;
                     }
                 } catch (ParseException e) {
@@ -82,9 +124,12 @@ public final class FlowParser implements Parser<Collection<String>> {
             lineCount++;
         }
 
-        contexts = sortAndCombineArtContexts(contexts.stream().filter(Objects::nonNull).collect(Collectors.toList()));
+        Collection<ArtObjectContext<?>> result = sortAndCombineArtContexts(contexts.stream().filter(Objects::nonNull).collect(Collectors.toList()));
+        if (snapshot != null) {
+            snapshot.put(storageKey(), input, parsedLines, contexts, result);
+        }
 
-        return ArtContext.of(scope, scope().settings().artSettings(), contexts);
+        return ArtContext.of(scope, scope().settings().artSettings(), result);
     }
 
     Collection<ArtObjectContext<?>> sortAndCombineArtContexts(Collection<ArtObjectContext<?>> contexts) {
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.processor;
+
+import io.artframework.*;
+import io.artframework.annotations.ArtModule;
+import io.artframework.util.ArtIndex;
+
+import javax.annotation.Nullable;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates the {@link ArtIndex} of all art classes at compile time.
+ * <p>The index is written to {@value ArtIndex#INDEX_FILE} and allows the finders
+ * to load all art classes of a jar file without scanning all of its classes.
+ * It also contains the {@link ArtIndex#TARGET target} and {@link ArtIndex#CONFIG config} types of every art object,
+ * which the meta of the art object uses instead of resolving the generic type arguments of the class.
+ * <p>The processor is opt-in and is not registered in the api jar.
+ * Add the api jar with the {@code processor} classifier to the annotation processor path of your module to generate the index:
+ * <pre>{@code
+ * dependencies {
+ *     annotationProcessor "io.art-framework:api:<version>:processor"
+ * }
+ * }</pre>
+ */
+@SupportedAnnotationTypes("*")
+public class ArtIndexProcessor extends AbstractProcessor {
+
+    private static final List<Class<?>> INDEXED_TYPES = Arrays.asList(
+            ArtObject.class,
+            Target.class,
+            Resolver.class,
+            Replacement.class
+    );
+
+    private final Map<String, Set<String>> index = new TreeMap<>();
+    private final Map<String, Map<String, String>> attributes = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (Element element : roundEnv.getRootElements()) {
+            indexElement(element);
+        }
+
+        // never claim any annotations to allow other processors to run
+        return false;
+    }
+
+    private void indexElement(Element element) {
+
+        if (!(element instanceof TypeElement)) return;
+
+        TypeElement typeElement = (TypeElement) element;
+        if (typeElement.getKind() == ElementKind.CLASS && !typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            String binaryName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+
+            if (typeElement.getAnnotation(ArtModule.class) != null) {
+                add(ArtIndex.key(ArtModule.class), binaryName);
+            }
+
+            TypeMirror type = typeElement.asType();
+            for (Class<?> indexedType : INDEXED_TYPES) {
+                if (isAssignable(type, indexedType)) {
+                    add(ArtIndex.key(indexedType), binaryName);
+                }
+            }
+
+            if (isAssignable(type, ArtObject.class)) {
+                indexTypes(typeElement, binaryName);
+            }
+        }
+
+        for (Element enclosedElement : typeElement.getEnclosedElements()) {
+            indexElement(enclosedElement);
+        }
+    }
+
+    private void indexTypes(TypeElement typeElement, String binaryName) {
+
+        // generic actions, requirements and triggers always target objects
+        if (!isAssignable(typeElement.asType(), GenericAction.class)
+                && !isAssignable(typeElement.asType(), GenericRequirement.class)
+                && !isAssignable(typeElement.asType(), Trigger.class)) {
+            String target = typeArgument(typeElement.asType(), Action.class);
+            if (target == null) target = typeArgument(typeElement.asType(), Requirement.class);
+            if (target != null) attribute(ArtIndex.TARGET, binaryName, target);
+        }
+
+        if (isAssignable(typeElement.asType(), Configurable.class)) {
+            String config = typeArgument(typeElement.asType(), Configurable.class);
+            if (config != null) attribute(ArtIndex.CONFIG, binaryName, config);
+        } else {
+            attribute(ArtIndex.CONFIG, binaryName, binaryName);
+        }
+    }
+
+    private boolean isAssignable(TypeMirror type, Class<?> superType) {
+
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(superType.getCanonicalName());
+        if (element == null) return false;
+
+        Types types = processingEnv.getTypeUtils();
+        return types.isAssignable(types.erasure(type), types.erasure(element.asType()));
+    }
+
+    /**
+     * Finds the binary name of the first type argument of the given interface in the type hierarchy of the type.
+     *
+     * @return the binary name of the type argument or null if the type does not implement the interface
+     *         or if the type argument is not a concrete class, e.g. a type variable
+     */
+    @Nullable
+    private String typeArgument(TypeMirror type, Class<?> interfaceType) {
+
+        for (TypeMirror superType : processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (!(superType instanceof DeclaredType)) continue;
+
+            DeclaredType declaredType = (DeclaredType) superType;
+            TypeElement element = (TypeElement) declaredType.asElement();
+            if (element.getQualifiedName().contentEquals(interfaceType.getCanonicalName())) {
+                if (declaredType.getTypeArguments().isEmpty()) return null;
+
+                TypeMirror argument = declaredType.getTypeArguments().get(0);
+                if (argument.getKind() != TypeKind.DECLARED) return null;
+
+                return processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) argument).asElement()).toString();
+            }
+
+            String argument = typeArgument(superType, interfaceType);
+            if (argument != null) return argument;
+        }
+
+        return null;
+    }
+
+    private void attribute(String attribute, String className, String value) {
+
+        attributes.computeIfAbsent(attribute, k -> new TreeMap<>()).put(className, value);
+    }
+
+    private void add(String key, String className) {
+
+        index.computeIfAbsent(key, k -> new TreeSet<>()).add(className);
+    }
+
+    private void writeIndex() {
+
+        if (index.isEmpty()) return;
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ArtIndex.INDEX_FILE);
+            try (Writer writer = file.openWriter()) {
+                writer.write("# generated by the art-framework, do not edit\n");
+                for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+                    for (String className : entry.getValue()) {
+                        writer.write(entry.getKey() + " " + className + "\n");
+                    }
+                }
+                for (Map.Entry<String, Map<String, String>> attribute : attributes.entrySet()) {
+                    for (Map.Entry<String, String> entry : attribute.getValue().entrySet()) {
+                        writer.write("!" + attribute.getKey() + " " + entry.getKey() + " " + entry.getValue() + "\n");
+                    }
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "unable to write the art index: " + e.getMessage());
+        }
+    }
+}
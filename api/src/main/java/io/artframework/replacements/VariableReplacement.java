@@ -27,4 +27,10 @@ public class VariableReplacement implements Replacement {
 
         return value;
     }
+
+    @Override
+    public boolean canReplace(String value) {
+
+        return value != null && value.contains("${");
+    }
 }
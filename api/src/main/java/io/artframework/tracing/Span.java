@@ -0,0 +1,193 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.tracing;
+
+import io.artframework.*;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * A single hop of a sampled {@link Trace}, e.g. the execution of a trigger, the test of a requirement
+ * or the execution of an action.
+ * <p>Spans form a tree with the trigger that started the trace as its root.
+ * All spans of a trace are guarded by the lock of the trace, because delayed continuations
+ * may add new spans after the root span finished.
+ */
+@Accessors(fluent = true)
+public final class Span {
+
+    @Getter
+    private final Trace trace;
+    /**
+     * The type of the span, e.g. {@code trigger}, {@code requirement} or {@code action}.
+     */
+    @Getter
+    private final String type;
+    /**
+     * The identifier of the art object, e.g. {@code give-item}.
+     */
+    @Getter
+    private final String identifier;
+    /**
+     * The storage key of the art object context.
+     */
+    @Getter
+    private final String storageKey;
+    /**
+     * The unique id of the target or null if the span has no target.
+     */
+    @Nullable
+    @Getter
+    private final String target;
+    /**
+     * True if this span is a delayed continuation of its parent span.
+     */
+    @Getter
+    private final boolean delayed;
+    /**
+     * The start of the span in nanoseconds relative to the start of the trace.
+     */
+    @Getter
+    private final long startNanos;
+    private long durationNanos = -1;
+    @Nullable
+    private ResultStatus status;
+    private final Map<String, String> config = new LinkedHashMap<>();
+    private final List<Span> children = new ArrayList<>();
+
+    Span(Trace trace, ArtObjectContext<?> context, @Nullable Target<?> target, boolean delayed) {
+        this.trace = trace;
+        this.type = type(context);
+        this.identifier = context.meta().identifier();
+        this.storageKey = context.storageKey();
+        this.target = target != null ? target.uniqueId() : null;
+        this.delayed = delayed;
+        this.startNanos = System.nanoTime() - trace.startNanos();
+    }
+
+    /**
+     * @return the duration of the span in nanoseconds or -1 if the span has not finished yet
+     */
+    public long durationNanos() {
+
+        synchronized (trace) {
+            return durationNanos;
+        }
+    }
+
+    /**
+     * @return the result status of the span or null if the span has not finished yet
+     *         or was suspended by a delayed continuation
+     */
+    @Nullable
+    public ResultStatus status() {
+
+        synchronized (trace) {
+            return status;
+        }
+    }
+
+    /**
+     * @return a copy of the resolved config values of the art object
+     */
+    public Map<String, String> config() {
+
+        synchronized (trace) {
+            return new LinkedHashMap<>(config);
+        }
+    }
+
+    /**
+     * @return a copy of the direct child spans in the order they were started
+     */
+    public List<Span> children() {
+
+        synchronized (trace) {
+            return new ArrayList<>(children);
+        }
+    }
+
+    /**
+     * @return true if the span finished and has a duration
+     */
+    public boolean finished() {
+
+        return durationNanos() >= 0;
+    }
+
+    void add(Span child) {
+
+        children.add(child);
+    }
+
+    void finish(@Nullable ResultStatus status) {
+
+        this.durationNanos = System.nanoTime() - trace.startNanos() - startNanos;
+        this.status = status;
+    }
+
+    void config(Map<String, Object> values) {
+
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            config.put(entry.getKey(), toString(entry.getValue()));
+        }
+    }
+
+    Map<String, Object> toMap() {
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("type", type);
+        map.put("identifier", identifier);
+        map.put("storageKey", storageKey);
+        map.put("target", target);
+        map.put("delayed", delayed);
+        map.put("startNanos", startNanos);
+        map.put("durationNanos", durationNanos);
+        map.put("status", status != null ? status.name() : null);
+        map.put("config", new LinkedHashMap<>(config));
+        List<Map<String, Object>> childMaps = new ArrayList<>();
+        for (Span child : children) {
+            childMaps.add(child.toMap());
+        }
+        map.put("children", childMaps);
+
+        return map;
+    }
+
+    private static String type(ArtObjectContext<?> context) {
+
+        if (context instanceof TriggerContext) return "trigger";
+        if (context instanceof RequirementContext) return "requirement";
+        if (context instanceof ActionContext) return "action";
+
+        return "art";
+    }
+
+    // resolved config values may be any object, e.g. a player, that cannot be serialized to json
+    private static String toString(@Nullable Object value) {
+
+        if (value instanceof Object[]) {
+            return Arrays.deepToString((Object[]) value);
+        }
+
+        return String.valueOf(value);
+    }
+}
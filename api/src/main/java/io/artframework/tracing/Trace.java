@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.tracing;
+
+import io.artframework.ArtObjectContext;
+import io.artframework.ResultStatus;
+import io.artframework.Target;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * A sampled trace of a single trigger execution and everything that was executed because of it:
+ * the requirement tests, actions, nested actions and delayed continuations of those actions.
+ * <p>The trace keeps a stack of open spans. New spans are added as children of the span
+ * that is currently open, which follows the synchronous execution of nested art objects.
+ * Delayed continuations are {@link #resume(Span, ArtObjectContext, Target) resumed} with
+ * their parent span, because the parent already finished when the continuation runs.
+ */
+@Accessors(fluent = true)
+public final class Trace {
+
+    /**
+     * The sequential id of the trace.
+     */
+    @Getter
+    private final long id;
+    /**
+     * The time the trace started in milliseconds since the epoch.
+     */
+    @Getter
+    private final long timestamp;
+    @Getter(AccessLevel.PACKAGE)
+    private final long startNanos;
+    /**
+     * The span of the trigger that started the trace.
+     */
+    @Getter
+    private final Span root;
+    private final Deque<Span> open = new ArrayDeque<>();
+
+    /**
+     * Starts a new trace with a root span for the given context.
+     *
+     * @param id the sequential id of the trace
+     * @param context the context that started the trace, e.g. a trigger context
+     * @param target the target of the execution. can be null.
+     */
+    public Trace(long id, @NonNull ArtObjectContext<?> context, @Nullable Target<?> target) {
+        this.id = id;
+        this.timestamp = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+        this.root = new Span(this, context, target, false);
+        this.open.push(root);
+    }
+
+    /**
+     * Starts a new span as a child of the span that is currently open.
+     *
+     * @param context the context that is executed
+     * @param target the target of the execution. can be null.
+     * @return the started span
+     */
+    public synchronized Span start(@NonNull ArtObjectContext<?> context, @Nullable Target<?> target) {
+
+        Span parent = open.isEmpty() ? root : open.peek();
+        Span span = new Span(this, context, target, false);
+        parent.add(span);
+        open.push(span);
+
+        return span;
+    }
+
+    /**
+     * Starts a delayed continuation of the given span, e.g. an action that was scheduled with a delay.
+     *
+     * @param parent the span that scheduled the continuation
+     * @param context the context that is executed
+     * @param target the target of the execution. can be null.
+     * @return the started span
+     */
+    public synchronized Span resume(@NonNull Span parent, @NonNull ArtObjectContext<?> context, @Nullable Target<?> target) {
+
+        Span span = new Span(this, context, target, true);
+        parent.add(span);
+        open.push(span);
+
+        return span;
+    }
+
+    /**
+     * Finishes the given span and all spans that were started after it and are still open.
+     *
+     * @param span the span to finish
+     * @param status the result status of the span. null if the result is only known by a delayed continuation.
+     */
+    public synchronized void finish(@NonNull Span span, @Nullable ResultStatus status) {
+
+        if (!open.contains(span)) return;
+
+        Span current;
+        do {
+            current = open.pop();
+            if (current == span) {
+                current.finish(status);
+            } else {
+                // a nested span was never finished, e.g. because of an exception
+                current.finish(ResultStatus.ERROR);
+            }
+        } while (current != span);
+    }
+
+    /**
+     * Records the resolved config values of the art object of the span that is currently open.
+     *
+     * @param values the resolved config values
+     */
+    public synchronized void config(@NonNull Map<String, Object> values) {
+
+        Span span = open.peek();
+        if (span != null) span.config(values);
+    }
+
+    /**
+     * @return true if any span of the trace is still open
+     */
+    public synchronized boolean active() {
+
+        return !open.isEmpty();
+    }
+
+    /**
+     * @return the trace and all of its spans as a map that can be serialized to json
+     */
+    public synchronized Map<String, Object> toMap() {
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", id);
+        map.put("timestamp", timestamp);
+        map.put("root", root.toMap());
+
+        return map;
+    }
+}
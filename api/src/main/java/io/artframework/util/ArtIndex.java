@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.util;
+
+import lombok.NonNull;
+import lombok.extern.java.Log;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+/**
+ * The index of all art classes inside a jar file or source root
+ * that was generated at compile time by the {@link io.artframework.processor.ArtIndexProcessor}.
+ * <p>Every line of the index contains a key and the binary name of a class separated by a space, e.g.:
+ * <pre>{@code
+ * io.artframework.ArtObject com.example.MyAction
+ * @io.artframework.annotations.ArtModule com.example.MyModule
+ * }</pre>
+ * The key is either the name of the type the class implements or the name of the annotation prefixed with an {@code @}.
+ * <p>Attributes of an indexed class are stored in lines prefixed with an {@code !},
+ * followed by the name of the attribute, the binary name of the class and the value, e.g.:
+ * <pre>{@code
+ * !target com.example.MyAction org.bukkit.entity.Player
+ * !config com.example.MyAction com.example.MyAction
+ * }</pre>
+ * The {@link #TARGET} and {@link #CONFIG} attributes allow the meta of an art object
+ * to be initialized without resolving the generic type arguments of its class with reflection.
+ */
+@Log(topic = "art-framework")
+public final class ArtIndex {
+
+    public static final String INDEX_FILE = "META-INF/art-framework/index";
+    /**
+     * The attribute containing the binary name of the target type of an action or requirement.
+     */
+    public static final String TARGET = "target";
+    /**
+     * The attribute containing the binary name of the config class of an art object.
+     */
+    public static final String CONFIG = "config";
+
+    private static final Map<URL, Optional<ArtIndex>> LOCATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the art index of the jar file or directory at the given code source location.
+     * <p>The index of every location is only read once until the {@link #clearCache() cache is cleared}.
+     *
+     * @param location the code source location of a class
+     * @return the index or an empty optional if the location does not contain an index
+     */
+    public static Optional<ArtIndex> of(@Nullable URL location) {
+
+        if (location == null) return Optional.empty();
+
+        return LOCATIONS.computeIfAbsent(location, url -> {
+            try {
+                return of(new File(url.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    /**
+     * Removes all indexes that were read by {@link #of(URL)}.
+     * <p>The scope does this after all modules have been enabled.
+     */
+    public static void clearCache() {
+
+        LOCATIONS.clear();
+    }
+
+    /**
+     * Reads the art index of the given jar file or source root.
+     *
+     * @param file the jar file or directory that contains the index
+     * @return the index or an empty optional if the file does not contain an index
+     */
+    public static Optional<ArtIndex> of(@NonNull File file) {
+
+        try {
+            if (file.isDirectory()) {
+                File indexFile = new File(file, INDEX_FILE);
+                if (!indexFile.exists()) return Optional.empty();
+                try (InputStream inputStream = new FileInputStream(indexFile)) {
+                    return Optional.of(read(inputStream));
+                }
+            } else if (file.isFile() && file.getName().endsWith(".jar")) {
+                try (JarFile jarFile = new JarFile(file)) {
+                    ZipEntry entry = jarFile.getEntry(INDEX_FILE);
+                    if (entry == null) return Optional.empty();
+                    try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                        return Optional.of(read(inputStream));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warning("unable to read art index of " + file.getAbsolutePath() + ": " + e.getMessage());
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the index from the given input stream.
+     *
+     * @param inputStream the stream containing the index. will not be closed.
+     * @return the parsed index
+     * @throws IOException if the stream cannot be read
+     */
+    public static ArtIndex read(@NonNull InputStream inputStream) throws IOException {
+
+        Map<String, List<String>> classes = new HashMap<>();
+        Map<String, Map<String, String>> attributes = new HashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            if (line.startsWith("!")) {
+                String[] parts = line.substring(1).split(" ");
+                if (parts.length == 3) {
+                    attributes.computeIfAbsent(parts[0], key -> new HashMap<>()).put(parts[1], parts[2]);
+                }
+                continue;
+            }
+
+            int separator = line.indexOf(' ');
+            if (separator < 1) continue;
+
+            classes.computeIfAbsent(line.substring(0, separator), key -> new ArrayList<>())
+                    .add(line.substring(separator + 1).trim());
+        }
+
+        return new ArtIndex(classes, attributes);
+    }
+
+    /**
+     * Creates the index key for classes that implement or extend the given type.
+     *
+     * @param type the type the indexed classes implement
+     * @return the key of the type
+     */
+    public static String key(@NonNull Class<?> type) {
+
+        return type.isAnnotation() ? "@" + type.getName() : type.getName();
+    }
+
+    private final Map<String, List<String>> classes;
+    private final Map<String, Map<String, String>> attributes;
+
+    private ArtIndex(Map<String, List<String>> classes, Map<String, Map<String, String>> attributes) {
+        this.classes = classes;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Gets the binary names of all indexed classes with the given key.
+     *
+     * @param key the key of the classes, see {@link #key(Class)}
+     * @return the binary names of all indexed classes. can be empty.
+     */
+    public List<String> classes(@NonNull String key) {
+
+        return Collections.unmodifiableList(classes.getOrDefault(key, Collections.emptyList()));
+    }
+
+    /**
+     * Gets the value of an attribute of the given indexed class.
+     *
+     * @param attribute the name of the attribute, e.g. {@link #TARGET}
+     * @param className the binary name of the indexed class
+     * @return the value of the attribute or an empty optional if the class has no value for the attribute
+     */
+    public Optional<String> attribute(@NonNull String attribute, @NonNull String className) {
+
+        return Optional.ofNullable(attributes.getOrDefault(attribute, Collections.emptyMap()).get(className));
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.util;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import javax.annotation.Nullable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Reads the constant pool of class files without loading the classes.
+ * <p>This is used to find all classes that could be relevant for the art-framework
+ * before loading them with a class loader, which is a lot more expensive.
+ * A class is relevant if it references any type of the art-framework,
+ * e.g. the {@code @ART} or {@code @ArtModule} annotation or the {@code ArtObject} interface.
+ */
+public final class ClassFileScanner {
+
+    static final int MAGIC = 0xCAFEBABE;
+    static final String ART_PACKAGE = "io/artframework/";
+    private static final byte[] ART_PACKAGE_BYTES = ART_PACKAGE.getBytes(StandardCharsets.US_ASCII);
+
+    private ClassFileScanner() {
+
+    }
+
+    /**
+     * Reads the header and constant pool of the given class file.
+     *
+     * @param inputStream the stream of the class file. will not be closed.
+     * @return the information of the class file or an empty optional if the stream is no valid class file
+     * @throws IOException if the stream cannot be read
+     */
+    public static Optional<ClassFileInfo> scan(@NonNull InputStream inputStream) throws IOException {
+
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) return Optional.empty();
+
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+
+        int constantPoolCount = in.readUnsignedShort();
+        // the utf8 entries are only decoded if they are referenced as a class name
+        byte[][] utf8 = new byte[constantPoolCount][];
+        int[] classes = new int[constantPoolCount];
+        boolean referencesArt = false;
+
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // utf8
+                    byte[] bytes = new byte[in.readUnsignedShort()];
+                    in.readFully(bytes);
+                    if (!referencesArt && contains(bytes, ART_PACKAGE_BYTES)) {
+                        referencesArt = true;
+                    }
+                    utf8[i] = bytes;
+                    break;
+                case 7: // class
+                    classes[i] = in.readUnsignedShort();
+                    break;
+                case 8: // string
+                case 16: // method type
+                case 19: // module
+                case 20: // package
+                    in.skipBytes(2);
+                    break;
+                case 15: // method handle
+                    in.skipBytes(3);
+                    break;
+                case 3: // integer
+                case 4: // float
+                case 9: // field ref
+                case 10: // method ref
+                case 11: // interface method ref
+                case 12: // name and type
+                case 17: // dynamic
+                case 18: // invoke dynamic
+                    in.skipBytes(4);
+                    break;
+                case 5: // long
+                case 6: // double
+                    in.skipBytes(8);
+                    i++; // long and double take two constant pool slots
+                    break;
+                default:
+                    return Optional.empty();
+            }
+        }
+
+        in.readUnsignedShort(); // access flags
+        String className = className(utf8, classes, in.readUnsignedShort());
+        String superClassName = className(utf8, classes, in.readUnsignedShort());
+        int interfaceCount = in.readUnsignedShort();
+        List<String> interfaces = new ArrayList<>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaces.add(className(utf8, classes, in.readUnsignedShort()));
+        }
+
+        if (className == null) return Optional.empty();
+
+        return Optional.of(new ClassFileInfo(className, superClassName, interfaces, referencesArt));
+    }
+
+    /**
+     * Filters the given class files and returns the binary names of all classes
+     * that reference the art-framework either directly or through one of their super types.
+     * <p>Super classes that are not part of the given class files and not part of the jdk are treated as relevant,
+     * because they could reference the art-framework themselves.
+     *
+     * @param classFiles all class files of a jar or source root
+     * @return the binary names of all classes that should be loaded, e.g. {@code io.artframework.ArtObject}
+     */
+    public static List<String> relevantClassNames(@NonNull Collection<ClassFileInfo> classFiles) {
+
+        Map<String, ClassFileInfo> classMap = new HashMap<>();
+        for (ClassFileInfo classFile : classFiles) {
+            classMap.put(classFile.className(), classFile);
+        }
+
+        Map<String, Boolean> relevant = new HashMap<>();
+        List<String> classNames = new ArrayList<>();
+        for (ClassFileInfo classFile : classFiles) {
+            if (isRelevant(classFile, classMap, relevant, new HashSet<>())) {
+                classNames.add(classFile.className().replace('/', '.'));
+            }
+        }
+
+        return classNames;
+    }
+
+    private static boolean isRelevant(ClassFileInfo classFile, Map<String, ClassFileInfo> classMap, Map<String, Boolean> relevant, Set<String> visited) {
+
+        Boolean cached = relevant.get(classFile.className());
+        if (cached != null) return cached;
+        if (!visited.add(classFile.className())) return false;
+
+        boolean result = classFile.referencesArt();
+        if (!result && classFile.superClassName() != null && !isJdkClass(classFile.superClassName())) {
+            ClassFileInfo superClass = classMap.get(classFile.superClassName());
+            result = superClass == null || isRelevant(superClass, classMap, relevant, visited);
+        }
+        if (!result) {
+            for (String interfaceName : classFile.interfaces()) {
+                ClassFileInfo superInterface = classMap.get(interfaceName);
+                if (superInterface != null && isRelevant(superInterface, classMap, relevant, visited)) {
+                    result = true;
+                    break;
+                }
+            }
+        }
+
+        relevant.put(classFile.className(), result);
+        return result;
+    }
+
+    private static boolean isJdkClass(String className) {
+
+        return className.startsWith("java/") || className.startsWith("javax/") || className.startsWith("jdk/");
+    }
+
+    @Nullable
+    private static String className(byte[][] utf8, int[] classes, int index) {
+
+        if (index <= 0 || index >= classes.length || utf8[classes[index]] == null) return null;
+
+        return new String(utf8[classes[index]], StandardCharsets.UTF_8);
+    }
+
+    private static boolean contains(byte[] bytes, byte[] search) {
+
+        outer:
+        for (int i = 0; i <= bytes.length - search.length; i++) {
+            for (int j = 0; j < search.length; j++) {
+                if (bytes[i + j] != search[j]) continue outer;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * The information read from the header of a class file.
+     * All class names are in their internal form, e.g. {@code io/artframework/ArtObject}.
+     */
+    @Value
+    @Accessors(fluent = true)
+    public static class ClassFileInfo {
+
+        String className;
+        @Nullable
+        String superClassName;
+        List<String> interfaces;
+        /**
+         * True if any entry in the constant pool references a type of the art-framework.
+         */
+        boolean referencesArt;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.util;
+
+import com.google.common.collect.ImmutableList;
+import lombok.NonNull;
+import lombok.extern.java.Log;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A versioned binary snapshot of the class names that were found when scanning jar files.
+ * <p>Every entry is bound to the absolute path, size and modification time of the scanned jar.
+ * The entry is ignored and the jar must be scanned again if any of those changes.
+ * <p>Changes are only kept in memory until the cache is {@link #flush() flushed},
+ * which the scope does for all caches after all modules have been enabled.
+ * The cache file is read once per cache file. A corrupt cache file or a cache file of another version is discarded.
+ */
+@Log(topic = "art-framework")
+public final class ClassScanCache {
+
+    static final int MAGIC = 0x41525443;
+    static final int VERSION = 1;
+
+    private static final Map<File, ClassScanCache> CACHES = new ConcurrentHashMap<>();
+
+    /**
+     * Writes all class scan caches that changed since they were read or last flushed to disk.
+     */
+    public static void flushAll() {
+
+        CACHES.values().forEach(ClassScanCache::flush);
+    }
+
+    /**
+     * Gets or loads the class scan cache that is stored in the given file.
+     *
+     * @param file the file of the cache. does not need to exist.
+     * @return the cache that is backed by the given file
+     */
+    public static ClassScanCache of(@NonNull File file) {
+
+        return CACHES.computeIfAbsent(file.getAbsoluteFile(), ClassScanCache::new);
+    }
+
+    private final File file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    ClassScanCache(File file) {
+        this.file = file;
+
+        read();
+    }
+
+    /**
+     * Gets the cached class names of the given jar for the given scan key.
+     *
+     * @param source the jar file that was scanned
+     * @param key the key of the scan, e.g. the name of the type that was searched
+     * @return the cached class names or an empty optional if the jar changed or was never scanned
+     */
+    public Optional<List<String>> get(@NonNull File source, @NonNull String key) {
+
+        Entry entry = entries.get(entryKey(source, key));
+        if (entry == null || entry.length != source.length() || entry.lastModified != source.lastModified()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(entry.classNames);
+    }
+
+    /**
+     * Stores the found class names for the given jar and scan key.
+     * <p>The entry is written to disk with the next {@link #flush()}.
+     *
+     * @param source the jar file that was scanned
+     * @param key the key of the scan, e.g. the name of the type that was searched
+     * @param classNames the names of all classes that were found
+     */
+    public void put(@NonNull File source, @NonNull String key, @NonNull Collection<String> classNames) {
+
+        entries.put(entryKey(source, key), new Entry(
+                source.getAbsolutePath(),
+                key,
+                source.length(),
+                source.lastModified(),
+                ImmutableList.copyOf(classNames)
+        ));
+        dirty.set(true);
+    }
+
+    /**
+     * Writes the cache to disk if any entry was added since it was read or last flushed.
+     */
+    public void flush() {
+
+        if (dirty.compareAndSet(true, false)) {
+            write();
+        }
+    }
+
+    /**
+     * Removes all cached entries and deletes the cache file.
+     */
+    public void clear() {
+
+        entries.clear();
+        dirty.set(false);
+        if (file.exists() && !file.delete()) {
+            log.warning("unable to delete class scan cache " + file.getAbsolutePath());
+        }
+    }
+
+    private static String entryKey(File source, String key) {
+
+        return source.getAbsolutePath() + "#" + key;
+    }
+
+    private void read() {
+
+        if (!file.exists()) return;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                log.info("discarding outdated class scan cache " + file.getAbsolutePath());
+                return;
+            }
+
+            int entryCount = in.readInt();
+            for (int i = 0; i < entryCount; i++) {
+                String path = in.readUTF();
+                String key = in.readUTF();
+                long length = in.readLong();
+                long lastModified = in.readLong();
+                int classCount = in.readInt();
+                List<String> classNames = new ArrayList<>(classCount);
+                for (int j = 0; j < classCount; j++) {
+                    classNames.add(in.readUTF());
+                }
+                entries.put(path + "#" + key, new Entry(path, key, length, lastModified, ImmutableList.copyOf(classNames)));
+            }
+        } catch (IOException e) {
+            log.warning("discarding corrupt class scan cache " + file.getAbsolutePath() + ": " + e.getMessage());
+            entries.clear();
+        }
+    }
+
+    private synchronized void write() {
+
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+
+        List<Entry> snapshot = new ArrayList<>(entries.values());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(snapshot.size());
+            for (Entry entry : snapshot) {
+                out.writeUTF(entry.path);
+                out.writeUTF(entry.key);
+                out.writeLong(entry.length);
+                out.writeLong(entry.lastModified);
+                out.writeInt(entry.classNames.size());
+                for (String className : entry.classNames) {
+                    out.writeUTF(className);
+                }
+            }
+        } catch (IOException e) {
+            log.warning("unable to write class scan cache " + file.getAbsolutePath() + ": " + e.getMessage());
+        }
+    }
+
+    private static final class Entry {
+
+        private final String path;
+        private final String key;
+        private final long length;
+        private final long lastModified;
+        private final List<String> classNames;
+
+        private Entry(String path, String key, long length, long lastModified, List<String> classNames) {
+            this.path = path;
+            this.key = key;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.classNames = classNames;
+        }
+    }
+}
@@ -19,17 +19,23 @@ package io.artframework.util;
 import com.google.common.collect.ImmutableList;
 import lombok.NonNull;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
-import java.util.jar.JarEntry;
-import java.util.jar.JarInputStream;
+import java.util.jar.JarFile;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class FileUtil {
 
@@ -58,6 +64,96 @@ public class FileUtil {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Finds all classes of the given type inside the file and uses the cache to skip the scanning of unchanged jar files.
+     *
+     * @param classLoader the parent class loader used to load the classes
+     * @param file the jar file or directory to scan
+     * @param clazz the type of the classes to find
+     * @param cache the cache that holds the results of previous scans
+     * @param <T> the type of the classes
+     * @return all classes of the given type found in the file
+     * @see #findClasses(ClassLoader, File, String, Predicate, ClassScanCache)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<Class<? extends T>> findClasses(
+            @NonNull final ClassLoader classLoader,
+            @NonNull final File file,
+            @NonNull final Class<T> clazz,
+            @NonNull final ClassScanCache cache
+    ) {
+
+        return findClasses(classLoader, file, clazz.getName(), clazz::isAssignableFrom, cache).stream()
+                .map(aClass -> (Class<T>) aClass.asSubclass(clazz))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds all classes matching the predicate inside the file and uses the cache to skip the scanning of unchanged jar files.
+     * <p>Only the cached classes of an unchanged jar file are loaded. Directories are always scanned.
+     *
+     * @param classLoader the parent class loader used to load the classes
+     * @param file the jar file or directory to scan
+     * @param cacheKey the unique key of the predicate used to store the scan result in the cache
+     * @param predicate the predicate the classes must match
+     * @param cache the cache that holds the results of previous scans
+     * @return all classes matching the predicate found in the file
+     */
+    public static List<Class<?>> findClasses(
+            @NonNull final ClassLoader classLoader,
+            @NonNull final File file,
+            @NonNull final String cacheKey,
+            @NonNull final Predicate<Class<?>> predicate,
+            @NonNull final ClassScanCache cache
+    ) {
+
+        if (!file.isFile() || !file.getName().endsWith(".jar")) {
+            return findClasses(classLoader, file, predicate);
+        }
+
+        Optional<List<String>> cachedClasses = cache.get(file, cacheKey);
+        if (cachedClasses.isPresent()) {
+            return loadClasses(classLoader, file, cachedClasses.get(), predicate);
+        }
+
+        List<Class<?>> classes = findClasses(classLoader, file, predicate);
+        cache.put(file, cacheKey, classes.stream().map(Class::getName).collect(Collectors.toList()));
+
+        return classes;
+    }
+
+    /**
+     * Finds all classes in the given files in parallel.
+     *
+     * @param classLoader the parent class loader used to load the classes
+     * @param files the jar files or directories to scan
+     * @param predicate the predicate the classes must match
+     * @return all classes matching the predicate found in any of the files
+     * @see #findClasses(ClassLoader, File, Predicate)
+     */
+    public static List<Class<?>> findClasses(
+            @NonNull final ClassLoader classLoader,
+            @NonNull final Collection<File> files,
+            @NonNull final Predicate<Class<?>> predicate
+    ) {
+
+        return files.parallelStream()
+                .map(file -> findClasses(classLoader, file, predicate))
+                .flatMap(Collection::stream)
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Finds all classes in the given jar file or directory that match the predicate.
+     * <p>Only classes that reference the art-framework, e.g. by implementing the {@code ArtObject} interface
+     * or by using one of the annotations, are loaded and tested.
+     * All other classes are skipped by reading their bytecode with the {@link ClassFileScanner}.
+     *
+     * @param classLoader the parent class loader used to load the classes
+     * @param file the jar file or directory to scan
+     * @param predicate the predicate the classes must match
+     * @return all classes matching the predicate
+     */
     public static List<Class<?>> findClasses(
             @NonNull final ClassLoader classLoader,
             @NonNull final File file,
@@ -74,39 +170,61 @@ public class FileUtil {
             return new ArrayList<>();
         }
 
-        final List<Class<?>> classes = new ArrayList<>();
-
-        try {
+        final List<ClassFileScanner.ClassFileInfo> classFiles;
 
-            final URL jar = file.toURI().toURL();
+        // the jar file reads the central directory instead of inflating every entry like a jar input stream
+        try (JarFile jarFile = new JarFile(file)) {
+            classFiles = jarFile.stream()
+                    .filter(entry -> !entry.isDirectory() && entry.getName().endsWith(".class"))
+                    .filter(entry -> !entry.getName().endsWith("module-info.class"))
+                    .parallel()
+                    .map(entry -> {
+                        try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                            return ClassFileScanner.scan(inputStream);
+                        } catch (IOException e) {
+                            return Optional.<ClassFileScanner.ClassFileInfo>empty();
+                        }
+                    })
+                    .flatMap(Optional::stream)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
 
-            final List<String> matches = new ArrayList<>();
+        return loadClasses(classLoader, file, ClassFileScanner.relevantClassNames(classFiles), predicate);
+    }
 
-            try (final JarInputStream stream = new JarInputStream(
-                    jar.openStream()); final URLClassLoader loader = new URLClassLoader(new URL[]{jar},
-                    classLoader)
-            ) {
-                JarEntry entry;
-                while ((entry = stream.getNextJarEntry()) != null) {
-                    final String name = entry.getName();
-                    if (name == null || name.isEmpty() || !name.endsWith(".class")) {
-                        continue;
-                    }
+    /**
+     * Loads the classes with the given names from the jar file or directory and returns all that match the predicate.
+     * <p>Classes that cannot be found or loaded are ignored.
+     *
+     * @param classLoader the parent class loader used to load the classes
+     * @param jarFile the jar file or directory that contains the classes
+     * @param classNames the binary names of the classes to load
+     * @param predicate the predicate the classes must match
+     * @return all loaded classes matching the predicate
+     */
+    public static List<Class<?>> loadClasses(
+            @NonNull final ClassLoader classLoader,
+            @NonNull final File jarFile,
+            @NonNull final Collection<String> classNames,
+            @NonNull final Predicate<Class<?>> predicate
+    ) {
 
-                    matches.add(name.substring(0, name.lastIndexOf('.')).replace('/', '.'));
-                }
+        final List<Class<?>> classes = new ArrayList<>();
 
-                for (final String match : matches) {
-                    try {
-                        final Class<?> loaded = loader.loadClass(match);
-                        if (predicate.test(loaded)) {
-                            classes.add(loaded);
-                        }
-                    } catch (final NoClassDefFoundError ignored) {
+        try (final URLClassLoader loader = new URLClassLoader(new URL[]{jarFile.toURI().toURL()}, classLoader)) {
+            for (final String className : classNames) {
+                try {
+                    final Class<?> loaded = loader.loadClass(className);
+                    if (predicate.test(loaded)) {
+                        classes.add(loaded);
                     }
+                } catch (final ClassNotFoundException | NoClassDefFoundError ignored) {
                 }
             }
-        } catch (IOException | ClassNotFoundException e) {
+        } catch (IOException e) {
             e.printStackTrace();
         }
 
@@ -118,23 +236,41 @@ public class FileUtil {
             @NonNull final File sourceRoot,
             @NonNull final Predicate<Class<?>> predicate
     ) {
-        File[] files = sourceRoot.listFiles();
 
-        if (files == null) return new ArrayList<>();
+        final List<ClassFileScanner.ClassFileInfo> classFiles;
+
+        try (Stream<Path> paths = Files.walk(sourceRoot.toPath())) {
+            classFiles = paths
+                    .filter(path -> path.getFileName().toString().endsWith(".class"))
+                    .filter(path -> !path.getFileName().toString().equals("module-info.class"))
+                    .filter(Files::isRegularFile)
+                    .parallel()
+                    .map(path -> {
+                        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+                            return ClassFileScanner.scan(inputStream);
+                        } catch (IOException e) {
+                            return Optional.<ClassFileScanner.ClassFileInfo>empty();
+                        }
+                    })
+                    .flatMap(Optional::stream)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
 
-        ArrayList<Class<?>> classes = new ArrayList<>();
+        final List<Class<?>> classes = new ArrayList<>();
 
-        List<String> classNames = getClassNames("", sourceRoot, sourceRoot);
         try {
             URLClassLoader loader = new URLClassLoader(new URL[]{sourceRoot.toURI().toURL()}, classLoader);
 
-            for (String className : classNames) {
+            for (String className : ClassFileScanner.relevantClassNames(classFiles)) {
                 try {
                     Class<?> aClass = loader.loadClass(className);
                     if (predicate.test(aClass)) {
                         classes.add(aClass);
                     }
-                } catch (ClassNotFoundException ignored) {
+                } catch (ClassNotFoundException | NoClassDefFoundError ignored) {
                 }
             }
         } catch (MalformedURLException e) {
@@ -143,21 +279,4 @@ public class FileUtil {
 
         return classes;
     }
-
-    private static List<String> getClassNames(String basePath, File sourceRoot, File file) {
-
-        ArrayList<String> classNames = new ArrayList<>();
-        if (file.isFile() && file.getName().endsWith(".class")) {
-            classNames.add(basePath + file.getName().replace(".class", ""));
-        } else if (file.isDirectory()) {
-            File[] files = file.listFiles();
-            if (files != null) {
-                for (File subFile : files) {
-                    classNames.addAll(getClassNames(file.equals(sourceRoot) ? "" : basePath + file.getName() + ".", sourceRoot, subFile));
-                }
-            }
-        }
-
-        return classNames;
-    }
 }
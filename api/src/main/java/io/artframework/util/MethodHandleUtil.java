@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.util;
+
+import lombok.NonNull;
+import lombok.extern.java.Log;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Resolves constructors and methods once into method handles or generated suppliers.
+ * <p>Invoking a cached method handle or a supplier that was generated with the {@link LambdaMetafactory}
+ * is a lot cheaper than looking up the constructor or method and calling it reflectively every time.
+ * The parameterless constructors are cached per class and can be used on hot paths, e.g. when creating
+ * a new instance of an art object for every execution.
+ */
+@Log(topic = "art-framework")
+public final class MethodHandleUtil {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Optional<Supplier<?>>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Optional<Supplier<?>> computeValue(Class<?> type) {
+            return createSupplier(type);
+        }
+    };
+
+    private MethodHandleUtil() {
+
+    }
+
+    /**
+     * Gets a supplier that creates new instances of the given class with its parameterless constructor.
+     * <p>The constructor can be private. The supplier is created once per class and cached.
+     * Exceptions thrown by the constructor are passed through the supplier.
+     *
+     * @param type the class to create instances of
+     * @param <TType> the type of the class
+     * @return a supplier that creates new instances or an empty optional if the class has no accessible parameterless constructor
+     */
+    @SuppressWarnings("unchecked")
+    public static <TType> Optional<Supplier<TType>> constructor(@NonNull Class<TType> type) {
+
+        return CONSTRUCTORS.get(type).map(supplier -> (Supplier<TType>) supplier);
+    }
+
+    /**
+     * Gets a function that creates new instances of the given class with the constructor
+     * that takes exactly one parameter of the given type.
+     * <p>The function is not cached and should be stored by the caller.
+     *
+     * @param type the class to create instances of
+     * @param parameterType the type of the single parameter of the constructor
+     * @param <TType> the type of the class
+     * @return a function that creates new instances or an empty optional if the constructor does not exist or is inaccessible
+     */
+    @SuppressWarnings("unchecked")
+    public static <TType> Optional<Function<Object, TType>> constructor(@NonNull Class<TType> type, @NonNull Class<?> parameterType) {
+
+        if (!isInstantiable(type)) return Optional.empty();
+
+        try {
+            MethodHandle handle = constructorHandle(type, parameterType)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            return Optional.of(argument -> {
+                try {
+                    return (TType) handle.invokeExact(argument);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Resolves the given method into an invoker that can be called without any further reflection.
+     * <p>Static methods ignore the instance that is passed to the invoker.
+     *
+     * @param method the method that should be invoked
+     * @return the invoker of the method
+     * @throws IllegalAccessException if the method cannot be made accessible
+     */
+    public static Invoker invoker(@NonNull Method method) throws IllegalAccessException {
+
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException e) {
+            throw new IllegalAccessException("Unable to access " + method + ": " + e.getMessage());
+        }
+
+        MethodHandle handle = LOOKUP.unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        MethodHandle spreader = handle.asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+
+        return (instance, arguments) -> {
+            try {
+                return (Object) spreader.invokeExact(instance, arguments);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    private static Optional<Supplier<?>> createSupplier(Class<?> type) {
+
+        if (!isInstantiable(type)) return Optional.empty();
+
+        MethodHandle handle;
+        try {
+            handle = constructorHandle(type);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Optional.empty();
+        }
+
+        try {
+            // the lookup must be private to the class to define the generated supplier next to it
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, LOOKUP);
+            CallSite callSite = LambdaMetafactory.metafactory(
+                    lookup,
+                    "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    lookup.findConstructor(type, MethodType.methodType(void.class)),
+                    MethodType.methodType(type)
+            );
+            return Optional.of((Supplier<?>) callSite.getTarget().invoke());
+        } catch (Throwable e) {
+            log.finest("unable to generate a constructor supplier for " + type.getCanonicalName() + ", falling back to a method handle: " + e.getMessage());
+        }
+
+        MethodHandle genericHandle = handle.asType(MethodType.methodType(Object.class));
+        return Optional.of(() -> {
+            try {
+                return (Object) genericHandle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private static MethodHandle constructorHandle(Class<?> type, Class<?>... parameterTypes) throws ReflectiveOperationException {
+
+        Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+        constructor.setAccessible(true);
+        return LOOKUP.unreflectConstructor(constructor);
+    }
+
+    private static boolean isInstantiable(Class<?> type) {
+
+        return !type.isInterface() && !type.isArray() && !type.isPrimitive() && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    /**
+     * Invokes a method that was resolved with {@link #invoker(Method)}.
+     */
+    @FunctionalInterface
+    public interface Invoker {
+
+        /**
+         * Invokes the method with the given arguments.
+         * Checked exceptions thrown by the method are wrapped in a {@link RuntimeException}.
+         *
+         * @param instance the instance to invoke the method on. ignored for static methods.
+         * @param arguments the arguments of the method. must match the parameter count of the method.
+         * @return the return value of the method or null if the method returns void
+         */
+        Object invoke(@Nullable Object instance, Object... arguments);
+    }
+}
@@ -23,14 +23,14 @@ import io.artframework.integration.targets.BlockTarget;
 import io.artframework.integration.targets.PlayerTarget;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @SuppressWarnings("ALL")
 class RequirementHolderTest implements CombinedResultCreator {
@@ -112,6 +112,84 @@ class RequirementHolderTest implements CombinedResultCreator {
                 .contains(ResultStatus.FAILURE);
     }
 
+    @Nested
+    @DisplayName("testRequirements(...) with shortCircuitRequirements")
+    class shortCircuit {
+
+        private ExecutionContext<?> lazyExecutionContext(Target<?>... targets) {
+            Scope scope = Scope.defaultScope();
+            scope.settings().shortCircuitRequirements(true);
+            return ExecutionContext.of(scope, null, targets);
+        }
+
+        @Test
+        @DisplayName("should stop testing after the first failing requirement")
+        void shouldStopAtFirstFailure() {
+
+            RequirementContext<Player> failing = requirement(Player.class, failure());
+            RequirementContext<Player> skipped = requirement(Player.class, success());
+            requirementHolder.addRequirement(failing);
+            requirementHolder.addRequirement(skipped);
+
+            CombinedResult result = requirementHolder.testRequirements(lazyExecutionContext(new PlayerTarget(new Player())));
+
+            assertThat(result.failure()).isTrue();
+            verify(failing, times(1)).test(any(), any());
+            verify(skipped, never()).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should test cheaper requirements first")
+        void shouldTestCheaperRequirementsFirst() {
+
+            RequirementContext<Player> expensive = requirement(Player.class, success());
+            when(expensive.cost()).thenReturn(100);
+            RequirementContext<Player> cheap = requirement(Player.class, failure());
+            requirementHolder.addRequirement(expensive);
+            requirementHolder.addRequirement(cheap);
+
+            CombinedResult result = requirementHolder.testRequirements(lazyExecutionContext(new PlayerTarget(new Player())));
+
+            assertThat(result.failure()).isTrue();
+            verify(cheap, times(1)).test(any(), any());
+            verify(expensive, never()).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should order requirements with the same cost by their observed duration")
+        void shouldOrderByObservedDuration() {
+
+            RequirementContext<Player> slow = requirement(Player.class, success());
+            when(slow.averageNanos()).thenReturn(1_000_000L);
+            RequirementContext<Player> fast = requirement(Player.class, failure());
+            when(fast.averageNanos()).thenReturn(1_000L);
+            requirementHolder.addRequirement(slow);
+            requirementHolder.addRequirement(fast);
+
+            requirementHolder.testRequirements(lazyExecutionContext(new PlayerTarget(new Player())));
+
+            verify(slow, never()).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should always test stateful requirements")
+        void shouldTestStatefulRequirements() {
+
+            RequirementContext<Player> failing = requirement(Player.class, failure());
+            RequirementContext<Player> stateful = requirement(Player.class, success());
+            when(stateful.stateful()).thenReturn(true);
+            requirementHolder.addRequirement(failing);
+            requirementHolder.addRequirement(stateful);
+
+            Target<Player> first = new PlayerTarget(new Player());
+            Target<Player> second = new PlayerTarget(new Player());
+            requirementHolder.testRequirements(lazyExecutionContext(first, second));
+
+            verify(failing, times(1)).test(any(), any());
+            verify(stateful, times(2)).test(any(), any());
+        }
+    }
+
     static class TestRequirementHolder implements RequirementHolder {
 
         private final List<RequirementContext<?>> requirements = new ArrayList<>();
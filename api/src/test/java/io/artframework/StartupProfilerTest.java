@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SuppressWarnings("ALL")
+class StartupProfilerTest {
+
+    private Scope scope;
+    private StartupProfiler profiler;
+
+    @BeforeEach
+    void setUp(@TempDir File tempDir) {
+
+        scope = Scope.defaultScope();
+        scope.settings().basePath(tempDir);
+        profiler = new StartupProfiler(scope);
+    }
+
+    @Nested
+    @DisplayName("report()")
+    class report {
+
+        @Test
+        @DisplayName("should aggregate the measurements by phase and name")
+        void shouldAggregateMeasurements() {
+
+            profiler.record(StartupProfiler.MODULE_LOAD, "foo", TimeUnit.MILLISECONDS.toNanos(2));
+            profiler.record(StartupProfiler.MODULE_LOAD, "foo", TimeUnit.MILLISECONDS.toNanos(4));
+            profiler.record(StartupProfiler.MODULE_LOAD, "bar", TimeUnit.MILLISECONDS.toNanos(10));
+
+            Map<String, Object> phase = (Map<String, Object>) ((Map<String, Object>) profiler.report().get("phases")).get(StartupProfiler.MODULE_LOAD);
+
+            assertThat(phase).containsEntry("totalMillis", 16.0);
+            assertThat((List<Map<String, Object>>) phase.get("entries"))
+                    .extracting(entry -> entry.get("name"), entry -> entry.get("count"), entry -> entry.get("totalMillis"), entry -> entry.get("maxMillis"))
+                    .containsExactly(
+                            tuple("bar", 1L, 10.0, 10.0),
+                            tuple("foo", 2L, 6.0, 4.0)
+                    );
+        }
+
+        @Test
+        @DisplayName("should record the duration of closed timers")
+        void shouldRecordTimers() {
+
+            try (StartupProfiler.Timer timer = profiler.start(StartupProfiler.PARSE, "script")) {
+                // nothing to do
+            }
+
+            assertThat((Map<String, Object>) profiler.report().get("phases"))
+                    .containsOnlyKeys(StartupProfiler.PARSE);
+        }
+
+        @Test
+        @DisplayName("should not record anything if disabled")
+        void shouldNotRecordIfDisabled() {
+
+            scope.settings().profileStartup(false);
+
+            try (StartupProfiler.Timer timer = profiler.start(StartupProfiler.PARSE, "script")) {
+                profiler.record(StartupProfiler.META, "foo", 100);
+            }
+
+            assertThat((Map<String, Object>) profiler.report().get("phases")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("finish()")
+    class finish {
+
+        @Test
+        @DisplayName("should write the report as json into the config path")
+        void shouldWriteReport() throws Exception {
+
+            profiler.record(StartupProfiler.CONFIG, "config.yml", TimeUnit.MILLISECONDS.toNanos(1));
+
+            profiler.finish();
+
+            File file = new File(scope.settings().configPath(), StartupProfiler.REPORT_FILE);
+            assertThat(file).exists();
+
+            JsonNode report = new ObjectMapper().readTree(file);
+            assertThat(report.path("phases").path(StartupProfiler.CONFIG).path("entries").get(0).path("name").asText())
+                    .isEqualTo("config.yml");
+        }
+
+        @Test
+        @DisplayName("should not record anything after the startup finished")
+        void shouldNotRecordAfterFinish() {
+
+            profiler.record(StartupProfiler.CONFIG, "config.yml", 1);
+            profiler.finish();
+
+            try (StartupProfiler.Timer timer = profiler.start(StartupProfiler.PARSE, "script")) {
+                profiler.record(StartupProfiler.PARSE, "other", 100);
+            }
+
+            assertThat(profiler.enabled()).isFalse();
+            assertThat((Map<String, Object>) profiler.report().get("phases"))
+                    .containsOnlyKeys(StartupProfiler.CONFIG);
+        }
+
+        @Test
+        @DisplayName("should not write a report if nothing was recorded")
+        void shouldNotWriteEmptyReport() {
+
+            profiler.finish();
+
+            assertThat(new File(scope.settings().configPath(), StartupProfiler.REPORT_FILE)).doesNotExist();
+            assertThat(profiler.enabled()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should not record the art parsed by scopes that were created without a startup")
+        void shouldNotRecordScopesWithoutStartup() {
+
+            Scope defaultScope = Scope.defaultScope();
+            try (StartupProfiler.Timer timer = defaultScope.profiler().start(StartupProfiler.PARSE, "script")) {
+                // parse the script
+            }
+
+            assertThat(defaultScope.profiler().enabled()).isFalse();
+            assertThat((Map<String, Object>) defaultScope.profiler().report().get("phases")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should log the slowest entries in the summary")
+        void shouldCreateSummary() {
+
+            profiler.record(StartupProfiler.MODULE_ENABLE, "fast", 1);
+            profiler.record(StartupProfiler.MODULE_ENABLE, "slow", TimeUnit.MILLISECONDS.toNanos(5));
+
+            assertThat(profiler.summary())
+                    .contains(StartupProfiler.MODULE_ENABLE + ": 5.00ms (2 entries) slowest: slow 5.00ms, fast 0.00ms");
+        }
+    }
+}
@@ -101,6 +101,32 @@ class DefaultArtContextTest implements ResultCreator {
         }
     }
 
+    @Nested
+    @DisplayName("disableTrigger()")
+    class disableTrigger {
+
+        @Test
+        @DisplayName("should cancel the delayed executions of all triggers and nested actions")
+        void shouldCancelDelayedExecutions() {
+
+            DelayedExecutionQueue queue = mock(DelayedExecutionQueue.class);
+            scope = Scope.of(config -> config.delayQueue(queue));
+
+            ActionContext<?> nestedAction = mock(ActionContext.class);
+            ActionContext<?> action = mock(ActionContext.class);
+            when(action.actions()).thenReturn(Arrays.asList(nestedAction));
+            TriggerContext trigger = mock(TriggerContext.class);
+            when(trigger.removeListener(any())).thenReturn(trigger);
+            when(trigger.actions()).thenReturn(Arrays.asList(action));
+
+            context(trigger).disableTrigger();
+
+            verify(queue).cancel(trigger);
+            verify(queue).cancel(action);
+            verify(queue).cancel(nestedAction);
+        }
+    }
+
     public static class TestRequirement implements Requirement<String> {
 
         @Override
@@ -1,6 +1,7 @@
 package io.artframework.impl;
 
 import io.artframework.*;
+import io.artframework.clock.SimulatedClock;
 import io.artframework.conf.ActionConfig;
 import lombok.NonNull;
 import lombok.SneakyThrows;
@@ -65,6 +66,29 @@ class DefaultActionContextTest {
         verify(action, never()).execute(any(), any());
     }
 
+    @Test
+    @DisplayName("should check the cooldown with the configured clock")
+    void shouldCheckCooldownWithClock() throws Exception {
+
+        SimulatedClock clock = new SimulatedClock(1000);
+        Scope scope = Scope.of(configuration -> configuration.clock(clock));
+        ActionContext<MyTarget> context = ActionContext.of(scope,
+                (ArtObjectMeta) ArtObjectMeta.of(scope, TestAction.class),
+                action,
+                new ActionConfig().cooldown("10s")
+        );
+        ExecutionContext<ActionContext<MyTarget>> executionContext = ExecutionContext.of(scope, null, new MyTargetWrapper(new MyTarget())).next(context);
+
+        context.execute(executionContext);
+        clock.advance(9999);
+        context.execute(executionContext);
+        verify(action, times(1)).execute(any(), any());
+
+        clock.advance(1);
+        context.execute(executionContext);
+        verify(action, times(2)).execute(any(), any());
+    }
+
     @io.artframework.annotations.ART("test")
     public static class TestAction implements Action<MyTarget> {
 
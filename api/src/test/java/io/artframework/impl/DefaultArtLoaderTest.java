@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.impl;
+
+import io.artframework.*;
+import lombok.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("ALL")
+class DefaultArtLoaderTest {
+
+    private Scope scope;
+    private ArtLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        scope = Scope.defaultScope();
+        scope.register().requirements().add("foobar", new GenericRequirement() {
+            @Override
+            public Result test(@NonNull Target<Object> target, @NonNull ExecutionContext<RequirementContext<Object>> context) {
+                return success();
+            }
+        });
+        loader = ArtLoader.of(scope);
+    }
+
+    @Nested
+    @DisplayName("parseAll(...)")
+    class parseAll {
+
+        @Test
+        @DisplayName("should parse all sources and map them by their key")
+        void shouldParseAllSources() {
+
+            Map<String, Collection<String>> sources = new HashMap<>();
+            for (int i = 0; i < 100; i++) {
+                sources.put("source-" + i, Arrays.asList("?foobar"));
+            }
+
+            ParseResult result = loader.parseAll(sources, new ForkJoinPool(4));
+
+            assertThat(result.success()).isTrue();
+            assertThat(result.contexts())
+                    .hasSize(100)
+                    .containsKeys("source-0", "source-99");
+        }
+
+        @Test
+        @DisplayName("should use the key of the source as storage key")
+        void shouldUseKeyAsStorageKey() {
+
+            Map<String, Collection<String>> sources = new HashMap<>();
+            sources.put("foo", Arrays.asList("?foobar"));
+
+            ParseResult result = loader.parseAll(sources);
+
+            assertThat(result.contexts().get("foo").artContexts())
+                    .extracting(ArtObjectContext::storageKey)
+                    .containsOnly("foo");
+        }
+
+        @Test
+        @DisplayName("should collect errors without failing the other sources")
+        void shouldCollectErrorsOfFailedSources() {
+
+            Map<String, Collection<String>> sources = new HashMap<>();
+            sources.put("valid", Arrays.asList("?foobar"));
+            sources.put("invalid", Arrays.asList("?does-not-exist"));
+
+            ParseResult result = loader.parseAll(sources);
+
+            assertThat(result.success()).isFalse();
+            assertThat(result.contexts()).containsOnlyKeys("valid");
+            assertThat(result.errors()).containsOnlyKeys("invalid");
+            assertThat(result.errors().get("invalid"))
+                    .isInstanceOf(ParseException.class);
+        }
+    }
+}
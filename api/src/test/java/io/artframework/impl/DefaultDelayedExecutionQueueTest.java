@@ -0,0 +1,224 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.impl;
+
+import io.artframework.*;
+import io.artframework.simulation.SimulatedScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("ALL")
+class DefaultDelayedExecutionQueueTest {
+
+    private SimulatedScheduler scheduler;
+    private DelayedExecutionQueue queue;
+    private List<String> executions;
+
+    @BeforeEach
+    void setUp() {
+
+        scheduler = new SimulatedScheduler();
+        Scope scope = Scope.of(configuration -> configuration.scheduler(scheduler));
+        queue = scope.configuration().delayQueue();
+        executions = new ArrayList<>();
+    }
+
+    private Target<?> target(String uniqueId) {
+
+        Target target = mock(Target.class);
+        when(target.uniqueId()).thenReturn(uniqueId);
+        return target;
+    }
+
+    private Runnable record(String name) {
+
+        return () -> executions.add(name);
+    }
+
+    @Nested
+    @DisplayName("schedule(...)")
+    class schedule {
+
+        @Test
+        @DisplayName("should run the continuation after the delay")
+        void shouldRunAfterDelay() {
+
+            queue.schedule(mock(ActionContext.class), 100, record("foo"), target("player"));
+
+            scheduler.advance(50);
+            assertThat(executions).isEmpty();
+            assertThat(queue.size()).isEqualTo(1);
+
+            scheduler.advance(50);
+            assertThat(executions).containsExactly("foo");
+            assertThat(queue.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("should round the delay up to the next tick")
+        void shouldRoundUpDelay() {
+
+            queue.schedule(mock(ActionContext.class), 60, record("foo"));
+
+            scheduler.advance(50);
+            assertThat(executions).isEmpty();
+
+            scheduler.advance(50);
+            assertThat(executions).containsExactly("foo");
+        }
+
+        @Test
+        @DisplayName("should run continuations in the order of their deadline")
+        void shouldRunInOrder() {
+
+            ActionContext context = mock(ActionContext.class);
+            queue.schedule(context, 150, record("third"));
+            queue.schedule(context, 50, record("first"));
+            queue.schedule(context, 100, record("second"));
+
+            scheduler.advance(150);
+
+            assertThat(executions).containsExactly("first", "second", "third");
+        }
+
+        @Test
+        @DisplayName("should cascade long delays through all levels of the wheel")
+        void shouldCascadeLongDelays() {
+
+            ActionContext context = mock(ActionContext.class);
+            long[] delays = {3_200, 3_250, 204_800, 600_000, 11_000_000};
+            for (long delay : delays) {
+                queue.schedule(context, delay, record(String.valueOf(delay)));
+            }
+
+            for (long delay : delays) {
+                scheduler.advance(delay - scheduler.now() - 50);
+                assertThat(executions).doesNotContain(String.valueOf(delay));
+                scheduler.advance(50);
+                assertThat(executions).contains(String.valueOf(delay));
+            }
+            assertThat(queue.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("should use a single scheduler task for all continuations")
+        void shouldUseSingleSchedulerTask() {
+
+            ActionContext context = mock(ActionContext.class);
+            for (int i = 0; i < 200; i++) {
+                queue.schedule(context, 100, record("player-" + i), target("player-" + i));
+            }
+
+            assertThat(scheduler.pending()).isEqualTo(1);
+            assertThat(queue.size()).isEqualTo(200);
+
+            scheduler.advance(100);
+
+            assertThat(executions).hasSize(200);
+            assertThat(scheduler.pending()).isZero();
+        }
+
+        @Test
+        @DisplayName("should run the continuation immediately without a scheduler")
+        void shouldRunImmediatelyWithoutScheduler() {
+
+            DelayedExecutionQueue queue = Scope.defaultScope().configuration().delayQueue();
+
+            Task task = queue.schedule(mock(ActionContext.class), 100, record("foo"));
+
+            assertThat(executions).containsExactly("foo");
+            assertThat(task.isCancelled()).isFalse();
+            assertThat(queue.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("cancel(...)")
+    class cancel {
+
+        @Test
+        @DisplayName("should cancel all continuations of the target")
+        void shouldCancelByTarget() {
+
+            ActionContext context = mock(ActionContext.class);
+            queue.schedule(context, 100, record("foo"), target("foo"));
+            queue.schedule(context, 10_000, record("foo"), target("foo"));
+            queue.schedule(context, 100, record("bar"), target("bar"));
+
+            assertThat(queue.cancel(target("foo"))).isEqualTo(2);
+            assertThat(queue.size()).isEqualTo(1);
+
+            scheduler.advance(10_000);
+
+            assertThat(executions).containsExactly("bar");
+        }
+
+        @Test
+        @DisplayName("should cancel all continuations of the context")
+        void shouldCancelByContext() {
+
+            ActionContext foo = mock(ActionContext.class);
+            ActionContext bar = mock(ActionContext.class);
+            queue.schedule(foo, 100, record("foo"));
+            queue.schedule(bar, 100, record("bar"));
+
+            assertThat(queue.cancel(foo)).isEqualTo(1);
+
+            scheduler.advance(100);
+
+            assertThat(executions).containsExactly("bar");
+        }
+
+        @Test
+        @DisplayName("should cancel a single continuation with its task")
+        void shouldCancelTask() {
+
+            Task task = queue.schedule(mock(ActionContext.class), 100, record("foo"));
+
+            task.cancel();
+
+            assertThat(task.isCancelled()).isTrue();
+            assertThat(queue.size()).isZero();
+            assertThat(scheduler.pending()).isZero();
+            scheduler.advance(100);
+            assertThat(executions).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should cancel all continuations")
+        void shouldCancelAll() {
+
+            ActionContext context = mock(ActionContext.class);
+            queue.schedule(context, 100, record("foo"));
+            queue.schedule(context, 1_000_000, record("bar"));
+
+            assertThat(queue.cancelAll()).isEqualTo(2);
+            assertThat(queue.size()).isZero();
+            assertThat(scheduler.pending()).isZero();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.artframework.*;
+import io.artframework.tracing.Span;
+import io.artframework.tracing.Trace;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("ALL")
+class DefaultExecutionTracerTest {
+
+    private Scope scope;
+    private DefaultExecutionTracer tracer;
+
+    @BeforeEach
+    void setUp() {
+
+        scope = Scope.defaultScope();
+        scope.settings().traceSampleRate(1);
+        tracer = (DefaultExecutionTracer) scope.configuration().tracer();
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        scope.settings().traceSampleRate(0);
+        scope.settings().traceBufferSize(100);
+        tracer.clear();
+    }
+
+    private <TContext extends ArtObjectContext<?>> TContext context(Class<TContext> contextClass, String identifier) {
+
+        ArtObjectMeta meta = mock(ArtObjectMeta.class);
+        when(meta.identifier()).thenReturn(identifier);
+        TContext context = mock(contextClass);
+        when(context.meta()).thenReturn(meta);
+        when(context.storageKey()).thenReturn("foo");
+        return context;
+    }
+
+    private ExecutionContext<?> executionContext() {
+
+        return ExecutionContext.of(scope, null);
+    }
+
+    @Nested
+    @DisplayName("startTrace(...)")
+    class startTrace {
+
+        @Test
+        @DisplayName("should only trace one of n executions")
+        void shouldSampleExecutions() {
+
+            scope.settings().traceSampleRate(2);
+            TriggerContext trigger = context(TriggerContext.class, "damage");
+
+            Span first = tracer.startTrace(trigger, null, executionContext());
+            Span second = tracer.startTrace(trigger, null, executionContext());
+
+            assertThat(first).isNull();
+            assertThat(second).isNotNull();
+            assertThat(tracer.traces()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should not trace anything if disabled")
+        void shouldNotTraceIfDisabled() {
+
+            scope.settings().traceSampleRate(0);
+
+            assertThat(tracer.startTrace(context(TriggerContext.class, "damage"), null, executionContext())).isNull();
+            assertThat(tracer.traces()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should discard the oldest trace if the buffer is full")
+        void shouldDiscardOldestTrace() {
+
+            scope.settings().traceBufferSize(2);
+            TriggerContext trigger = context(TriggerContext.class, "damage");
+
+            tracer.startTrace(trigger, null, executionContext());
+            Span second = tracer.startTrace(trigger, null, executionContext());
+            Span third = tracer.startTrace(trigger, null, executionContext());
+
+            assertThat(tracer.traces())
+                    .extracting(Trace::root)
+                    .containsExactly(second, third);
+        }
+    }
+
+    @Nested
+    @DisplayName("start(...)")
+    class start {
+
+        @Test
+        @DisplayName("should not start a span without a trace")
+        void shouldNotStartSpanWithoutTrace() {
+
+            assertThat(tracer.start(context(ActionContext.class, "give-item"), null, executionContext())).isNull();
+        }
+
+        @Test
+        @DisplayName("should nest the spans of the execution")
+        void shouldNestSpans() {
+
+            ExecutionContext<?> executionContext = executionContext();
+            Span root = tracer.startTrace(context(TriggerContext.class, "damage"), null, executionContext);
+            Span action = tracer.start(context(ActionContext.class, "give-item"), null, executionContext);
+            Span requirement = tracer.start(context(RequirementContext.class, "health"), null, executionContext);
+            tracer.finish(requirement, ResultStatus.SUCCESS);
+            tracer.finish(action, ResultStatus.FAILURE);
+            tracer.finish(root, ResultStatus.SUCCESS);
+
+            assertThat(root.children())
+                    .hasSize(1)
+                    .first()
+                    .extracting(Span::type, Span::identifier, Span::status)
+                    .containsExactly("action", "give-item", ResultStatus.FAILURE);
+            assertThat(action.children())
+                    .extracting(Span::type, Span::identifier, Span::status)
+                    .containsExactly(tuple("requirement", "health", ResultStatus.SUCCESS));
+            assertThat(root.finished()).isTrue();
+            assertThat(root.durationNanos()).isGreaterThanOrEqualTo(action.durationNanos());
+        }
+
+        @Test
+        @DisplayName("should finish open nested spans with an error")
+        void shouldFinishOpenNestedSpans() {
+
+            ExecutionContext<?> executionContext = executionContext();
+            Span root = tracer.startTrace(context(TriggerContext.class, "damage"), null, executionContext);
+            Span action = tracer.start(context(ActionContext.class, "give-item"), null, executionContext);
+            tracer.finish(root, ResultStatus.SUCCESS);
+
+            assertThat(action.status()).isEqualTo(ResultStatus.ERROR);
+            assertThat(tracer.start(context(ActionContext.class, "give-item"), null, executionContext)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("resume(...)")
+    class resume {
+
+        @Test
+        @DisplayName("should attach delayed continuations to their parent span")
+        void shouldAttachDelayedContinuation() {
+
+            ExecutionContext<?> executionContext = executionContext();
+            ActionContext action = context(ActionContext.class, "give-item");
+            Span root = tracer.startTrace(context(TriggerContext.class, "damage"), null, executionContext);
+            Span scheduled = tracer.start(action, null, executionContext);
+            tracer.finish(scheduled, null);
+            tracer.finish(root, ResultStatus.SUCCESS);
+
+            Span continuation = tracer.resume(scheduled, action, null, executionContext);
+            Span nested = tracer.start(context(ActionContext.class, "heal"), null, executionContext);
+            tracer.finish(nested, ResultStatus.SUCCESS);
+            tracer.finish(continuation, ResultStatus.SUCCESS);
+
+            assertThat(scheduled.status()).isNull();
+            assertThat(scheduled.children()).containsExactly(continuation);
+            assertThat(continuation.delayed()).isTrue();
+            assertThat(continuation.children()).containsExactly(nested);
+        }
+
+        @Test
+        @DisplayName("should not trace the continuation of an untraced execution")
+        void shouldIgnoreNullParent() {
+
+            assertThat(tracer.resume(null, context(ActionContext.class, "give-item"), null, executionContext())).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("write(File)")
+    class write {
+
+        @Test
+        @DisplayName("should write the traces with their config values as json")
+        void shouldWriteJson(@TempDir File tempDir) throws Exception {
+
+            ExecutionContext<?> executionContext = executionContext();
+            ConfigMap config = mock(ConfigMap.class);
+            when(config.values()).thenReturn(Map.of("amount", 5, "items", new String[]{"stone", "dirt"}));
+
+            Span root = tracer.startTrace(context(TriggerContext.class, "damage"), null, executionContext);
+            Span action = tracer.start(context(ActionContext.class, "give-item"), null, executionContext);
+            tracer.config(executionContext, config);
+            tracer.finish(action, ResultStatus.SUCCESS);
+            tracer.finish(root, ResultStatus.SUCCESS);
+
+            File file = new File(tempDir, "traces.json");
+            tracer.write(file);
+
+            List<Map<String, Object>> traces = new ObjectMapper().readValue(file, List.class);
+            assertThat(traces).hasSize(1);
+            Map<String, Object> rootSpan = (Map<String, Object>) traces.get(0).get("root");
+            assertThat(rootSpan).containsEntry("type", "trigger").containsEntry("status", "SUCCESS");
+            Map<String, Object> actionSpan = ((List<Map<String, Object>>) rootSpan.get("children")).get(0);
+            assertThat((Map<String, Object>) actionSpan.get("config"))
+                    .containsEntry("amount", "5")
+                    .containsEntry("items", "[stone, dirt]");
+        }
+    }
+}
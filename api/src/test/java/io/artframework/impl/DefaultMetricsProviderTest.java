@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.ArtObjectContext;
+import io.artframework.ArtObjectMeta;
+import io.artframework.ResultStatus;
+import io.artframework.Scope;
+import io.artframework.conf.Constants;
+import io.artframework.metrics.ArtMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("ALL")
+class DefaultMetricsProviderTest {
+
+    private Scope scope;
+    private DefaultMetricsProvider provider;
+
+    @BeforeEach
+    void setUp() {
+
+        scope = Scope.defaultScope();
+        provider = (DefaultMetricsProvider) scope.configuration().metrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        provider.reset();
+    }
+
+    private ArtObjectContext<?> context(String storageKey, String identifier) {
+
+        ArtObjectMeta meta = mock(ArtObjectMeta.class);
+        when(meta.identifier()).thenReturn(identifier);
+        ArtObjectContext<?> context = mock(ArtObjectContext.class);
+        when(context.meta()).thenReturn(meta);
+        when(context.storageKey()).thenReturn(storageKey);
+        return context;
+    }
+
+    @Test
+    @DisplayName("should count the executions by their result status")
+    void shouldCountExecutionsByStatus() {
+
+        ArtObjectContext<?> context = context("foo", "give-item");
+
+        provider.record(context, ResultStatus.SUCCESS, 100);
+        provider.record(context, ResultStatus.SUCCESS, 200);
+        provider.record(context, ResultStatus.FAILURE, 300);
+        provider.recordCooldownRejection(context);
+
+        assertThat(provider.snapshot())
+                .hasSize(1)
+                .first()
+                .extracting(ArtMetrics::storageKey, ArtMetrics::executions, m -> m.count(ResultStatus.FAILURE), ArtMetrics::cooldownRejections)
+                .containsExactly("foo", 3L, 1L, 1L);
+    }
+
+    @Test
+    @DisplayName("should aggregate the metrics of all contexts by identifier")
+    void shouldAggregateByIdentifier() {
+
+        provider.record(context("foo", "give-item"), ResultStatus.SUCCESS, 100);
+        provider.record(context("bar", "give-item"), ResultStatus.FAILURE, 300);
+
+        assertThat(provider.snapshot("give-item"))
+                .get()
+                .extracting(ArtMetrics::storageKey, ArtMetrics::executions, ArtMetrics::hitRate)
+                .containsExactly(null, 2L, 0.5);
+    }
+
+    @Test
+    @DisplayName("should register the metrics as MBean")
+    void shouldRegisterMBean() throws Exception {
+
+        scope.settings().metricsMBeans(true);
+        provider.record(context("foo", "give-item"), ResultStatus.SUCCESS, 100);
+
+        assertThat(ManagementFactory.getPlatformMBeanServer().queryNames(new ObjectName("io.artframework:type=ArtMetrics,identifier=\"give-item\",*"), null))
+                .isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("should not register MBeans by default")
+    void shouldNotRegisterMBeansByDefault() throws Exception {
+
+        provider.record(context("foo", "default-mbean"), ResultStatus.SUCCESS, 100);
+
+        assertThat(ManagementFactory.getPlatformMBeanServer().queryNames(new ObjectName("io.artframework:type=ArtMetrics,identifier=\"default-mbean\",*"), null))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("should unregister all MBeans when all modules are disabled")
+    void shouldUnregisterMBeansOnDisableAll() throws Exception {
+
+        scope.settings().metricsMBeans(true);
+        provider.record(context("foo", "disabled-mbean"), ResultStatus.SUCCESS, 100);
+        provider.record(context(Constants.Storage.generatedKey(), "disabled-mbean"), ResultStatus.SUCCESS, 100);
+
+        scope.configuration().modules().disableAll();
+
+        assertThat(provider.snapshot()).isEmpty();
+        assertThat(ManagementFactory.getPlatformMBeanServer().queryNames(new ObjectName("io.artframework:type=ArtMetrics,identifier=\"disabled-mbean\",*"), null))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("should record art without a storage key only per identifier")
+    void shouldAggregateGeneratedStorageKeys() {
+
+        provider.record(context(Constants.Storage.generatedKey(), "give-item"), ResultStatus.SUCCESS, 100);
+        provider.record(context(Constants.Storage.generatedKey(), "give-item"), ResultStatus.SUCCESS, 100);
+
+        assertThat(provider.snapshot())
+                .hasSize(1)
+                .first()
+                .extracting(ArtMetrics::storageKey, ArtMetrics::executions)
+                .containsExactly(DefaultMetricsProvider.GENERATED_STORAGE_KEY, 2L);
+    }
+
+    @Test
+    @DisplayName("should remove the metrics and MBeans of the storage key")
+    void shouldRemoveStorageKey() throws Exception {
+
+        scope.settings().metricsMBeans(true);
+        provider.record(context("foo", "give-item"), ResultStatus.SUCCESS, 100);
+        provider.record(context("bar", "give-item"), ResultStatus.SUCCESS, 100);
+
+        provider.remove("foo");
+
+        assertThat(provider.snapshot())
+                .extracting(ArtMetrics::storageKey)
+                .containsExactly("bar");
+        assertThat(ManagementFactory.getPlatformMBeanServer().queryNames(new ObjectName("io.artframework:type=ArtMetrics,context=\"foo\",*"), null))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("should not record anything if disabled")
+    void shouldNotRecordIfDisabled() {
+
+        scope.settings().metrics(false);
+
+        provider.record(context("foo", "give-item"), ResultStatus.SUCCESS, 100);
+
+        assertThat(provider.snapshot()).isEmpty();
+    }
+}
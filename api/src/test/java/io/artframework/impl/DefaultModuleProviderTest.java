@@ -92,6 +92,25 @@ class DefaultModuleProviderTest {
 
         }
 
+        @Test
+        @DisplayName("should throw if module has cyclic dependencies")
+        void shouldThrowIfModuleHasCyclicDependencies() {
+
+            assertThatCode(() -> provider.register(new CyclicModuleA())).doesNotThrowAnyException();
+            assertThatExceptionOfType(ModuleRegistrationException.class)
+                    .isThrownBy(() -> provider.register(new CyclicModuleB()))
+                    .withMessageContaining("The module \"cyclic b\" has cyclic dependencies: cyclic b --> cyclic a --> cyclic b");
+        }
+
+        @Test
+        @DisplayName("should throw if module depends on itself")
+        void shouldThrowIfModuleDependsOnItself() {
+
+            assertThatExceptionOfType(ModuleRegistrationException.class)
+                    .isThrownBy(() -> provider.register(new SelfDependingModule()))
+                    .withMessageContaining("cyclic self depends on itself!");
+        }
+
         @Test
         @DisplayName("should throw if module throws exception when initializing")
         void shouldThrowIfModuleThrowsException() {
@@ -180,6 +199,144 @@ class DefaultModuleProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("enableAll()")
+    class enableAll {
+
+        @BeforeEach
+        void setUp() {
+            scope.settings().parallelModuleLoading(true);
+        }
+
+        @Test
+        @DisplayName("should group modules into dependency layers")
+        void shouldGroupModulesIntoDependencyLayers() {
+
+            assertThatCode(() -> provider.register(new FooModule())).doesNotThrowAnyException();
+            assertThatCode(() -> provider.register(new BarModule())).doesNotThrowAnyException();
+            assertThatCode(() -> provider.register(new MainThreadModule())).doesNotThrowAnyException();
+
+            assertThat(provider.getDependencyLayers())
+                    .hasSize(2)
+                    .satisfies(layers -> {
+                        assertThat(layers.get(0))
+                                .extracting(info -> info.moduleMeta().identifier())
+                                .containsExactlyInAnyOrder("bar", "main-thread");
+                        assertThat(layers.get(1))
+                                .extracting(info -> info.moduleMeta().identifier())
+                                .containsExactly("foo");
+                    });
+        }
+
+        @Test
+        @DisplayName("should enable the dependencies before the dependent modules")
+        void shouldEnableDependenciesFirst() {
+
+            BarModule barModule = spy(new BarModule());
+            FooModule fooModule = spy(new FooModule());
+
+            assertThatCode(() -> provider.register(fooModule)).doesNotThrowAnyException();
+            assertThatCode(() -> provider.register(barModule)).doesNotThrowAnyException();
+
+            provider.enableAll();
+
+            InOrder inOrder = inOrder(barModule, fooModule);
+            inOrder.verify(barModule, times(1)).onEnable(any());
+            inOrder.verify(fooModule, times(1)).onEnable(any());
+        }
+
+        @Test
+        @DisplayName("should enable main thread only modules on the calling thread")
+        void shouldEnableMainThreadModulesOnCallingThread() {
+
+            MainThreadModule mainThreadModule = new MainThreadModule();
+            assertThatCode(() -> provider.register(mainThreadModule)).doesNotThrowAnyException();
+
+            provider.enableAll();
+
+            assertThat(mainThreadModule.enableThread).isSameAs(Thread.currentThread());
+        }
+
+        @Test
+        @DisplayName("should enable modules with the class loader of the configuration as context class loader")
+        void shouldUseConfigurationClassLoaderAsContextClassLoader() {
+
+            ContextClassLoaderModule contextModule = new ContextClassLoaderModule();
+            assertThatCode(() -> provider.register(contextModule)).doesNotThrowAnyException();
+
+            Thread thread = Thread.currentThread();
+            ClassLoader contextClassLoader = thread.getContextClassLoader();
+            thread.setContextClassLoader(new ClassLoader(null) {});
+            try {
+                provider.enableAll();
+            } finally {
+                thread.setContextClassLoader(contextClassLoader);
+            }
+
+            assertThat(contextModule.enableThread).isNotSameAs(thread);
+            assertThat(contextModule.contextClassLoader).isSameAs(scope.configuration().classLoader());
+        }
+
+        @Test
+        @DisplayName("should enable a shared dependency only once")
+        void shouldEnableSharedDependencyOnce() {
+
+            BarModule barModule = spy(new BarModule());
+
+            assertThatCode(() -> provider.register(new FooModule())).doesNotThrowAnyException();
+            assertThatCode(() -> provider.register(new OtherFooModule())).doesNotThrowAnyException();
+            assertThatCode(() -> provider.register(barModule)).doesNotThrowAnyException();
+
+            provider.enableAll();
+
+            verify(barModule, times(1)).onEnable(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("LifecycleMethod")
+    class lifecycleMethod {
+
+        @Test
+        @SneakyThrows
+        @DisplayName("should pass the scope to all parameters that accept it")
+        void shouldPassScopeToMatchingParameters() {
+
+            LifecycleModule lifecycleModule = new LifecycleModule();
+            DefaultModuleProvider.LifecycleMethod method = new DefaultModuleProvider.LifecycleMethod(
+                    LifecycleModule.class.getMethod("onLoad", Scope.class, BootstrapScope.class, String.class));
+
+            method.invoke(lifecycleModule, scope);
+
+            assertThat(lifecycleModule.parameters).containsExactly(scope, scope, null);
+        }
+
+        @Test
+        @SneakyThrows
+        @DisplayName("should only pass the scope to subtype parameters if it is an instance of them")
+        void shouldNotPassScopeToOtherSubtypes() {
+
+            LifecycleModule lifecycleModule = new LifecycleModule();
+            DefaultModuleProvider.LifecycleMethod method = new DefaultModuleProvider.LifecycleMethod(
+                    LifecycleModule.class.getMethod("onLoad", Scope.class, BootstrapScope.class, String.class));
+            Scope plainScope = mock(Scope.class);
+
+            method.invoke(lifecycleModule, plainScope);
+
+            assertThat(lifecycleModule.parameters).containsExactly(plainScope, null, null);
+        }
+    }
+
+    public static class LifecycleModule {
+
+        private Object[] parameters;
+
+        public void onLoad(Scope scope, BootstrapScope bootstrapScope, String other) {
+
+            parameters = new Object[]{scope, bootstrapScope, other};
+        }
+    }
+
     @ArtModule(value = "test")
     static class TestModule {
 
@@ -274,6 +431,14 @@ class DefaultModuleProviderTest {
         }
     }
 
+    @ArtModule(value = "other-foo", depends = "bar")
+    static class OtherFooModule {
+        @OnEnable
+        public void onEnable(Configuration configuration) {
+
+        }
+    }
+
     @ArtModule(value = "module 1", depends = {"module 2", "foo"})
     static class Module1 {
 
@@ -320,4 +485,39 @@ class DefaultModuleProviderTest {
     static class RandomModule {
 
     }
-}
\ No newline at end of file
+
+    @ArtModule(value = "cyclic a", depends = "cyclic b")
+    static class CyclicModuleA {}
+
+    @ArtModule(value = "cyclic b", depends = "cyclic a")
+    static class CyclicModuleB {}
+
+    @ArtModule(value = "cyclic self", depends = "cyclic self")
+    static class SelfDependingModule {}
+
+    @ArtModule(value = "main-thread", mainThreadOnly = true)
+    static class MainThreadModule {
+
+        private Thread enableThread;
+
+        @OnEnable
+        public void onEnable(Scope scope) {
+
+            enableThread = Thread.currentThread();
+        }
+    }
+
+    @ArtModule("context-class-loader")
+    static class ContextClassLoaderModule {
+
+        private Thread enableThread;
+        private ClassLoader contextClassLoader;
+
+        @OnEnable
+        public void onEnable(Scope scope) {
+
+            enableThread = Thread.currentThread();
+            contextClassLoader = enableThread.getContextClassLoader();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.*;
+import io.artframework.clock.SimulatedClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("ALL")
+class DefaultRequirementCacheTest {
+
+    private SimulatedClock clock;
+    private Scope scope;
+    private RequirementCache cache;
+    private AtomicInteger tests;
+
+    @BeforeEach
+    void setUp() {
+
+        clock = new SimulatedClock(1000);
+        scope = Scope.of(configuration -> configuration.clock(clock));
+        cache = scope.configuration().requirementCache();
+        tests = new AtomicInteger();
+    }
+
+    private Target<?> target(String uniqueId) {
+
+        Target target = mock(Target.class);
+        when(target.uniqueId()).thenReturn(uniqueId);
+        return target;
+    }
+
+    private RequirementContext<?> requirement(Class<?> requirementClass) {
+
+        ArtObjectMeta meta = mock(ArtObjectMeta.class);
+        when(meta.artObjectClass()).thenReturn(requirementClass);
+        RequirementContext context = mock(RequirementContext.class);
+        when(context.meta()).thenReturn(meta);
+        return context;
+    }
+
+    private Supplier<Result> test() {
+
+        return () -> {
+            tests.incrementAndGet();
+            return Result.success();
+        };
+    }
+
+    @Nested
+    @DisplayName("get(...)")
+    class get {
+
+        @Test
+        @DisplayName("should reuse the result until it expired")
+        void shouldReuseResultUntilExpired() {
+
+            RequirementContext<?> requirement = requirement(Requirement.class);
+            Target<?> player = target("player");
+
+            assertThat(cache.get(requirement, player, test()).success()).isTrue();
+            clock.advance(49);
+            cache.get(requirement, player, test());
+            assertThat(tests).hasValue(1);
+
+            clock.advance(1);
+            cache.get(requirement, player, test());
+            assertThat(tests).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("should cache the results per requirement and target")
+        void shouldCachePerRequirementAndTarget() {
+
+            RequirementContext<?> requirement = requirement(Requirement.class);
+            RequirementContext<?> otherRequirement = requirement(Requirement.class);
+
+            cache.get(requirement, target("player"), test());
+            cache.get(requirement, target("other"), test());
+            cache.get(otherRequirement, target("player"), test());
+            cache.get(requirement, target("player"), test());
+
+            assertThat(tests).hasValue(3);
+            assertThat(cache.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should not cache anything if the lifetime is zero")
+        void shouldNotCacheWithoutLifetime() {
+
+            scope.settings().requirementCacheMillis(0);
+            RequirementContext<?> requirement = requirement(Requirement.class);
+
+            cache.get(requirement, target("player"), test());
+            cache.get(requirement, target("player"), test());
+
+            assertThat(tests).hasValue(2);
+            assertThat(cache.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("sweep(...)")
+    class sweep {
+
+        @Test
+        @DisplayName("should remove expired results of other targets")
+        void shouldRemoveExpiredResults() {
+
+            RequirementContext<?> requirement = requirement(Requirement.class);
+            cache.get(requirement, target("player"), test());
+            cache.get(requirement, target("despawned"), test());
+
+            clock.advance(DefaultRequirementCache.SWEEP_INTERVAL_MILLIS);
+            cache.get(requirement, target("player"), test());
+
+            assertThat(cache.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should not keep the target in the cached result")
+        void shouldNotKeepTarget() {
+
+            RequirementContext<?> requirement = requirement(Requirement.class);
+            Target<?> player = target("player");
+            cache.get(requirement, player, () -> Result.success("foo").with(player, requirement));
+
+            Result result = cache.get(requirement, player, test());
+
+            assertThat(result).isNotInstanceOf(TargetResult.class);
+            assertThat(result.success()).isTrue();
+            assertThat(result.messages()).containsExactly("foo");
+            assertThat(tests).hasValue(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate(...)")
+    class invalidate {
+
+        @Test
+        @DisplayName("should remove all results of the target")
+        void shouldInvalidateTarget() {
+
+            cache.get(requirement(Requirement.class), target("player"), test());
+            cache.get(requirement(Action.class), target("player"), test());
+            cache.get(requirement(Requirement.class), target("other"), test());
+
+            assertThat(cache.invalidate(target("player"))).isEqualTo(2);
+            assertThat(cache.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should only remove the results of the requirement type")
+        void shouldInvalidateRequirementOfTarget() {
+
+            RequirementContext<?> requirement = requirement(Requirement.class);
+            RequirementContext<?> other = requirement(Action.class);
+            cache.get(requirement, target("player"), test());
+            cache.get(other, target("player"), test());
+            cache.get(requirement, target("other"), test());
+
+            assertThat(cache.invalidate(target("player"), Requirement.class)).isEqualTo(1);
+            cache.get(requirement, target("player"), test());
+            cache.get(other, target("player"), test());
+
+            assertThat(tests).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("should remove the results of the requirement type for all targets")
+        void shouldInvalidateRequirement() {
+
+            RequirementContext<?> requirement = requirement(Requirement.class);
+            cache.get(requirement, target("player"), test());
+            cache.get(requirement, target("other"), test());
+            cache.get(requirement(Action.class), target("player"), test());
+
+            assertThat(cache.invalidate(Requirement.class)).isEqualTo(2);
+            assertThat(cache.invalidateAll()).isEqualTo(1);
+            assertThat(cache.size()).isZero();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package io.artframework.impl;
 
 import io.artframework.*;
+import io.artframework.annotations.ConfigOption;
 import io.artframework.conf.Constants;
+import io.artframework.conf.KeyValuePair;
 import io.artframework.conf.RequirementConfig;
 import lombok.NonNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,10 +11,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.spy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @SuppressWarnings("ALL")
 class DefaultRequirementContextTest {
@@ -70,6 +74,135 @@ class DefaultRequirementContextTest {
         }
     }
 
+    @Nested
+    @DisplayName("test(...) pure")
+    class pure {
+
+        private PureRequirement pureRequirement;
+        private DefaultRequirementContext<MyTarget> pureContext;
+
+        @BeforeEach
+        void setUp() throws ArtMetaDataException, ConfigurationException {
+
+            pureRequirement = spy(new PureRequirement());
+            pureContext = new DefaultRequirementContext<>(
+                    ART.globalScope(),
+                    config,
+                    RequirementFactory.of(ART.globalScope(), (ArtObjectMeta) ArtObjectMeta.of(ART.globalScope(), PureRequirement.class, () -> pureRequirement)),
+                    ConfigMap.of(PureRequirement.class)
+            );
+        }
+
+        @Test
+        @DisplayName("should only test pure requirements once per execution and target")
+        void shouldMemoizePureRequirements() {
+
+            ExecutionContext<?> execution = ExecutionContext.of(ART.globalScope(), null, target);
+
+            assertThat(pureContext.test(target, execution.next(pureContext)).success()).isTrue();
+            assertThat(pureContext.test(target, execution.next(pureContext)).success()).isTrue();
+
+            verify(pureRequirement, times(1)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should test pure requirements again in a new execution")
+        void shouldTestPureRequirementsInNewExecution() {
+
+            pureContext.test(target, ExecutionContext.of(ART.globalScope(), null, target).next(pureContext));
+            pureContext.test(target, ExecutionContext.of(ART.globalScope(), null, target).next(pureContext));
+
+            verify(pureRequirement, times(2)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should test pure requirements for every target")
+        void shouldTestPureRequirementsForEveryTarget() {
+
+            MyTargetWrapper otherTarget = new MyTargetWrapper(new MyTarget());
+            ExecutionContext<?> execution = ExecutionContext.of(ART.globalScope(), null, target, otherTarget);
+
+            pureContext.test(target, execution.next(pureContext));
+            pureContext.test(otherTarget, execution.next(pureContext));
+
+            verify(pureRequirement, times(2)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should test pure requirements again in a delayed execution with a new memo")
+        void shouldTestPureRequirementsWithNewMemo() {
+
+            ExecutionContext<?> execution = ExecutionContext.of(ART.globalScope(), null, target);
+            pureContext.test(target, execution.next(pureContext));
+            pureContext.test(target, execution.withNewMemo().next(pureContext));
+
+            verify(pureRequirement, times(2)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should always test impure and stateful requirements")
+        void shouldNotMemoizeStatefulRequirements() {
+
+            ExecutionContext<?> execution = ExecutionContext.of(ART.globalScope(), null, target);
+            context.test(target, execution.next(context));
+            context.test(target, execution.next(context));
+
+            config.count(5);
+            pureContext.test(target, execution.next(pureContext));
+            pureContext.test(target, execution.next(pureContext));
+
+            verify(requirement, times(2)).test(any(), any());
+            verify(pureRequirement, times(2)).test(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("test(...) cacheable")
+    class cacheable {
+
+        private CacheableRequirement cacheableRequirement;
+
+        @BeforeEach
+        void setUp() {
+
+            cacheableRequirement = spy(new CacheableRequirement());
+        }
+
+        private DefaultRequirementContext<MyTarget> cacheableContext(String value) throws ArtMetaDataException, ConfigurationException {
+
+            return new DefaultRequirementContext<>(
+                    ART.globalScope(),
+                    new RequirementConfig(),
+                    RequirementFactory.of(ART.globalScope(), (ArtObjectMeta) ArtObjectMeta.of(ART.globalScope(), CacheableRequirement.class, () -> cacheableRequirement)),
+                    ConfigMap.of(CacheableRequirement.class).with(Arrays.asList(KeyValuePair.of("value", value)))
+            );
+        }
+
+        @Test
+        @DisplayName("should reuse the result of a static config in other executions")
+        void shouldCacheStaticConfig() throws ArtMetaDataException, ConfigurationException {
+
+            DefaultRequirementContext<MyTarget> cacheableContext = cacheableContext("foo");
+
+            cacheableContext.test(target, ExecutionContext.of(ART.globalScope(), null, target).next(cacheableContext));
+            cacheableContext.test(target, ExecutionContext.of(ART.globalScope(), null, target).next(cacheableContext));
+
+            verify(cacheableRequirement, times(1)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should not cache the result of a config with replacements")
+        void shouldNotCacheReplacedConfig() throws ArtMetaDataException, ConfigurationException {
+
+            DefaultRequirementContext<MyTarget> cacheableContext = cacheableContext("${foo}");
+
+            cacheableContext.test(target, ExecutionContext.of(ART.globalScope(), null, target).next(cacheableContext));
+            cacheableContext.test(target, ExecutionContext.of(ART.globalScope(), null, target).next(cacheableContext));
+
+            verify(cacheableRequirement, times(2)).test(any(), any());
+        }
+    }
+
     @io.artframework.annotations.ART("test")
     public static class TestRequirement implements Requirement<MyTarget> {
         @Override
@@ -79,6 +212,28 @@ class DefaultRequirementContextTest {
         }
     }
 
+    @io.artframework.annotations.ART(value = "pure", pure = true)
+    public static class PureRequirement implements Requirement<MyTarget> {
+        @Override
+        public Result test(@NonNull Target<MyTarget> target, @NonNull ExecutionContext<RequirementContext<MyTarget>> context) {
+
+            return success();
+        }
+    }
+
+    @io.artframework.annotations.ART(value = "cacheable", cacheable = true)
+    public static class CacheableRequirement implements Requirement<MyTarget> {
+
+        @ConfigOption(position = 0)
+        private String value;
+
+        @Override
+        public Result test(@NonNull Target<MyTarget> target, @NonNull ExecutionContext<RequirementContext<MyTarget>> context) {
+
+            return success();
+        }
+    }
+
     public static class MyTarget {
 
     }
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.impl;
+
+import io.artframework.Task;
+import io.artframework.conf.Settings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("ALL")
+class DefaultSchedulerTest {
+
+    private DefaultScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+
+        scheduler = new DefaultScheduler(Settings.defaultSettings());
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        scheduler.shutdown();
+    }
+
+    @Nested
+    @DisplayName("runTaskLater(...)")
+    class runTaskLater {
+
+        @Test
+        @DisplayName("should run the task after the delay on the main thread")
+        void shouldRunOnMainThread() throws InterruptedException {
+
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicReference<String> thread = new AtomicReference<>();
+            long start = System.nanoTime();
+
+            Task task = scheduler.runTaskLater(() -> {
+                thread.set(Thread.currentThread().getName());
+                latch.countDown();
+            }, 50);
+
+            assertThat(task.isSync()).isTrue();
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50);
+            assertThat(thread.get()).startsWith("art-main-");
+        }
+
+        @Test
+        @DisplayName("should not run a cancelled task")
+        void shouldNotRunCancelledTask() throws InterruptedException {
+
+            AtomicInteger runs = new AtomicInteger();
+
+            Task task = scheduler.runTaskLater(runs::incrementAndGet, 50);
+            task.cancel();
+            Thread.sleep(150);
+
+            assertThat(task.isCancelled()).isTrue();
+            assertThat(scheduler.isQueued(task.getTaskId())).isFalse();
+            assertThat(runs).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("should share the async threads without a main thread")
+        void shouldShareThreadsWithoutMainThread() throws InterruptedException {
+
+            scheduler.shutdown();
+            scheduler = new DefaultScheduler(Settings.builder().schedulerMainThread(false).build());
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicReference<String> thread = new AtomicReference<>();
+
+            scheduler.runTaskLater(() -> {
+                thread.set(Thread.currentThread().getName());
+                latch.countDown();
+            }, 10);
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(thread.get()).startsWith("art-async-");
+        }
+    }
+
+    @Nested
+    @DisplayName("runTaskAsynchronously(...)")
+    class runTaskAsynchronously {
+
+        @Test
+        @DisplayName("should run the task on an async thread")
+        void shouldRunAsync() throws InterruptedException {
+
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicReference<String> thread = new AtomicReference<>();
+
+            Task task = scheduler.runTaskAsynchronously(() -> {
+                thread.set(Thread.currentThread().getName());
+                latch.countDown();
+            });
+
+            assertThat(task.isSync()).isFalse();
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(thread.get()).startsWith(scheduler.virtualThreads() ? "art-async-virtual-" : "art-async-");
+        }
+    }
+
+    @Nested
+    @DisplayName("virtualThreads()")
+    class virtualThreads {
+
+        @Test
+        @DisplayName("should use virtual threads if they are supported")
+        void shouldUseVirtualThreadsIfSupported() {
+
+            assertThat(scheduler.virtualThreads()).isEqualTo(VirtualThreads.supported());
+        }
+
+        @Test
+        @DisplayName("should use the thread pool if virtual threads are disabled")
+        void shouldUseThreadPoolIfDisabled() {
+
+            scheduler.shutdown();
+            scheduler = new DefaultScheduler(Settings.builder().virtualThreads(false).build());
+
+            assertThat(scheduler.virtualThreads()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("runTaskTimer(...)")
+    class runTaskTimer {
+
+        @Test
+        @DisplayName("should repeat the task until it is cancelled")
+        void shouldRepeatUntilCancelled() throws InterruptedException {
+
+            CountDownLatch latch = new CountDownLatch(3);
+
+            Task task = scheduler.runTaskTimer(latch::countDown, 0, 10);
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(scheduler.isQueued(task.getTaskId()) || scheduler.isCurrentlyRunning(task.getTaskId())).isTrue();
+            scheduler.cancelTask(task.getTaskId());
+            assertThat(task.isCancelled()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should keep repeating after the task threw an exception")
+        void shouldRepeatAfterException() throws InterruptedException {
+
+            CountDownLatch latch = new CountDownLatch(2);
+
+            scheduler.runTaskTimer(() -> {
+                latch.countDown();
+                throw new IllegalStateException("test");
+            }, 0, 10);
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("callSyncMethod(...)")
+    class callSyncMethod {
+
+        @Test
+        @DisplayName("should return the result of the callable")
+        void shouldReturnResult() throws Exception {
+
+            assertThat(scheduler.callSyncMethod(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS))
+                    .startsWith("art-main-");
+        }
+    }
+
+    @Nested
+    @DisplayName("shutdown()")
+    class shutdown {
+
+        @Test
+        @DisplayName("should fail to schedule tasks after the shutdown")
+        void shouldRejectTasks() {
+
+            scheduler.shutdown();
+
+            assertThat(scheduler.scheduleSyncDelayedTask(() -> {}, 10)).isEqualTo(-1);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import io.artframework.*;
 import io.artframework.conf.ActionConfig;
 import io.artframework.conf.Constants;
 import io.artframework.conf.TriggerConfig;
+import io.artframework.metrics.ArtMetrics;
 import lombok.NonNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("ALL")
@@ -169,6 +171,24 @@ class DefaultTriggerContextTest {
             verify(listener, never()).onTrigger(any(), any());
         }
 
+        @Test
+        @DisplayName("should not record executions that only increased the count as failure")
+        void shouldNotRecordPendingCountAsFailure() {
+
+            config.count(2);
+            String storageKey = UUID.randomUUID().toString();
+            context.storageKey(storageKey);
+
+            context.trigger(target);
+            context.trigger(target);
+
+            assertThat(ART.globalScope().configuration().metrics().snapshot())
+                    .filteredOn(metrics -> storageKey.equals(metrics.storageKey()))
+                    .extracting(ArtMetrics::executions, metrics -> metrics.count(ResultStatus.FAILURE))
+                    .containsExactly(tuple(1L, 0L));
+            ART.globalScope().configuration().metrics().remove(storageKey);
+        }
+
         @Test
         @DisplayName("should call trigger with parsed config map")
         void shouldCallListenerWithParsedTriggerConfigMap() {
@@ -176,6 +196,82 @@ class DefaultTriggerContextTest {
         }
     }
 
+    @Nested
+    @DisplayName("trigger(Target, ExecutionContext)")
+    class triggerInstance {
+
+        private TriggerFactory factory;
+        private ConfigMap configMap;
+        private DefaultTriggerContext context;
+
+        @BeforeEach
+        void setUp() throws ArtMetaDataException {
+
+            factory = mock(TriggerFactory.class);
+            when(factory.meta()).thenReturn((ArtObjectMeta) ArtObjectMeta.of("requirement", MyTarget.class, new RequirementTrigger()));
+            when(factory.create(any())).thenAnswer(invocation -> new RequirementTrigger());
+            configMap = mock(ConfigMap.class);
+            context = new DefaultTriggerContext(ART.globalScope(), new TriggerConfig(), factory, configMap);
+        }
+
+        @Test
+        @DisplayName("should only create the trigger once if its config is static")
+        void shouldReuseTriggerWithStaticConfig() {
+
+            when(configMap.isStatic(any())).thenReturn(true);
+
+            context.trigger(target);
+            context.trigger(target);
+
+            verify(factory, times(1)).create(any());
+        }
+
+        @Test
+        @DisplayName("should create the trigger for every execution if its config is not static")
+        void shouldCreateTriggerWithDynamicConfig() {
+
+            when(configMap.isStatic(any())).thenReturn(false);
+
+            context.trigger(target);
+            context.trigger(target);
+
+            verify(factory, times(2)).create(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("addListener(...)")
+    class addListener {
+
+        @Test
+        @DisplayName("should only call listeners of matching targets")
+        void shouldOnlyCallListenersOfMatchingTargets() {
+
+            TriggerListener<MyTarget> listener = mock(TriggerListener.class);
+            TriggerListener<String> otherListener = mock(TriggerListener.class);
+            context.addListener(MyTarget.class, listener);
+            context.addListener(String.class, otherListener);
+
+            context.trigger(target);
+
+            verify(listener, times(1)).onTrigger(eq(target), any());
+            verify(otherListener, never()).onTrigger(any(), any());
+        }
+
+        @Test
+        @DisplayName("should not call removed listeners")
+        void shouldNotCallRemovedListeners() {
+
+            TriggerListener<MyTarget> listener = mock(TriggerListener.class);
+            context.addListener(MyTarget.class, listener);
+            context.removeListener(listener);
+
+            context.trigger(target);
+
+            verify(listener, never()).onTrigger(any(), any());
+        }
+    }
+
     public static class TestTrigger implements Trigger {
 
         @io.artframework.annotations.ART("test")
@@ -184,6 +280,16 @@ class DefaultTriggerContextTest {
         }
     }
 
+    @io.artframework.annotations.ART("requirement")
+    public static class RequirementTrigger implements Trigger, Requirement<MyTarget> {
+
+        @Override
+        public Result test(@NonNull Target<MyTarget> target, @NonNull ExecutionContext<RequirementContext<MyTarget>> context) {
+
+            return success();
+        }
+    }
+
     @io.artframework.annotations.ART("test")
     public static class TestAction implements Action<MyTarget> {
 
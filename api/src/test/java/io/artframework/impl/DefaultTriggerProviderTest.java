@@ -16,17 +16,26 @@
 
 package io.artframework.impl;
 
-import io.artframework.Scope;
-import io.artframework.Trigger;
+import io.artframework.*;
 import io.artframework.annotations.ART;
+import io.artframework.annotations.ConfigOption;
+import io.artframework.integration.data.Player;
+import io.artframework.integration.targets.PlayerTarget;
+import lombok.NonNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.spy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
+@SuppressWarnings("ALL")
 class DefaultTriggerProviderTest {
 
     private DefaultTriggerProvider provider;
@@ -50,7 +59,195 @@ class DefaultTriggerProviderTest {
         }
     }
 
+    @Nested
+    @DisplayName("execute(...)")
+    class execute {
+
+        private Scope scope;
+        private PureRequirement requirement;
+
+        @BeforeEach
+        void setUp() {
+
+            scope = Scope.defaultScope();
+            scope.configuration().targets().add(Player.class, PlayerTarget::new);
+            requirement = spy(new PureRequirement());
+            scope.register().trigger().add(TestTrigger.class);
+            scope.register().requirements().add(PureRequirement.class, () -> requirement);
+        }
+
+        private ArtContext load(String... lines) throws ParseException {
+
+            return scope.load(Arrays.asList(lines)).enableTrigger();
+        }
+
+        private RequirementNetwork network() {
+
+            return ((DefaultTriggerProvider) scope.configuration().trigger()).requirementNetwork();
+        }
+
+        @Test
+        @DisplayName("should execute every registered trigger context")
+        void shouldExecuteAllTriggerContexts() throws ParseException {
+
+            TriggerListener<Player> listener = mock(TriggerListener.class);
+            scope.load(Arrays.asList("@foo")).onTrigger(Player.class, listener).enableTrigger();
+            scope.load(Arrays.asList("@foo")).onTrigger(Player.class, listener).enableTrigger();
+
+            scope.trigger(TestTrigger.class).with(new Player()).execute();
+
+            verify(listener, times(2)).onTrigger(any(), any());
+        }
+
+        @Test
+        @DisplayName("should test identical pure requirements once per event")
+        void shouldShareIdenticalPureRequirements() throws ParseException {
+
+            load("@foo", "?pure 10");
+            load("@foo", "?pure 10");
+
+            assertThat(network().size()).isEqualTo(1);
+            assertThat(network().dependents()).isEqualTo(2);
+
+            scope.trigger(TestTrigger.class).with(new Player()).execute();
+            verify(requirement, times(1)).test(any(), any());
+
+            scope.trigger(TestTrigger.class).with(new Player()).execute();
+            verify(requirement, times(2)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should test pure requirements with a different config separately")
+        void shouldNotShareDifferentRequirements() throws ParseException {
+
+            load("@foo", "?pure 10");
+            load("@foo", "?pure 20");
+
+            scope.trigger(TestTrigger.class).with(new Player()).execute();
+
+            assertThat(network().size()).isEqualTo(2);
+            verify(requirement, times(2)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should not share pure requirements whose config contains replacements")
+        void shouldNotShareReplacedRequirements() throws ParseException {
+
+            PureNameRequirement nameRequirement = spy(new PureNameRequirement());
+            scope.register().requirements().add(PureNameRequirement.class, () -> nameRequirement);
+
+            load("@foo", "?pure-name ${player}");
+            load("@foo", "?pure-name ${player}");
+
+            assertThat(network().size()).isZero();
+
+            scope.trigger(TestTrigger.class).with(new Player()).execute();
+            verify(nameRequirement, times(2)).test(any(), any());
+        }
+
+        @Test
+        @DisplayName("should remove the nodes of disabled trigger contexts")
+        void shouldRemoveNodesOfDisabledContexts() throws ParseException {
+
+            ArtContext first = load("@foo", "?pure 10");
+            ArtContext second = load("@foo", "?pure 10");
+
+            first.disableTrigger();
+            assertThat(network().size()).isEqualTo(1);
+            assertThat(network().dependents()).isEqualTo(1);
+
+            second.disableTrigger();
+            assertThat(network().size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("execute(...) index")
+    class index {
+
+        private Scope scope;
+        private TriggerListener<Player> a;
+        private TriggerListener<Player> b;
+        private TriggerListener<Player> all;
+
+        @BeforeEach
+        void setUp() throws ParseException {
+
+            scope = Scope.defaultScope();
+            scope.configuration().targets().add(Player.class, PlayerTarget::new);
+            scope.register().trigger().add(IndexedTestTrigger.class);
+
+            a = mock(TriggerListener.class);
+            b = mock(TriggerListener.class);
+            all = mock(TriggerListener.class);
+            scope.load(Arrays.asList("@indexed a")).onTrigger(Player.class, a).enableTrigger();
+            scope.load(Arrays.asList("@indexed b")).onTrigger(Player.class, b).enableTrigger();
+            scope.load(Arrays.asList("@indexed")).onTrigger(Player.class, all).enableTrigger();
+        }
+
+        @Test
+        @DisplayName("should only execute the trigger contexts of the keys and without keys")
+        void shouldOnlyExecuteMatchingContexts() {
+
+            scope.trigger(IndexedTestTrigger.class).with(new Player()).index("a", "c").execute();
+
+            verify(a, times(1)).onTrigger(any(), any());
+            verify(b, never()).onTrigger(any(), any());
+            verify(all, times(1)).onTrigger(any(), any());
+        }
+
+        @Test
+        @DisplayName("should execute all trigger contexts if the event has no keys")
+        void shouldExecuteAllContextsWithoutKeys() {
+
+            scope.trigger(IndexedTestTrigger.class).with(new Player()).execute();
+
+            verify(a, times(1)).onTrigger(any(), any());
+            verify(b, times(1)).onTrigger(any(), any());
+            verify(all, times(1)).onTrigger(any(), any());
+        }
+    }
+
     @ART("foo")
     public static class TestTrigger implements Trigger {
     }
-}
\ No newline at end of file
+
+    @ART("indexed")
+    public static class IndexedTestTrigger implements IndexedTrigger {
+
+        @ConfigOption(position = 0)
+        private String key = "";
+
+        @Override
+        public Collection<?> indexKeys() {
+
+            return key.isEmpty() ? Collections.emptyList() : Collections.singletonList(key);
+        }
+    }
+
+    @ART(value = "pure", pure = true)
+    public static class PureRequirement implements Requirement<Player> {
+
+        @ConfigOption(position = 0)
+        private int amount;
+
+        @Override
+        public Result test(@NonNull Target<Player> target, @NonNull ExecutionContext<RequirementContext<Player>> context) {
+
+            return success();
+        }
+    }
+
+    @ART(value = "pure-name", pure = true)
+    public static class PureNameRequirement implements Requirement<Player> {
+
+        @ConfigOption(position = 0)
+        private String name;
+
+        @Override
+        public Result test(@NonNull Target<Player> target, @NonNull ExecutionContext<RequirementContext<Player>> context) {
+
+            return success();
+        }
+    }
+}
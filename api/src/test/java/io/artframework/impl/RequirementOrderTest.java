@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.impl;
+
+import io.artframework.RequirementContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("ALL")
+class RequirementOrderTest {
+
+    private RequirementContext<?> requirement(int cost, long averageNanos) {
+
+        RequirementContext<?> requirement = mock(RequirementContext.class);
+        when(requirement.cost()).thenReturn(cost);
+        when(requirement.averageNanos()).thenReturn(averageNanos);
+        return requirement;
+    }
+
+    @Test
+    @DisplayName("should sort by cost and then by the observed duration")
+    void shouldSortByCostAndDuration() {
+
+        RequirementContext<?> expensive = requirement(100, 0);
+        RequirementContext<?> slow = requirement(0, 1_000_000L);
+        RequirementContext<?> fast = requirement(0, 1_000L);
+        RequirementContext<?> alsoFast = requirement(0, 1_000L);
+
+        List<RequirementContext<?>> requirements = List.of(expensive, slow, fast, alsoFast);
+
+        assertThat(RequirementOrder.sort(requirements)).containsExactly(fast, alsoFast, slow, expensive);
+    }
+
+    @Test
+    @DisplayName("should cache the order until it is invalidated")
+    void shouldCacheTheOrder() {
+
+        RequirementContext<?> first = requirement(0, 1_000L);
+        RequirementContext<?> second = requirement(0, 2_000L);
+        List<RequirementContext<?>> requirements = new ArrayList<>(List.of(first, second));
+        RequirementOrder order = new RequirementOrder(requirements);
+
+        assertThat(order.get()).containsExactly(first, second);
+
+        when(first.averageNanos()).thenReturn(3_000L);
+        assertThat(order.get()).containsExactly(first, second);
+
+        RequirementContext<?> third = requirement(0, 0);
+        requirements.add(third);
+        order.invalidate();
+        assertThat(order.get()).containsExactly(third, second, first);
+    }
+}
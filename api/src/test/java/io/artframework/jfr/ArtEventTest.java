@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.jfr;
+
+import io.artframework.ArtObjectContext;
+import io.artframework.ArtObjectMeta;
+import io.artframework.ResultStatus;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("ALL")
+class ArtEventTest {
+
+    private ArtObjectContext<?> context;
+
+    @BeforeEach
+    void setUp() {
+
+        ArtObjectMeta meta = mock(ArtObjectMeta.class);
+        when(meta.identifier()).thenReturn("give-item");
+        context = mock(ArtObjectContext.class);
+        when(context.meta()).thenReturn(meta);
+        when(context.storageKey()).thenReturn("rewards");
+    }
+
+    @Test
+    @DisplayName("should not create events without an active recording")
+    void shouldNotCreateEventsWithoutRecording() {
+
+        assertThat(ArtEvent.start(ActionEvent::new)).isNull();
+    }
+
+    @Test
+    @DisplayName("should record the event with the context information")
+    void shouldRecordEvent(@TempDir Path tempDir) throws Exception {
+
+        Path file = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ActionEvent.class);
+            recording.start();
+
+            ActionEvent event = ArtEvent.start(ActionEvent::new);
+            ArtEvent.commit(event, context, null, ResultStatus.SUCCESS);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("io.artframework.Action"))
+                .collect(Collectors.toList());
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("identifier")).isEqualTo("give-item");
+        assertThat(events.get(0).getString("storageKey")).isEqualTo("rewards");
+        assertThat(events.get(0).getString("status")).isEqualTo("SUCCESS");
+    }
+}
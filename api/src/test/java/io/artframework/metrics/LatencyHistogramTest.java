@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SuppressWarnings("ALL")
+class LatencyHistogramTest {
+
+    @Nested
+    @DisplayName("index(...)")
+    class index {
+
+        @Test
+        @DisplayName("should map every value into a bucket that contains it")
+        void shouldMapValuesIntoMatchingBucket() {
+
+            for (int i = 0; i < 10000; i++) {
+                long value = ThreadLocalRandom.current().nextLong(0, Long.MAX_VALUE >>> ThreadLocalRandom.current().nextInt(63));
+                int index = LatencyHistogram.index(value);
+
+                assertThat(index).isBetween(0, LatencyHistogram.BUCKET_COUNT - 1);
+                assertThat(value).isBetween(LatencyHistogram.lowerBound(index), LatencyHistogram.lowerBound(index) + LatencyHistogram.width(index) - 1);
+            }
+        }
+
+        @Test
+        @DisplayName("should map the largest value into the last bucket")
+        void shouldMapMaxValueIntoLastBucket() {
+
+            assertThat(LatencyHistogram.index(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("snapshot()")
+    class snapshot {
+
+        @Test
+        @DisplayName("should calculate the percentiles within the bucket precision")
+        void shouldCalculatePercentiles() {
+
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (long i = 1; i <= 1000; i++) {
+                histogram.record(i * 1000);
+            }
+
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+            assertThat(snapshot.count()).isEqualTo(1000);
+            assertThat(snapshot.max()).isEqualTo(1000000);
+            assertThat(snapshot.mean()).isEqualTo(500500);
+            assertThat((double) snapshot.percentile(50)).isCloseTo(500000, within(500000 / 16d));
+            assertThat((double) snapshot.percentile(99)).isCloseTo(990000, within(990000 / 16d));
+            assertThat(snapshot.percentile(100)).isLessThanOrEqualTo(1000000);
+        }
+
+        @Test
+        @DisplayName("should return zero if nothing was recorded")
+        void shouldReturnZeroIfEmpty() {
+
+            LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+            assertThat(snapshot.percentile(99)).isZero();
+            assertThat(snapshot.mean()).isZero();
+        }
+
+        @Test
+        @DisplayName("should merge the values of two snapshots")
+        void shouldMergeSnapshots() {
+
+            LatencyHistogram first = new LatencyHistogram();
+            first.record(10);
+            LatencyHistogram second = new LatencyHistogram();
+            second.record(20);
+            second.record(30);
+
+            LatencyHistogram.Snapshot merged = first.snapshot().merge(second.snapshot());
+
+            assertThat(merged.count()).isEqualTo(3);
+            assertThat(merged.max()).isEqualTo(30);
+            assertThat(merged.mean()).isEqualTo(20);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.parser.flow;
+
+import io.artframework.*;
+import io.artframework.integration.actions.DamageAction;
+import io.artframework.integration.requirements.HealthRequirement;
+import io.artframework.integration.trigger.PlayerDamangeTrigger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("ALL")
+class ArtSnapshotTest {
+
+    private static final List<String> LINES = Arrays.asList(
+            "@damage",
+            "?health >10",
+            "!damage 10",
+            "!damage 5"
+    );
+
+    private Scope scope;
+    private File file;
+    private ArtSnapshot snapshot;
+    private ArtContext parsed;
+
+    @BeforeEach
+    void setUp(@TempDir File tempDir) throws ParseException {
+
+        scope = Scope.defaultScope();
+        scope.settings().basePath(tempDir);
+        scope.register().actions().add(DamageAction.class);
+        scope.register().requirements().add(HealthRequirement.class);
+        scope.register().trigger().add(PlayerDamangeTrigger.class);
+
+        file = new File(scope.settings().cachePath(), ArtSnapshot.FILE_NAME);
+        snapshot = ArtSnapshot.of(file);
+        parsed = new FlowParser(scope).storageKey("snapshot-test").parse(LINES);
+    }
+
+    private Optional<ArtContext> restore(ArtSnapshot snapshot, String storageKey, Collection<String> lines) {
+
+        return snapshot.restore(scope, storageKey, lines, scope.configuration().parser().all(lines.iterator(), scope));
+    }
+
+    @Nested
+    @DisplayName("restore(...)")
+    class restore {
+
+        @Test
+        @DisplayName("should restore the nesting of the parsed art")
+        void shouldRestoreNesting() {
+
+            Optional<ArtContext> restored = restore(snapshot, "snapshot-test", LINES);
+
+            assertThat(restored).isPresent();
+            Collection<ArtObjectContext<?>> contexts = restored.get().artContexts();
+            assertThat(contexts).hasSize(1).first().isInstanceOf(TriggerContext.class);
+
+            TriggerContext trigger = (TriggerContext) contexts.iterator().next();
+            assertThat(trigger).isNotSameAs(parsed.artContexts().iterator().next());
+            assertThat(trigger.storageKey()).isEqualTo("snapshot-test");
+            assertThat(trigger.requirements()).isEmpty();
+            assertThat(trigger.actions()).hasSize(1);
+
+            ActionContext<?> action = trigger.actions().iterator().next();
+            assertThat(action.requirements()).hasSize(1);
+            assertThat(action.actions()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("should not restore art whose lines changed")
+        void shouldNotRestoreChangedLines() {
+
+            assertThat(restore(snapshot, "snapshot-test", Arrays.asList("@damage", "!damage 10"))).isEmpty();
+            assertThat(restore(snapshot, "other", LINES)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should read the flushed snapshot from disk")
+        void shouldReadFlushedSnapshot() {
+
+            snapshot.flush();
+
+            assertThat(file).exists();
+            assertThat(restore(new ArtSnapshot(file), "snapshot-test", LINES)).isPresent();
+        }
+
+        @Test
+        @DisplayName("should replace a snapshot that was read before without leaving a temporary file")
+        void shouldReplaceReadSnapshot() {
+
+            snapshot.flush();
+            ArtSnapshot read = new ArtSnapshot(file);
+            restore(read, "snapshot-test", LINES);
+            read.put("other", LINES, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+            read.flush();
+
+            assertThat(file).exists();
+            assertThat(new File(file.getParentFile(), file.getName() + ".tmp")).doesNotExist();
+            assertThat(restore(new ArtSnapshot(file), "snapshot-test", LINES)).isPresent();
+        }
+
+        @Test
+        @DisplayName("should discard a corrupt snapshot")
+        void shouldDiscardCorruptSnapshot() throws IOException {
+
+            file.getParentFile().mkdirs();
+            try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+                out.writeInt(ArtSnapshot.MAGIC);
+                out.writeInt(ArtSnapshot.VERSION);
+                out.writeInt(Integer.MAX_VALUE);
+            }
+
+            assertThat(restore(new ArtSnapshot(file), "snapshot-test", LINES)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should not snapshot art with a generated storage key")
+        void shouldNotSnapshotGeneratedStorageKeys() throws ParseException {
+
+            FlowParser parser = new FlowParser(scope);
+            parser.parse(LINES);
+
+            assertThat(restore(snapshot, parser.storageKey(), LINES)).isEmpty();
+        }
+    }
+}
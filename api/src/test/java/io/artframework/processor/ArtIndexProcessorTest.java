@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.processor;
+
+import io.artframework.ArtObject;
+import io.artframework.annotations.ArtModule;
+import io.artframework.util.ArtIndex;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("ALL")
+class ArtIndexProcessorTest {
+
+    private File sourceDir;
+    private File outputDir;
+
+    @BeforeEach
+    void setUp(@TempDir File tempDir) {
+
+        sourceDir = new File(tempDir, "src");
+        outputDir = new File(tempDir, "out");
+        sourceDir.mkdirs();
+        outputDir.mkdirs();
+    }
+
+    @SneakyThrows
+    private File source(String className, String... lines) {
+
+        File file = new File(sourceDir, className + ".java");
+        Files.write(file.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @SneakyThrows
+    private boolean compile(File... sources) {
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(sources);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, Arrays.asList(
+                    "-proc:only",
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", outputDir.getAbsolutePath()
+            ), null, units);
+            task.setProcessors(Collections.singletonList(new ArtIndexProcessor()));
+            return task.call();
+        }
+    }
+
+    @Test
+    @DisplayName("should index art objects and modules")
+    void shouldIndexArtObjectsAndModules() {
+
+        boolean success = compile(
+                source("MyAction",
+                        "public class MyAction implements io.artframework.GenericAction {",
+                        "    public io.artframework.Result execute(io.artframework.Target<Object> target, io.artframework.ExecutionContext<io.artframework.ActionContext<Object>> context) {",
+                        "        return success();",
+                        "    }",
+                        "    public static class Nested implements io.artframework.GenericRequirement {",
+                        "        public io.artframework.Result test(io.artframework.Target<Object> target, io.artframework.ExecutionContext<io.artframework.RequirementContext<Object>> context) {",
+                        "            return success();",
+                        "        }",
+                        "    }",
+                        "}"),
+                source("MyModule",
+                        "@io.artframework.annotations.ArtModule(\"my-module\")",
+                        "public class MyModule {",
+                        "}"),
+                source("Util",
+                        "public class Util {",
+                        "}")
+        );
+
+        assertThat(success).isTrue();
+        assertThat(ArtIndex.of(outputDir))
+                .isPresent().get()
+                .satisfies(index -> {
+                    assertThat(index.classes(ArtIndex.key(ArtObject.class)))
+                            .containsExactlyInAnyOrder("MyAction", "MyAction$Nested");
+                    assertThat(index.classes(ArtIndex.key(ArtModule.class)))
+                            .containsExactly("MyModule");
+                });
+    }
+
+    @Test
+    @DisplayName("should index the target and config types of art objects")
+    void shouldIndexTargetAndConfigTypes() {
+
+        boolean success = compile(
+                source("MyConfig",
+                        "public class MyConfig {",
+                        "}"),
+                source("StringAction",
+                        "public class StringAction implements io.artframework.Action<String>, io.artframework.Configurable<MyConfig> {",
+                        "    public io.artframework.Result execute(io.artframework.Target<String> target, io.artframework.ExecutionContext<io.artframework.ActionContext<String>> context) {",
+                        "        return success();",
+                        "    }",
+                        "    public void load(MyConfig config) {",
+                        "    }",
+                        "}"),
+                source("MyGenericRequirement",
+                        "public class MyGenericRequirement implements io.artframework.GenericRequirement {",
+                        "    public io.artframework.Result test(io.artframework.Target<Object> target, io.artframework.ExecutionContext<io.artframework.RequirementContext<Object>> context) {",
+                        "        return success();",
+                        "    }",
+                        "}")
+        );
+
+        assertThat(success).isTrue();
+        assertThat(ArtIndex.of(outputDir))
+                .isPresent().get()
+                .satisfies(index -> {
+                    assertThat(index.attribute(ArtIndex.TARGET, "StringAction")).contains("java.lang.String");
+                    assertThat(index.attribute(ArtIndex.CONFIG, "StringAction")).contains("MyConfig");
+                    assertThat(index.attribute(ArtIndex.TARGET, "MyGenericRequirement")).isEmpty();
+                    assertThat(index.attribute(ArtIndex.CONFIG, "MyGenericRequirement")).contains("MyGenericRequirement");
+                });
+    }
+
+    @Test
+    @DisplayName("should not write an index if no art classes exist")
+    void shouldNotWriteEmptyIndex() {
+
+        assertThat(compile(source("Util", "public class Util {", "}"))).isTrue();
+        assertThat(ArtIndex.of(outputDir)).isEmpty();
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.simulation;
+
+import io.artframework.ArtContext;
+import io.artframework.DelayedExecutionQueue;
+import io.artframework.ParseException;
+import io.artframework.Scope;
+import io.artframework.integration.actions.DamageAction;
+import io.artframework.integration.data.Player;
+import io.artframework.integration.requirements.HealthRequirement;
+import io.artframework.integration.targets.PlayerTarget;
+import io.artframework.integration.trigger.PlayerMoveTrigger;
+import io.artframework.metrics.LatencyHistogram;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A headless load simulation of the art-framework that runs without Bukkit or any network access.
+ * <p>The simulation generates a script for every trigger, replays the configured event rate
+ * on in memory player targets and runs delayed actions with a {@link SimulatedScheduler}
+ * that drives the {@link DelayedExecutionQueue} and the clock of the cooldowns.
+ * Use it to size a production configuration before deploying it:
+ * <pre>{@code
+ * ./gradlew :api:testClasses
+ * java -cp <test runtime classpath> io.artframework.simulation.LoadSimulation triggers=100 actions=5 events_per_second=1000
+ * }</pre>
+ */
+@Accessors(fluent = true)
+public class LoadSimulation {
+
+    public static void main(String[] args) throws ParseException {
+
+        System.out.println(new LoadSimulation(SimulationConfig.parse(args)).run().summary());
+    }
+
+    @Getter
+    private final SimulationConfig config;
+    @Getter
+    private final SimulatedScheduler scheduler = new SimulatedScheduler();
+    @Getter
+    private final Scope scope;
+
+    public LoadSimulation(@NonNull SimulationConfig config) {
+        this.config = config;
+        this.scope = Scope.of(configuration -> configuration.scheduler(scheduler).clock(scheduler.clock()));
+
+        scope.configuration().targets().add(Player.class, PlayerTarget::new);
+        scope.configuration().trigger().add(PlayerMoveTrigger.class);
+        scope.configuration().requirements().add(HealthRequirement.class);
+        scope.configuration().actions().add(DamageAction.class);
+    }
+
+    /**
+     * Generates the script of the trigger with the given index.
+     *
+     * @param index the index of the trigger
+     * @return the lines of the script
+     */
+    public List<String> script(int index) {
+
+        List<String> lines = new ArrayList<>();
+        lines.add("@move(id:simulation-" + index + ")");
+        for (int i = 0; i < config.requirements(); i++) {
+            lines.add("?health >" + i);
+        }
+        for (int i = 0; i < config.actions(); i++) {
+            List<String> options = new ArrayList<>();
+            if (config.actionDelay() > 0) options.add("delay:" + config.actionDelay());
+            if (config.actionCooldown() > 0) options.add("cooldown:" + config.actionCooldown());
+            // the actions do not deal any damage to keep the requirements of every event identical
+            lines.add(options.isEmpty() ? "!damage 0" : "!damage(" + String.join(", ", options) + ") 0");
+        }
+
+        return lines;
+    }
+
+    /**
+     * Loads the generated scripts, replays the configured events and measures the execution.
+     *
+     * @return the report of the simulation
+     * @throws ParseException if a generated script cannot be parsed
+     */
+    public SimulationReport run() throws ParseException {
+
+        List<ArtContext> contexts = new ArrayList<>();
+        for (int i = 0; i < config.triggers(); i++) {
+            ArtContext context = scope.load("simulation-" + i, script(i));
+            context.enableTrigger();
+            contexts.add(context);
+        }
+
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < config.targets(); i++) {
+            players.add(new Player("player-" + i));
+        }
+
+        LatencyHistogram eventLatency = new LatencyHistogram();
+        LatencyHistogram tickLatency = new LatencyHistogram();
+        double eventsPerTick = config.eventsPerSecond() * config.tickMillis() / 1000d;
+        double dueEvents = 0;
+        long events = 0;
+        DelayedExecutionQueue delayQueue = scope.configuration().delayQueue();
+        long scheduledTasks = 0;
+        int maxPendingTasks = 0;
+
+        long allocationStart = allocatedBytes();
+        long start = System.nanoTime();
+        for (long tick = 0; tick < config.ticks(); tick++) {
+            long tickStart = System.nanoTime();
+
+            // carry over fractions of events to replay the exact event rate over multiple ticks
+            dueEvents += eventsPerTick;
+            for (; dueEvents >= 1; dueEvents--) {
+                Player player = players.get((int) (events++ % players.size()));
+                long eventStart = System.nanoTime();
+                scope.trigger(PlayerMoveTrigger.class).with(player).execute();
+                eventLatency.record(System.nanoTime() - eventStart);
+            }
+            // delayed actions do not schedule any new continuations when they are executed
+            int pendingTasks = delayQueue.size();
+            scheduler.advance(config.tickMillis());
+            scheduledTasks += pendingTasks - delayQueue.size();
+            maxPendingTasks = Math.max(maxPendingTasks, delayQueue.size());
+
+            tickLatency.record(System.nanoTime() - tickStart);
+        }
+        long wallNanos = System.nanoTime() - start;
+        long allocationEnd = allocatedBytes();
+
+        contexts.forEach(ArtContext::disableTrigger);
+
+        return new SimulationReport(
+                config,
+                events,
+                config.ticks(),
+                scheduledTasks,
+                maxPendingTasks,
+                wallNanos,
+                allocationStart < 0 ? -1 : allocationEnd - allocationStart,
+                eventLatency.snapshot(),
+                tickLatency.snapshot()
+        );
+    }
+
+    private static long allocatedBytes() {
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+            if (sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+                return sunThreads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+
+        return -1;
+    }
+}
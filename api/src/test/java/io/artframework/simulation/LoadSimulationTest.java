@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.simulation;
+
+import io.artframework.ResultStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@SuppressWarnings("ALL")
+@DisplayName("LoadSimulation")
+class LoadSimulationTest {
+
+    @Nested
+    @DisplayName("run()")
+    class run {
+
+        @Test
+        @DisplayName("should replay the configured event rate")
+        void shouldReplayEventRate() throws Exception {
+
+            SimulationReport report = new LoadSimulation(SimulationConfig.builder()
+                    .triggers(2)
+                    .requirements(2)
+                    .actions(2)
+                    .targets(5)
+                    .eventsPerSecond(30)
+                    .tickMillis(50)
+                    .seconds(2)
+                    .build()).run();
+
+            assertThat(report.ticks()).isEqualTo(40);
+            assertThat(report.events()).isEqualTo(60);
+            assertThat(report.eventLatency().count()).isEqualTo(60);
+            assertThat(report.tickLatency().count()).isEqualTo(40);
+            assertThat(report.summary()).contains("events: 60");
+        }
+
+        @Test
+        @DisplayName("should run delayed actions with the simulated scheduler")
+        void shouldRunDelayedActions() throws Exception {
+
+            LoadSimulation simulation = new LoadSimulation(SimulationConfig.builder()
+                    .triggers(1)
+                    .requirements(1)
+                    .actions(3)
+                    .targets(1)
+                    .actionDelay(100)
+                    .eventsPerSecond(20)
+                    .tickMillis(50)
+                    .seconds(1)
+                    .build());
+            SimulationReport report = simulation.run();
+
+            assertThat(report.maxPendingTasks()).isGreaterThan(0);
+            assertThat(report.scheduledTasks() + simulation.scope().configuration().delayQueue().size()).isEqualTo(report.events() * 3);
+            assertThat(simulation.scheduler().pending()).isLessThanOrEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should check the cooldown of actions against the simulated time")
+        void shouldSimulateCooldowns() throws Exception {
+
+            LoadSimulation simulation = new LoadSimulation(SimulationConfig.builder()
+                    .triggers(1)
+                    .requirements(0)
+                    .actions(1)
+                    .targets(1)
+                    .actionCooldown(1000)
+                    .eventsPerSecond(20)
+                    .tickMillis(50)
+                    .seconds(10)
+                    .build());
+            SimulationReport report = simulation.run();
+
+            assertThat(report.events()).isEqualTo(200);
+            assertThat(simulation.scope().configuration().metrics().snapshotByIdentifier().get("damage").count(ResultStatus.SUCCESS))
+                    .isEqualTo(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("SimulatedScheduler")
+    class scheduler {
+
+        @Test
+        @DisplayName("should run due tasks in order of their time and scheduling")
+        void shouldRunTasksInOrder() {
+
+            SimulatedScheduler scheduler = new SimulatedScheduler();
+            List<String> runs = new ArrayList<>();
+            scheduler.runTaskLater(() -> runs.add("second"), 20);
+            scheduler.runTaskLater(() -> runs.add("first"), 10);
+            scheduler.runTaskLater(() -> runs.add("third"), 20);
+            scheduler.runTaskLater(() -> runs.add("later"), 100);
+
+            assertThat(scheduler.advance(50)).isEqualTo(3);
+            assertThat(runs).containsExactly("first", "second", "third");
+            assertThat(scheduler.pending()).isEqualTo(1);
+            assertThat(scheduler.now()).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("should advance the clock with the simulated time")
+        void shouldAdvanceClock() {
+
+            SimulatedScheduler scheduler = new SimulatedScheduler();
+            long start = scheduler.clock().currentTimeMillis();
+            List<Long> times = new ArrayList<>();
+            scheduler.runTaskLater(() -> times.add(scheduler.clock().currentTimeMillis() - start), 20);
+
+            scheduler.advance(50);
+
+            assertThat(times).containsExactly(20L);
+            assertThat(scheduler.clock().currentTimeMillis() - start).isEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("should repeat timer tasks until they are cancelled")
+        void shouldRepeatTimerTasks() {
+
+            SimulatedScheduler scheduler = new SimulatedScheduler();
+            List<Long> runs = new ArrayList<>();
+            int taskId = scheduler.runTaskTimer(() -> runs.add(scheduler.now()), 0, 10).getTaskId();
+
+            scheduler.advance(30);
+            scheduler.cancelTask(taskId);
+            scheduler.advance(30);
+
+            assertThat(runs).containsExactly(0L, 10L, 20L, 30L);
+            assertThat(scheduler.pending()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("SimulationConfig.parse(...)")
+    class parse {
+
+        @Test
+        @DisplayName("should parse key value arguments")
+        void shouldParseArguments() {
+
+            SimulationConfig config = SimulationConfig.parse("triggers=100", "events-per-second=1000", "action_delay=250");
+
+            assertThat(config)
+                    .extracting(SimulationConfig::triggers, SimulationConfig::eventsPerSecond, SimulationConfig::actionDelay, SimulationConfig::tickMillis)
+                    .containsExactly(100, 1000, 250L, 50L);
+        }
+
+        @Test
+        @DisplayName("should throw on unknown arguments")
+        void shouldThrowOnUnknownArguments() {
+
+            assertThatIllegalArgumentException().isThrownBy(() -> SimulationConfig.parse("foo=1"));
+        }
+    }
+}
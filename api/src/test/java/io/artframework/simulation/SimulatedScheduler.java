@@ -0,0 +1,272 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.simulation;
+
+import io.artframework.Scheduler;
+import io.artframework.Task;
+import io.artframework.clock.SimulatedClock;
+import lombok.NonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * A deterministic scheduler that runs all tasks on the calling thread when the simulated time is advanced.
+ * <p>Tasks that are due at the same time are run in the order they were scheduled.
+ * Asynchronous tasks are run like synchronous tasks to keep every simulation reproducible.
+ * <p>The simulated time starts at zero. The {@link #clock()} follows the simulated time
+ * and can be configured as the clock of the scope to simulate cooldowns.
+ */
+public class SimulatedScheduler implements Scheduler {
+
+    private final PriorityQueue<SimulatedTask> queue = new PriorityQueue<>(
+            Comparator.comparingLong((SimulatedTask task) -> task.time).thenComparingLong(task -> task.sequence));
+    private final Map<Integer, SimulatedTask> tasks = new HashMap<>();
+    private long now = 0;
+    private long sequence = 0;
+    private int nextId = 1;
+    private SimulatedTask running;
+    private final SimulatedClock clock;
+    private final long clockStart;
+
+    public SimulatedScheduler() {
+        // a last execution at zero means never executed, start the clock at a fixed date to keep it reproducible
+        this(new SimulatedClock(1_600_000_000_000L));
+    }
+
+    public SimulatedScheduler(@NonNull SimulatedClock clock) {
+        this.clock = clock;
+        this.clockStart = clock.currentTimeMillis();
+    }
+
+    /**
+     * @return the current simulated time in milliseconds
+     */
+    public long now() {
+
+        return now;
+    }
+
+    /**
+     * @return the clock that follows the simulated time
+     */
+    public SimulatedClock clock() {
+
+        return clock;
+    }
+
+    private void now(long now) {
+
+        this.now = now;
+        clock.set(clockStart + now);
+    }
+
+    /**
+     * @return the number of tasks that are waiting to be run
+     */
+    public int pending() {
+
+        return tasks.size();
+    }
+
+    /**
+     * Advances the simulated time by the given amount of milliseconds
+     * and runs every task that became due, including tasks that were scheduled by other tasks.
+     *
+     * @param millis the milliseconds to advance the time
+     * @return the number of tasks that were run
+     */
+    public int advance(long millis) {
+
+        long target = now + millis;
+        int count = 0;
+        while (!queue.isEmpty() && queue.peek().time <= target) {
+            SimulatedTask task = queue.poll();
+            if (task.cancelled) continue;
+
+            now(task.time);
+            running = task;
+            try {
+                task.runnable.run();
+            } finally {
+                running = null;
+            }
+            count++;
+
+            if (task.period > 0 && !task.cancelled) {
+                task.time = now + task.period;
+                task.sequence = sequence++;
+                queue.add(task);
+            } else {
+                tasks.remove(task.id);
+            }
+        }
+        now(target);
+
+        return count;
+    }
+
+    @Override
+    public int scheduleSyncDelayedTask(@NonNull Runnable task, long delay) {
+
+        return schedule(task, delay, 0).getTaskId();
+    }
+
+    @Override
+    public int scheduleSyncDelayedTask(@NonNull Runnable task) {
+
+        return schedule(task, 0, 0).getTaskId();
+    }
+
+    @Override
+    public int scheduleSyncRepeatingTask(@NonNull Runnable task, long delay, long period) {
+
+        return schedule(task, delay, period).getTaskId();
+    }
+
+    @Override
+    public @NonNull <T> Future<T> callSyncMethod(@NonNull Callable<T> task) {
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        schedule(() -> {
+            try {
+                future.complete(task.call());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        }, 0, 0);
+
+        return future;
+    }
+
+    @Override
+    public void cancelTask(int taskId) {
+
+        SimulatedTask task = tasks.remove(taskId);
+        if (task != null) task.cancelled = true;
+    }
+
+    @Override
+    public void cancelTasks() {
+
+        tasks.values().forEach(task -> task.cancelled = true);
+        tasks.clear();
+        queue.clear();
+    }
+
+    @Override
+    public boolean isCurrentlyRunning(int taskId) {
+
+        return running != null && running.id == taskId;
+    }
+
+    @Override
+    public boolean isQueued(int taskId) {
+
+        SimulatedTask task = tasks.get(taskId);
+        return task != null && !task.cancelled && task != running;
+    }
+
+    @Override
+    public @NonNull Task runTask(@NonNull Runnable task) {
+
+        return schedule(task, 0, 0);
+    }
+
+    @Override
+    public @NonNull Task runTaskAsynchronously(@NonNull Runnable task) {
+
+        return schedule(task, 0, 0);
+    }
+
+    @Override
+    public @NonNull Task runTaskLater(@NonNull Runnable task, long delay) {
+
+        return schedule(task, delay, 0);
+    }
+
+    @Override
+    public @NonNull Task runTaskLaterAsynchronously(@NonNull Runnable task, long delay) {
+
+        return schedule(task, delay, 0);
+    }
+
+    @Override
+    public @NonNull Task runTaskTimer(@NonNull Runnable task, long delay, long period) {
+
+        return schedule(task, delay, period);
+    }
+
+    @Override
+    public @NonNull Task runTaskTimerAsynchronously(@NonNull Runnable task, long delay, long period) {
+
+        return schedule(task, delay, period);
+    }
+
+    private SimulatedTask schedule(Runnable runnable, long delay, long period) {
+
+        SimulatedTask task = new SimulatedTask(nextId++, runnable, now + Math.max(0, delay), period);
+        task.sequence = sequence++;
+        tasks.put(task.id, task);
+        queue.add(task);
+
+        return task;
+    }
+
+    private class SimulatedTask implements Task {
+
+        private final int id;
+        private final Runnable runnable;
+        private final long period;
+        private long time;
+        private long sequence;
+        private boolean cancelled;
+
+        private SimulatedTask(int id, Runnable runnable, long time, long period) {
+            this.id = id;
+            this.runnable = runnable;
+            this.time = time;
+            this.period = period;
+        }
+
+        @Override
+        public int getTaskId() {
+            return id;
+        }
+
+        @Override
+        public boolean isSync() {
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void cancel() {
+            cancelTask(id);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.simulation;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import java.util.Locale;
+
+/**
+ * The configuration of a {@link LoadSimulation}.
+ * <p>Every simulated trigger is loaded as its own art context with the given number
+ * of requirements and actions and every event calls all of those triggers for one target.
+ */
+@Value
+@Builder(toBuilder = true)
+@Accessors(fluent = true)
+public class SimulationConfig {
+
+    /**
+     * The number of art contexts that listen to the simulated trigger.
+     */
+    @Builder.Default
+    int triggers = 10;
+    /**
+     * The number of requirements of every trigger.
+     */
+    @Builder.Default
+    int requirements = 2;
+    /**
+     * The number of actions of every trigger.
+     */
+    @Builder.Default
+    int actions = 3;
+    /**
+     * The number of distinct targets the events are distributed to.
+     */
+    @Builder.Default
+    int targets = 100;
+    /**
+     * The delay of every action in milliseconds. Zero executes the actions immediately.
+     */
+    @Builder.Default
+    long actionDelay = 0;
+    /**
+     * The cooldown of every action in milliseconds. Zero disables the cooldown.
+     * <p>The cooldown is checked against the simulated time and passes as fast as the simulation runs.
+     */
+    @Builder.Default
+    long actionCooldown = 0;
+    /**
+     * The number of trigger events per simulated second.
+     */
+    @Builder.Default
+    int eventsPerSecond = 200;
+    /**
+     * The duration of a simulated tick in milliseconds, e.g. 50ms for a minecraft server tick.
+     */
+    @Builder.Default
+    long tickMillis = 50;
+    /**
+     * The simulated duration in seconds.
+     */
+    @Builder.Default
+    int seconds = 60;
+
+    /**
+     * @return the number of simulated ticks
+     */
+    public long ticks() {
+
+        return seconds() * 1000L / tickMillis();
+    }
+
+    /**
+     * Parses the given {@code key=value} arguments, e.g. {@code triggers=100 events_per_second=1000}.
+     * Missing arguments keep their default value.
+     *
+     * @param args the arguments to parse
+     * @return the parsed configuration
+     * @throws IllegalArgumentException if an argument is unknown or not a number
+     */
+    public static SimulationConfig parse(String... args) {
+
+        SimulationConfigBuilder builder = builder();
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) throw new IllegalArgumentException("expected key=value but got: " + arg);
+
+            long value = Long.parseLong(pair[1].trim());
+            switch (pair[0].trim().toLowerCase(Locale.ROOT).replace("-", "_")) {
+                case "triggers":
+                    builder.triggers((int) value);
+                    break;
+                case "requirements":
+                    builder.requirements((int) value);
+                    break;
+                case "actions":
+                    builder.actions((int) value);
+                    break;
+                case "targets":
+                    builder.targets((int) value);
+                    break;
+                case "action_delay":
+                    builder.actionDelay(value);
+                    break;
+                case "action_cooldown":
+                    builder.actionCooldown(value);
+                    break;
+                case "events_per_second":
+                    builder.eventsPerSecond((int) value);
+                    break;
+                case "tick_millis":
+                    builder.tickMillis(value);
+                    break;
+                case "seconds":
+                    builder.seconds((int) value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown simulation argument: " + pair[0]);
+            }
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.simulation;
+
+import io.artframework.metrics.LatencyHistogram;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import java.util.Locale;
+
+import static io.artframework.metrics.LatencyHistogram.Snapshot.toMillis;
+
+/**
+ * The result of a {@link LoadSimulation} run.
+ */
+@Value
+@Accessors(fluent = true)
+public class SimulationReport {
+
+    SimulationConfig config;
+    /**
+     * The number of trigger events that were fired.
+     */
+    long events;
+    /**
+     * The number of simulated ticks.
+     */
+    long ticks;
+    /**
+     * The number of delayed actions that were run by the delayed execution queue.
+     */
+    long scheduledTasks;
+    /**
+     * The highest number of pending delayed actions at the end of a tick.
+     */
+    int maxPendingTasks;
+    /**
+     * The wall clock time the simulation took in nanoseconds.
+     */
+    long wallNanos;
+    /**
+     * The bytes allocated by the simulation thread or -1 if the jvm does not support measuring allocations.
+     */
+    long allocatedBytes;
+    /**
+     * The latency of every trigger event including all synchronous requirement checks and actions.
+     */
+    LatencyHistogram.Snapshot eventLatency;
+    /**
+     * The time every simulated tick took including the delayed tasks that became due in the tick.
+     */
+    LatencyHistogram.Snapshot tickLatency;
+
+    /**
+     * @return the processed trigger events per second of wall clock time
+     */
+    public double throughput() {
+
+        return wallNanos > 0 ? events * 1_000_000_000d / wallNanos : 0;
+    }
+
+    /**
+     * @return the average bytes allocated per tick or -1 if allocations were not measured
+     */
+    public long allocatedBytesPerTick() {
+
+        if (allocatedBytes < 0 || ticks == 0) return -1;
+
+        return allocatedBytes / ticks;
+    }
+
+    /**
+     * @return a human readable summary of the simulation
+     */
+    public String summary() {
+
+        return String.format(Locale.ROOT,
+                "%d triggers x %d requirements x %d actions, %d targets, %d events/s for %d ticks of %dms%n"
+                        + "events: %d (%.0f/s), delayed tasks: %d, max pending tasks: %d%n"
+                        + "event latency: p50 %.3fms, p99 %.3fms, max %.3fms%n"
+                        + "tick latency: p50 %.3fms, p99 %.3fms, max %.3fms (budget %dms)%n"
+                        + "allocated: %d bytes/tick",
+                config.triggers(), config.requirements(), config.actions(), config.targets(), config.eventsPerSecond(), ticks, config.tickMillis(),
+                events, throughput(), scheduledTasks, maxPendingTasks,
+                toMillis(eventLatency.percentile(50)), toMillis(eventLatency.percentile(99)), toMillis(eventLatency.max()),
+                toMillis(tickLatency.percentile(50)), toMillis(tickLatency.percentile(99)), toMillis(tickLatency.max()), config.tickMillis(),
+                allocatedBytesPerTick());
+    }
+}
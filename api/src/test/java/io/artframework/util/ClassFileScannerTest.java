@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.util;
+
+import io.artframework.Action;
+import io.artframework.util.ClassFileScanner.ClassFileInfo;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("ALL")
+class ClassFileScannerTest {
+
+    @SneakyThrows
+    private ClassFileInfo scan(Class<?> clazz) {
+
+        try (InputStream inputStream = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+            return ClassFileScanner.scan(inputStream).orElseThrow();
+        }
+    }
+
+    private ClassFileInfo info(String className, String superClassName, boolean referencesArt) {
+
+        return new ClassFileInfo(className, superClassName, Collections.emptyList(), referencesArt);
+    }
+
+    @Nested
+    @DisplayName("scan(...)")
+    class scan {
+
+        @Test
+        @DisplayName("should read the class and super class name")
+        void shouldReadClassNames() {
+
+            ClassFileInfo info = scan(ClassFileScannerTest.class);
+
+            assertThat(info)
+                    .extracting(ClassFileInfo::className, ClassFileInfo::superClassName)
+                    .contains("io/artframework/util/ClassFileScannerTest", "java/lang/Object");
+        }
+
+        @Test
+        @DisplayName("should detect references to the art-framework")
+        void shouldDetectArtReferences() {
+
+            assertThat(scan(Action.class))
+                    .extracting(ClassFileInfo::referencesArt)
+                    .isEqualTo(true);
+            assertThat(scan(String.class))
+                    .extracting(ClassFileInfo::referencesArt)
+                    .isEqualTo(false);
+        }
+    }
+
+    @Nested
+    @DisplayName("relevantClassNames(...)")
+    class relevantClassNames {
+
+        @Test
+        @DisplayName("should include classes that reference the art-framework")
+        void shouldIncludeArtClasses() {
+
+            assertThat(ClassFileScanner.relevantClassNames(Arrays.asList(
+                    info("foo/Action", "java/lang/Object", true),
+                    info("foo/Util", "java/lang/Object", false)
+            ))).containsExactly("foo.Action");
+        }
+
+        @Test
+        @DisplayName("should include sub classes of relevant classes")
+        void shouldIncludeSubClasses() {
+
+            assertThat(ClassFileScanner.relevantClassNames(Arrays.asList(
+                    info("foo/BaseAction", "java/lang/Object", true),
+                    info("foo/MyAction", "foo/BaseAction", false),
+                    info("foo/OtherAction", "foo/MyAction", false)
+            ))).containsExactlyInAnyOrder("foo.BaseAction", "foo.MyAction", "foo.OtherAction");
+        }
+
+        @Test
+        @DisplayName("should include classes with unknown super classes")
+        void shouldIncludeUnknownSuperClasses() {
+
+            assertThat(ClassFileScanner.relevantClassNames(Arrays.asList(
+                    info("foo/MyAction", "bar/BaseAction", false),
+                    info("foo/MyList", "java/util/ArrayList", false)
+            ))).containsExactly("foo.MyAction");
+        }
+    }
+}
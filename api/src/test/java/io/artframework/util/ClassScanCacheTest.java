@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.util;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("ALL")
+class ClassScanCacheTest {
+
+    private File cacheFile;
+    private File jar;
+
+    @BeforeEach
+    @SneakyThrows
+    void setUp(@TempDir File tempDir) {
+
+        cacheFile = new File(tempDir, "class-scan.cache");
+        jar = new File(tempDir, "module.jar");
+        Files.write(jar.toPath(), new byte[]{1, 2, 3});
+    }
+
+    @Test
+    @DisplayName("should return the cached classes of an unchanged jar")
+    void shouldReturnCachedClasses() {
+
+        ClassScanCache cache = new ClassScanCache(cacheFile);
+        cache.put(jar, "foo", Arrays.asList("foo.Bar", "foo.Baz"));
+
+        assertThat(cache.get(jar, "foo"))
+                .isPresent().get()
+                .asList()
+                .containsExactly("foo.Bar", "foo.Baz");
+        assertThat(cache.get(jar, "bar")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should read the cached classes from disk")
+    void shouldReadCacheFromDisk() {
+
+        ClassScanCache cache = new ClassScanCache(cacheFile);
+        cache.put(jar, "foo", Arrays.asList("foo.Bar"));
+        cache.flush();
+
+        assertThat(new ClassScanCache(cacheFile).get(jar, "foo"))
+                .isPresent().get()
+                .asList()
+                .containsExactly("foo.Bar");
+    }
+
+    @Test
+    @DisplayName("should only write the cache file when it is flushed")
+    void shouldOnlyWriteOnFlush() {
+
+        ClassScanCache cache = new ClassScanCache(cacheFile);
+        cache.put(jar, "foo", Arrays.asList("foo.Bar"));
+        cache.put(jar, "bar", Arrays.asList("foo.Baz"));
+
+        assertThat(cacheFile).doesNotExist();
+
+        cache.flush();
+
+        assertThat(cacheFile).exists();
+        assertThat(new ClassScanCache(cacheFile).get(jar, "bar")).isPresent();
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("should ignore the cached classes if the jar changed")
+    void shouldIgnoreChangedJars() {
+
+        ClassScanCache cache = new ClassScanCache(cacheFile);
+        cache.put(jar, "foo", Arrays.asList("foo.Bar"));
+
+        Files.write(jar.toPath(), new byte[]{1, 2, 3, 4});
+
+        assertThat(cache.get(jar, "foo")).isEmpty();
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("should discard a corrupt cache file")
+    void shouldDiscardCorruptCacheFile() {
+
+        Files.write(cacheFile.toPath(), new byte[]{0, 1});
+
+        assertThat(new ClassScanCache(cacheFile).get(jar, "foo")).isEmpty();
+    }
+}
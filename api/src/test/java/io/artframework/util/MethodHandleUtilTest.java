@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.artframework.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SuppressWarnings("ALL")
+class MethodHandleUtilTest {
+
+    @Nested
+    @DisplayName("constructor(...)")
+    class constructor {
+
+        @Test
+        @DisplayName("should create new instances with a private constructor")
+        void shouldCreateNewInstances() {
+
+            Supplier<PrivateConstructor> supplier = MethodHandleUtil.constructor(PrivateConstructor.class).orElseThrow();
+
+            assertThat(supplier.get())
+                    .isInstanceOf(PrivateConstructor.class)
+                    .isNotSameAs(supplier.get());
+        }
+
+        @Test
+        @DisplayName("should cache the supplier per class")
+        void shouldCacheSupplier() {
+
+            assertThat(MethodHandleUtil.constructor(PrivateConstructor.class).orElseThrow())
+                    .isSameAs(MethodHandleUtil.constructor(PrivateConstructor.class).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("should return empty if the class has no parameterless constructor")
+        void shouldReturnEmptyWithoutParameterlessConstructor() {
+
+            assertThat(MethodHandleUtil.constructor(ParameterConstructor.class)).isEmpty();
+            assertThat(MethodHandleUtil.constructor(AbstractClass.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should create new instances with the given constructor parameter")
+        void shouldCreateInstanceWithParameter() {
+
+            assertThat(MethodHandleUtil.constructor(ParameterConstructor.class, String.class).orElseThrow().apply("foo"))
+                    .extracting(o -> o.value)
+                    .isEqualTo("foo");
+        }
+
+        @Test
+        @DisplayName("should pass through exceptions of the constructor")
+        void shouldPassThroughExceptions() {
+
+            Supplier<ThrowingConstructor> supplier = MethodHandleUtil.constructor(ThrowingConstructor.class).orElseThrow();
+
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(supplier::get)
+                    .withMessage("foo");
+        }
+    }
+
+    @Nested
+    @DisplayName("invoker(...)")
+    class invoker {
+
+        @Test
+        @DisplayName("should invoke instance methods with the given arguments")
+        void shouldInvokeInstanceMethod() throws Exception {
+
+            MethodHandleUtil.Invoker invoker = MethodHandleUtil.invoker(Methods.class.getDeclaredMethod("concat", String.class, String.class));
+
+            assertThat(invoker.invoke(new Methods(), "foo", "bar")).isEqualTo("foobar");
+        }
+
+        @Test
+        @DisplayName("should invoke static methods and ignore the instance")
+        void shouldInvokeStaticMethod() throws Exception {
+
+            MethodHandleUtil.Invoker invoker = MethodHandleUtil.invoker(Methods.class.getDeclaredMethod("length", String.class));
+
+            assertThat(invoker.invoke(null, "foo")).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should wrap checked exceptions")
+        void shouldWrapCheckedExceptions() throws Exception {
+
+            MethodHandleUtil.Invoker invoker = MethodHandleUtil.invoker(Methods.class.getDeclaredMethod("fail"));
+
+            assertThatExceptionOfType(RuntimeException.class)
+                    .isThrownBy(() -> invoker.invoke(new Methods()))
+                    .withCauseInstanceOf(IOException.class);
+        }
+    }
+
+    static class PrivateConstructor {
+
+        private PrivateConstructor() {
+        }
+    }
+
+    static class ParameterConstructor {
+
+        private final String value;
+
+        ParameterConstructor(String value) {
+            this.value = value;
+        }
+    }
+
+    static abstract class AbstractClass {
+    }
+
+    static class ThrowingConstructor {
+
+        ThrowingConstructor() {
+            throw new IllegalStateException("foo");
+        }
+    }
+
+    static class Methods {
+
+        private String concat(String first, String second) {
+            return first + second;
+        }
+
+        private static int length(String value) {
+            return value.length();
+        }
+
+        private void fail() throws IOException {
+            throw new IOException("fail");
+        }
+    }
+}
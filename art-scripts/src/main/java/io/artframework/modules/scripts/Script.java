@@ -4,16 +4,31 @@ import io.artframework.ArtContext;
 import lombok.Value;
 import lombok.extern.java.Log;
 
+import java.io.File;
+
 @Value
 @Log(topic = "art-scripts")
 public class Script {
 
     ScriptConfig config;
     ArtContext artContext;
+    /**
+     * The file the script was loaded from.
+     */
+    File file;
+    /**
+     * The content hash of the file at the time the script was loaded.
+     * Used to detect if the script needs to be reloaded.
+     */
+    String hash;
 
     public void enable() {
         if (config.isAutoTrigger()) {
             artContext.enableTrigger();
         }
     }
+
+    public void disable() {
+        artContext.disableTrigger();
+    }
 }
@@ -7,4 +7,9 @@ import lombok.experimental.Accessors;
 public class ScriptModuleConfig {
 
     private boolean enableTrigger = true;
+    /**
+     * Set to false to disable watching the scripts directory for changes.
+     * <p>Changed scripts are reloaded automatically if enabled.
+     */
+    private boolean watchScripts = true;
 }
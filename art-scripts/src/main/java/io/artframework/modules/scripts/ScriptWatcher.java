@@ -0,0 +1,111 @@
+package io.artframework.modules.scripts;
+
+import lombok.extern.java.Log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches the scripts directory and all of its sub directories for changes
+ * and calls the listener with all changed paths.
+ * <p>Events are collected until no new event occurred for {@link #DEBOUNCE_MILLIS}
+ * to avoid reloading a script multiple times while it is being saved.
+ */
+@Log(topic = "art-scripts")
+class ScriptWatcher implements Closeable {
+
+    static final long DEBOUNCE_MILLIS = 250;
+
+    static ScriptWatcher start(Path directory, Consumer<Set<Path>> listener) throws IOException {
+
+        ScriptWatcher watcher = new ScriptWatcher(directory, listener);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    private final Path directory;
+    private final Consumer<Set<Path>> listener;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private ScriptWatcher(Path directory, Consumer<Set<Path>> listener) throws IOException {
+        this.directory = directory;
+        this.listener = listener;
+        this.watchService = directory.getFileSystem().newWatchService();
+        this.thread = new Thread(this::run, "art-scripts-watcher");
+        this.thread.setDaemon(true);
+
+        register(directory);
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        thread.interrupt();
+        watchService.close();
+    }
+
+    private void register(Path path) throws IOException {
+
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path dir : paths.filter(Files::isDirectory).collect(Collectors.toList())) {
+                dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            }
+        }
+    }
+
+    private void run() {
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                WatchKey key = watchService.take();
+                Set<Path> changes = new HashSet<>();
+                while (key != null) {
+                    collectChanges(key, changes);
+                    key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+
+                if (!changes.isEmpty()) {
+                    listener.accept(changes);
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (Exception e) {
+                log.severe("failed to reload changed art-scripts: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void collectChanges(WatchKey key, Set<Path> changes) {
+
+        Path dir = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // some events got lost, let the listener check the whole directory
+                changes.add(directory);
+                continue;
+            }
+
+            Path path = dir.resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+                try {
+                    register(path);
+                } catch (IOException e) {
+                    log.warning("unable to watch new script directory " + path + ": " + e.getMessage());
+                }
+            }
+            changes.add(path);
+        }
+        key.reset();
+    }
+}
@@ -1,22 +1,21 @@
 package io.artframework.modules.scripts;
 
-import io.artframework.ArtContext;
 import io.artframework.ArtException;
-import io.artframework.ParseException;
+import io.artframework.ArtLoader;
+import io.artframework.Scheduler;
 import io.artframework.Scope;
 import io.artframework.annotations.*;
 import io.artframework.modules.scripts.actions.ExecuteScriptAction;
-import lombok.Getter;
 import lombok.extern.java.Log;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -24,8 +23,10 @@ import java.util.stream.Stream;
 @ArtModule("art-scripts")
 public class ScriptsModule {
 
-    @Getter
-    final List<Script> loadedScripts = new ArrayList<>();
+    private static final String STORAGE_PREFIX = "art-scripts:";
+
+    final Map<String, Script> scripts = new ConcurrentHashMap<>();
+    private ScriptWatcher watcher;
 
     @Config("config.yml")
     private ScriptModuleConfig config = new ScriptModuleConfig();
@@ -39,46 +40,172 @@ public class ScriptsModule {
     @OnEnable
     public void onEnable(Scope scope) throws ArtException {
 
-        try {
-            File scriptsDir = new File(scope.settings().basePath(), "scripts");
-            scriptsDir.mkdirs();
+        File scriptsDir = new File(scope.settings().basePath(), "scripts");
+        scriptsDir.mkdirs();
 
-            loadedScripts.addAll(Files.walk(scriptsDir.toPath())
-                    .filter(Files::isRegularFile)
-                    .map(Path::toFile)
-                    .filter(file -> file.getName().endsWith(".yml") || file.getName().endsWith(".yaml"))
-                    .map(file -> scope.configuration().configs()
-                            .load(ScriptConfig.class, file)
-                            .map(scriptConfig -> {
-                                scriptConfig.setIdentifier(getFileIdentifier(scriptsDir.toPath(), file));
-                                return scriptConfig;
-                            })
-                    )
-                    .flatMap(Optional::stream)
-                    .map(scriptConfig -> {
-                        try {
-                            ArtContext context = scope.load("art-scripts:" + scriptConfig.getIdentifier(), scriptConfig.getArt());
-                            log.info("loaded art-script: " + scriptConfig.getIdentifier());
-                            return new Script(scriptConfig, context);
-                        } catch (ParseException e) {
-                            log.severe("failed to load art-script " + scriptConfig.getIdentifier() + ": " + e.getMessage());
-                            return null;
-                        }
-                    }).filter(Objects::nonNull)
-                    .collect(Collectors.toList()));
-
-            log.info("loaded " + loadedScripts.size() + " art-scripts.");
+        try {
+            scripts.putAll(loadScripts(scope, scriptsDir.toPath(), findScriptFiles(scriptsDir.toPath())));
+            log.info("loaded " + scripts.size() + " art-scripts.");
+
+            if (config.isWatchScripts()) {
+                watcher = ScriptWatcher.start(scriptsDir.toPath(), changes -> {
+                    try {
+                        reload(scope, scriptsDir.toPath(), changes);
+                    } catch (IOException e) {
+                        log.severe("failed to reload changed art-scripts: " + e.getMessage());
+                    }
+                });
+            }
         } catch (IOException e) {
             throw new ArtException(e);
         }
 
-        loadedScripts.forEach(Script::enable);
+        scripts.values().forEach(Script::enable);
     }
 
     @OnDisable
-    public void onDisable(Scope scope) {
+    public void onDisable(Scope scope) throws ArtException {
+
+        try {
+            if (watcher != null) {
+                watcher.close();
+                watcher = null;
+            }
+        } catch (IOException e) {
+            throw new ArtException(e);
+        } finally {
+            scripts.values().forEach(Script::disable);
+            scripts.clear();
+        }
+    }
+
+    /**
+     * @return an immutable list of all currently loaded scripts
+     */
+    public List<Script> getLoadedScripts() {
+
+        return List.copyOf(scripts.values());
+    }
+
+    /**
+     * Reloads the scripts of all given paths that changed their content.
+     * <p>Unchanged scripts will keep their art context and scripts of deleted files are disabled and removed.
+     * The parsing is done on the calling thread while the old and new art contexts are swapped
+     * on the main thread if a scheduler is configured.
+     *
+     * @param scope the scope of the module
+     * @param scriptsDir the base directory of all scripts
+     * @param changes the paths that changed. can be directories or files.
+     * @throws IOException if the content of a script file could not be read
+     */
+    void reload(Scope scope, Path scriptsDir, Collection<Path> changes) throws IOException {
+
+        List<File> changedFiles = new ArrayList<>();
+        for (Path path : changes) {
+            for (File file : findScriptFiles(path)) {
+                Script script = scripts.get(getFileIdentifier(scriptsDir, file));
+                if (script == null || !script.getHash().equals(hash(file).orElse(null))) {
+                    changedFiles.add(file);
+                }
+            }
+        }
+
+        Map<String, Script> changedScripts = changedFiles.isEmpty() ? Collections.emptyMap() : loadScripts(scope, scriptsDir, changedFiles);
+        List<String> deletedScripts = scripts.values().stream()
+                .filter(script -> !script.getFile().exists())
+                .map(script -> script.getConfig().getIdentifier())
+                .collect(Collectors.toList());
+
+        if (changedScripts.isEmpty() && deletedScripts.isEmpty()) return;
+
+        Runnable swap = () -> {
+            deletedScripts.forEach(identifier -> Optional.ofNullable(scripts.remove(identifier)).ifPresent(script -> {
+                script.disable();
+                log.info("unloaded deleted art-script: " + identifier);
+            }));
+            changedScripts.forEach((identifier, script) -> scripts.compute(identifier, (key, oldScript) -> {
+                if (oldScript != null) oldScript.disable();
+                script.enable();
+                return script;
+            }));
+            log.info("reloaded " + changedScripts.size() + " changed art-scripts.");
+        };
+
+        Optional<Scheduler> scheduler = scope.configuration().scheduler();
+        if (scheduler.isPresent()) {
+            scheduler.get().runTask(swap);
+        } else {
+            swap.run();
+        }
+    }
+
+    private Map<String, Script> loadScripts(Scope scope, Path scriptsDir, Collection<File> files) {
+
+        Map<String, ScriptConfig> scriptConfigs = new HashMap<>();
+        Map<String, File> scriptFiles = new HashMap<>();
+        Map<String, String> hashes = new HashMap<>();
+        for (File file : files) {
+            Optional<String> fileHash = hash(file);
+            if (fileHash.isEmpty()) continue;
+            String hash = fileHash.get();
+            scope.configuration().configs().load(ScriptConfig.class, file).ifPresent(scriptConfig -> {
+                scriptConfig.setIdentifier(getFileIdentifier(scriptsDir, file));
+                if (scriptConfigs.putIfAbsent(scriptConfig.getIdentifier(), scriptConfig) == null) {
+                    scriptFiles.put(scriptConfig.getIdentifier(), file);
+                    hashes.put(scriptConfig.getIdentifier(), hash);
+                }
+            });
+        }
+
+        // the storage key must stay the same across reloads to keep the persistent data of the script
+        Map<String, Collection<String>> sources = new HashMap<>();
+        scriptConfigs.forEach((identifier, scriptConfig) -> sources.put(STORAGE_PREFIX + identifier, scriptConfig.getArt()));
+
+        Map<String, Script> loadedScripts = new HashMap<>();
+        ArtLoader.of(scope).parseAll(sources)
+                .forEachError((key, e) -> log.severe("failed to load art-script " + key.substring(STORAGE_PREFIX.length()) + ": " + e.getMessage()))
+                .forEachContext((key, context) -> {
+                    String identifier = key.substring(STORAGE_PREFIX.length());
+                    log.info("loaded art-script: " + identifier);
+                    loadedScripts.put(identifier, new Script(scriptConfigs.get(identifier), context, scriptFiles.get(identifier), hashes.get(identifier)));
+                });
+
+        return loadedScripts;
+    }
+
+    private static List<File> findScriptFiles(Path path) throws IOException {
+
+        if (!Files.exists(path)) return Collections.emptyList();
+
+        try (Stream<Path> paths = Files.walk(path)) {
+            return paths.filter(Files::isRegularFile)
+                    .map(Path::toFile)
+                    .filter(file -> file.getName().endsWith(".yml") || file.getName().endsWith(".yaml"))
+                    .collect(Collectors.toList());
+        }
+    }
 
-        loadedScripts.clear();
+    /**
+     * Creates a SHA-256 hash of the content of the given file.
+     *
+     * @param file the file to hash
+     * @return the hex encoded hash of the file content or an empty optional if the file cannot be read
+     */
+    static Optional<String> hash(File file) {
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file.toPath()));
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest) {
+                sb.append(String.format("%02x", b));
+            }
+            return Optional.of(sb.toString());
+        } catch (IOException e) {
+            log.warning("unable to read art-script " + file + ": " + e.getMessage());
+            return Optional.empty();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
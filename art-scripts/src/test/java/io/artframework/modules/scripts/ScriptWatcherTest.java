@@ -0,0 +1,86 @@
+package io.artframework.modules.scripts;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SuppressWarnings("ALL")
+class ScriptWatcherTest {
+
+    // some watch service implementations poll the file system only every few seconds
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @TempDir
+    Path scriptsDir;
+
+    Set<Path> changes;
+    ScriptWatcher watcher;
+
+    @BeforeEach
+    @SneakyThrows
+    void setUp() {
+
+        changes = ConcurrentHashMap.newKeySet();
+        watcher = ScriptWatcher.start(scriptsDir, changes::addAll);
+    }
+
+    @AfterEach
+    @SneakyThrows
+    void tearDown() {
+
+        watcher.close();
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("should report created and modified scripts")
+    void shouldReportChangedFiles() {
+
+        Path file = scriptsDir.resolve("foo.yml");
+        Files.write(file, Collections.singletonList("art: []"), StandardCharsets.UTF_8);
+
+        await().atMost(TIMEOUT).until(() -> changes.contains(file));
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("should watch new sub directories")
+    void shouldWatchNewDirectories() {
+
+        Path dir = Files.createDirectory(scriptsDir.resolve("sub"));
+        await().atMost(TIMEOUT).until(() -> changes.contains(dir));
+
+        Path file = dir.resolve("foo.yml");
+        Files.write(file, Collections.singletonList("art: []"), StandardCharsets.UTF_8);
+
+        await().atMost(TIMEOUT).until(() -> changes.contains(file));
+    }
+
+    @Test
+    @SneakyThrows
+    @DisplayName("should report deleted scripts")
+    void shouldReportDeletedFiles() {
+
+        Path file = Files.write(scriptsDir.resolve("foo.yml"), Collections.singletonList("art: []"), StandardCharsets.UTF_8);
+        await().atMost(TIMEOUT).until(() -> changes.contains(file));
+        changes.clear();
+
+        Files.delete(file);
+
+        await().atMost(TIMEOUT).until(() -> changes.contains(file));
+    }
+}
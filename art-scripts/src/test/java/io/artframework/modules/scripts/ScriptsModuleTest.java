@@ -0,0 +1,160 @@
+package io.artframework.modules.scripts;
+
+import io.artframework.Scheduler;
+import io.artframework.Scope;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("ALL")
+class ScriptsModuleTest {
+
+    @TempDir
+    Path scriptsDir;
+
+    Scope scope;
+    ScriptsModule module;
+
+    @BeforeEach
+    void setUp() {
+
+        scope = Scope.defaultScope();
+        module = new ScriptsModule();
+    }
+
+    @SneakyThrows
+    private Path script(String name, String... lines) {
+
+        Path file = scriptsDir.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @SneakyThrows
+    private void reload(Path... changes) {
+
+        module.reload(scope, scriptsDir, Arrays.asList(changes));
+    }
+
+    @Nested
+    @DisplayName("reload(...)")
+    class reload {
+
+        @Test
+        @DisplayName("should load all new scripts")
+        void shouldLoadNewScripts() {
+
+            script("foo.yml", "art: []");
+            script("sub/bar.yaml", "art: []");
+
+            reload(scriptsDir);
+
+            assertThat(module.scripts).containsOnlyKeys("foo", "sub.bar");
+        }
+
+        @Test
+        @DisplayName("should only replace scripts whose content changed")
+        void shouldOnlyReplaceChangedScripts() {
+
+            script("foo.yml", "art: []");
+            script("bar.yml", "art: []");
+            reload(scriptsDir);
+            Script oldFoo = module.scripts.get("foo");
+            Script oldBar = module.scripts.get("bar");
+
+            script("foo.yml", "# changed", "art: []");
+            reload(scriptsDir);
+
+            assertThat(module.scripts.get("foo"))
+                    .isNotSameAs(oldFoo)
+                    .extracting(Script::getHash)
+                    .isNotEqualTo(oldFoo.getHash());
+            assertThat(module.scripts.get("bar")).isSameAs(oldBar);
+        }
+
+        @Test
+        @DisplayName("should keep all scripts if nothing changed")
+        void shouldKeepUnchangedScripts() {
+
+            script("foo.yml", "art: []");
+            reload(scriptsDir);
+            Script foo = module.scripts.get("foo");
+
+            reload(scriptsDir);
+
+            assertThat(module.scripts).containsOnlyKeys("foo");
+            assertThat(module.scripts.get("foo")).isSameAs(foo);
+        }
+
+        @Test
+        @SneakyThrows
+        @DisplayName("should remove the scripts of deleted files")
+        void shouldRemoveDeletedScripts() {
+
+            script("foo.yml", "art: []");
+            Path bar = script("bar.yml", "art: []");
+            reload(scriptsDir);
+
+            Files.delete(bar);
+            reload(bar);
+
+            assertThat(module.scripts).containsOnlyKeys("foo");
+        }
+
+        @Test
+        @DisplayName("should swap the scripts with the scheduler")
+        void shouldSwapScriptsWithScheduler() {
+
+            Scheduler scheduler = mock(Scheduler.class);
+            scope = Scope.of(configuration -> configuration.scheduler(scheduler));
+            script("foo.yml", "art: []");
+
+            reload(scriptsDir);
+
+            ArgumentCaptor<Runnable> swap = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).runTask(swap.capture());
+            assertThat(module.scripts).isEmpty();
+
+            swap.getValue().run();
+            assertThat(module.scripts).containsOnlyKeys("foo");
+        }
+
+        @Test
+        @DisplayName("should not schedule a swap if nothing changed")
+        void shouldNotScheduleSwapWithoutChanges() {
+
+            Scheduler scheduler = mock(Scheduler.class);
+            scope = Scope.of(configuration -> configuration.scheduler(scheduler));
+
+            reload(scriptsDir);
+
+            verify(scheduler, never()).runTask(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("getFileIdentifier(...)")
+    class getFileIdentifier {
+
+        @Test
+        @DisplayName("should join sub directories with a dot and drop the extension")
+        void shouldCreateIdentifierFromRelativePath() {
+
+            assertThat(ScriptsModule.getFileIdentifier(scriptsDir, scriptsDir.resolve("Sub/Foo.yml").toFile()))
+                    .isEqualTo("sub.foo");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.benchmarks;
+
+import io.artframework.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures executing the actions of an art context with {@link ArtContext#execute(Target[])}.
+ * <p>The static context only contains constant config values while the templated context
+ * has to replace the variables of the execution context on every execution.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArtContextBenchmark {
+
+    private ArtContext staticContext;
+    private ArtContext templatedContext;
+    private Target<BenchmarkFixtures.Player> target;
+
+    @Setup
+    public void setUp() throws ParseException {
+
+        Scope scope = BenchmarkFixtures.scope();
+
+        staticContext = scope.load("static", Arrays.asList(
+                "?health 10",
+                "!damage 1",
+                "!message \"You received a reward.\""
+        ));
+        templatedContext = scope.load("templated", Arrays.asList(
+                "?health 10",
+                "!damage 1",
+                "!message \"${name} received ${amount} coins.\""
+        ));
+        templatedContext.var("name", "bench");
+        templatedContext.var("amount", 10);
+
+        target = new BenchmarkFixtures.PlayerTarget(new BenchmarkFixtures.Player("bench"));
+    }
+
+    @Benchmark
+    public FutureResult executeStatic() {
+
+        return staticContext.execute(target);
+    }
+
+    @Benchmark
+    public FutureResult executeTemplated() {
+
+        return templatedContext.execute(target);
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.benchmarks;
+
+import io.artframework.*;
+import io.artframework.annotations.ART;
+import io.artframework.annotations.ConfigOption;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The art objects, targets and configs that are used by all benchmarks.
+ * <p>The art objects do as little as possible to only measure the overhead of the art-framework.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+
+    }
+
+    /**
+     * Creates a new scope with all benchmark art objects and targets registered.
+     * <p>The settings that affect the measured code paths are fixed instead of relying on the defaults:
+     * the startup is not profiled, no metrics are recorded and requirement results are not cached,
+     * so every iteration measures the full execution. Art snapshots are stored in a new temporary directory.
+     *
+     * @return the new scope
+     */
+    public static Scope scope() {
+
+        Scope scope = Scope.defaultScope();
+        scope.settings()
+                .basePath(tempDirectory())
+                .profileStartup(false)
+                .metrics(false)
+                .metricsMBeans(false)
+                .traceSampleRate(0)
+                .requirementCacheMillis(0)
+                .shortCircuitRequirements(false)
+                .snapshotArt(true);
+        scope.configuration().targets().add(Player.class, PlayerTarget::new);
+        scope.configuration().actions()
+                .add(DamageAction.class)
+                .add(MessageAction.class);
+        scope.configuration().requirements().add(HealthRequirement.class);
+        scope.configuration().trigger().add(DamageTrigger.class);
+
+        return scope;
+    }
+
+    private static File tempDirectory() {
+
+        try {
+            File directory = Files.createTempDirectory("art-benchmarks").toFile();
+            directory.deleteOnExit();
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a realistic reward configuration with the given number of lines.
+     * <p>Every block of lines consists of a trigger with a requirement
+     * and a mix of static, templated and delayed actions.
+     *
+     * @param count the number of lines
+     * @return the lines of the configuration
+     */
+    public static List<String> lines(int count) {
+
+        String[] block = {
+                "@player-damage",
+                "?health 10",
+                "!damage 1",
+                "!message \"You took damage.\"",
+                "!message(cooldown:5s) \"Hello ${name}, watch out!\"",
+                "?health(negated:true) 90",
+                "!damage(delay:1s) amount=2",
+                "!message [first line, second line]"
+        };
+
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(block[i % block.length]);
+        }
+
+        return lines;
+    }
+
+    public static class Player {
+
+        private final UUID uniqueId = UUID.randomUUID();
+        private final String name;
+        private int health = 100;
+        private long damageTaken;
+        private String lastMessage;
+
+        public Player(String name) {
+            this.name = name;
+        }
+
+        public UUID uniqueId() {
+            return uniqueId;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public int health() {
+            return health;
+        }
+
+        public void health(int health) {
+            this.health = health;
+        }
+
+        public long damageTaken() {
+            return damageTaken;
+        }
+
+        public void damage(int amount) {
+            this.damageTaken += amount;
+        }
+
+        public String lastMessage() {
+            return lastMessage;
+        }
+
+        public void sendMessage(String message) {
+            this.lastMessage = message;
+        }
+    }
+
+    public static class PlayerTarget extends AbstractTarget<Player> {
+
+        public PlayerTarget(Player source) {
+            super(source);
+        }
+
+        @Override
+        public String uniqueId() {
+            return source().uniqueId().toString();
+        }
+    }
+
+    @ART("damage")
+    public static class DamageAction implements Action<Player> {
+
+        @ConfigOption(position = 0)
+        private int amount = 1;
+
+        @Override
+        public Result execute(Target<Player> target, ExecutionContext<ActionContext<Player>> context) {
+
+            // only count the damage to keep the requirements of every iteration identical
+            target.source().damage(amount);
+
+            return success();
+        }
+    }
+
+    @ART("message")
+    public static class MessageAction implements Action<Player> {
+
+        @ConfigOption(position = 0)
+        private String[] text = new String[0];
+
+        @Override
+        public Result execute(Target<Player> target, ExecutionContext<ActionContext<Player>> context) {
+
+            for (String line : text) {
+                target.source().sendMessage(line);
+            }
+
+            return success();
+        }
+    }
+
+    @ART("health")
+    public static class HealthRequirement implements Requirement<Player> {
+
+        @ConfigOption(position = 0)
+        private int health = 0;
+
+        @Override
+        public Result test(Target<Player> target, ExecutionContext<RequirementContext<Player>> context) {
+
+            return resultOf(target.source().health() >= health);
+        }
+    }
+
+    @ART("player-damage")
+    public static class DamageTrigger implements Trigger {
+
+    }
+
+    /**
+     * A config with a mix of primitive, string and array values used by the config benchmarks.
+     */
+    public static class RewardConfig {
+
+        @ConfigOption(position = 0)
+        private int amount = 1;
+        @ConfigOption(position = 1)
+        private String message = "";
+        @ConfigOption
+        private double chance = 1.0;
+        @ConfigOption
+        private String[] items = new String[0];
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.benchmarks;
+
+import io.artframework.*;
+import io.artframework.parser.ConfigParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing config strings with the {@link ConfigParser}
+ * and resolving and applying the resulting {@link ConfigMap}.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigBenchmark {
+
+    private static final String POSITIONAL_CONFIG = "5 \"You received a reward.\"";
+    private static final String KEY_VALUE_CONFIG = "amount=5, message=\"Hello ${name}\", chance=0.5, items=[stone, dirt, gold ingot]";
+
+    private Scope scope;
+    private ConfigMap configMap;
+    private ConfigMap loadedConfig;
+    private ConfigMap resolvedConfig;
+    private ExecutionContext<?> executionContext;
+    private Target<BenchmarkFixtures.Player> target;
+
+    @Setup
+    public void setUp() throws ConfigurationException, ParseException {
+
+        scope = BenchmarkFixtures.scope();
+        configMap = ConfigMap.of(BenchmarkFixtures.RewardConfig.class);
+
+        ConfigParser parser = ConfigParser.of(configMap);
+        parser.accept(KEY_VALUE_CONFIG);
+        loadedConfig = parser.parse();
+        resolvedConfig = loadedConfig.resolve(scope);
+
+        target = new BenchmarkFixtures.PlayerTarget(new BenchmarkFixtures.Player("bench"));
+        executionContext = ExecutionContext.of(scope, null, target);
+        executionContext.var("name", "bench");
+    }
+
+    @Benchmark
+    public ConfigMap parsePositional() throws ParseException {
+
+        ConfigParser parser = ConfigParser.of(configMap);
+        parser.accept(POSITIONAL_CONFIG);
+        return parser.parse();
+    }
+
+    @Benchmark
+    public ConfigMap parseKeyValue() throws ParseException {
+
+        ConfigParser parser = ConfigParser.of(configMap);
+        parser.accept(KEY_VALUE_CONFIG);
+        return parser.parse();
+    }
+
+    @Benchmark
+    public ConfigMap resolve() {
+
+        return loadedConfig.resolve(scope, target, executionContext);
+    }
+
+    @Benchmark
+    public BenchmarkFixtures.RewardConfig applyTo() {
+
+        return resolvedConfig.applyTo(new BenchmarkFixtures.RewardConfig());
+    }
+}
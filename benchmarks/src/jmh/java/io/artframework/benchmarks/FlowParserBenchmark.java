@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.benchmarks;
+
+import io.artframework.ArtContext;
+import io.artframework.ParseException;
+import io.artframework.Scope;
+import io.artframework.parser.flow.FlowParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing a configuration into an art context with {@link FlowParser#parse(java.util.Collection)}
+ * and restoring the same configuration from its {@link io.artframework.parser.flow.ArtSnapshot}.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlowParserBenchmark {
+
+    private static final String SNAPSHOT_KEY = "benchmark";
+
+    @Param({"8", "64", "512"})
+    private int lines;
+
+    private Scope scope;
+    private List<String> input;
+
+    @Setup
+    public void setUp() throws ParseException {
+
+        scope = BenchmarkFixtures.scope();
+        input = BenchmarkFixtures.lines(lines);
+        // parsing the input once with a storage key stores it in the snapshot
+        new FlowParser(scope).storageKey(SNAPSHOT_KEY).parse(input);
+    }
+
+    @Benchmark
+    public ArtContext parse() throws ParseException {
+
+        return new FlowParser(scope).parse(input);
+    }
+
+    @Benchmark
+    public ArtContext restoreSnapshot() throws ParseException {
+
+        return new FlowParser(scope).storageKey(SNAPSHOT_KEY).parse(input);
+    }
+}
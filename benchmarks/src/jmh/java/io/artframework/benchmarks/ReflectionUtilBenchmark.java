@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.benchmarks;
+
+import io.artframework.util.ReflectionUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of the nearest matching class with {@link ReflectionUtil#getEntryForTargetClass(Class, Map)},
+ * which is used to find the targets and trigger listeners of every execution.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReflectionUtilBenchmark {
+
+    private final Map<Class<?>, String> map = new HashMap<>();
+
+    @Setup
+    public void setUp() {
+
+        map.put(Object.class, "object");
+        map.put(Serializable.class, "serializable");
+        map.put(CharSequence.class, "char sequence");
+        map.put(String.class, "string");
+        map.put(Number.class, "number");
+        map.put(Integer.class, "integer");
+        map.put(Collection.class, "collection");
+        map.put(List.class, "list");
+        map.put(AbstractList.class, "abstract list");
+        map.put(Map.class, "map");
+        map.put(BenchmarkFixtures.Player.class, "player");
+    }
+
+    @Benchmark
+    public Optional<String> exactMatch() {
+
+        return ReflectionUtil.getEntryForTargetClass(String.class, map);
+    }
+
+    @Benchmark
+    public Optional<String> nearestSuperClass() {
+
+        return ReflectionUtil.getEntryForTargetClass(ArrayList.class, map);
+    }
+
+    @Benchmark
+    public Optional<String> nearestInterface() {
+
+        return ReflectionUtil.getEntryForTargetClass(StringBuilder.class, map);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.benchmarks;
+
+import io.artframework.impl.DefaultMapStorageProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures storing and reading values with the in memory {@link DefaultMapStorageProvider}.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StorageBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private DefaultMapStorageProvider storage;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+
+        storage = new DefaultMapStorageProvider(BenchmarkFixtures.scope());
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "art-context-" + i + "#" + UUID.randomUUID() + "#last_execution";
+            storage.set(keys[i], (long) i);
+        }
+    }
+
+    @State(org.openjdk.jmh.annotations.Scope.Thread)
+    public static class Index {
+
+        private int next;
+
+        int next() {
+            next = (next + 1) & (KEYS - 1);
+            return next;
+        }
+    }
+
+    @Benchmark
+    public Optional<Long> get(Index index) {
+
+        return storage.get(keys[index.next()], Long.class);
+    }
+
+    @Benchmark
+    public Optional<Long> set(Index index) {
+
+        int i = index.next();
+        return storage.set(keys[i], (long) i);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.benchmarks;
+
+import io.artframework.ArtContext;
+import io.artframework.ParseException;
+import io.artframework.Scope;
+import io.artframework.TriggerProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures dispatching a trigger execution with {@link TriggerProvider#execute(io.artframework.TriggerExecution)}
+ * to the given number of registered art contexts.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TriggerDispatchBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int contexts;
+
+    private Scope scope;
+    private BenchmarkFixtures.Player player;
+
+    @Setup
+    public void setUp() throws ParseException {
+
+        scope = BenchmarkFixtures.scope();
+        for (int i = 0; i < contexts; i++) {
+            ArtContext context = scope.load("context-" + i, Arrays.asList(
+                    "@player-damage",
+                    "?health 10",
+                    "!damage 1"
+            ));
+            context.enableTrigger();
+        }
+
+        player = new BenchmarkFixtures.Player("bench");
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        scope.configuration().trigger().unregisterAll();
+    }
+
+    @Benchmark
+    public void execute() {
+
+        scope.trigger(BenchmarkFixtures.DamageTrigger.class)
+                .with(player)
+                .execute();
+    }
+}
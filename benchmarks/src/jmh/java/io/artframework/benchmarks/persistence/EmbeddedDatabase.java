@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.benchmarks.persistence;
+
+import io.artframework.bukkit.storage.MetadataStore;
+import io.ebean.Database;
+import io.ebean.DatabaseFactory;
+import io.ebean.Transaction;
+import io.ebean.config.DatabaseConfig;
+import io.ebean.datasource.DataSourceConfig;
+
+import java.io.File;
+
+/**
+ * Creates file based embedded databases with the schema of the {@link MetadataStore}.
+ */
+final class EmbeddedDatabase {
+
+    static final String H2 = "h2";
+    static final String SQLITE = "sqlite";
+
+    private EmbeddedDatabase() {
+
+    }
+
+    /**
+     * Creates a new database in the given directory and registers it as the default database,
+     * because the {@link MetadataStore} queries the default database.
+     *
+     * @param platform the database platform, either {@link #H2} or {@link #SQLITE}
+     * @param directory the directory of the database files
+     * @return the created database
+     */
+    static Database create(String platform, File directory) {
+
+        DataSourceConfig dataSource = new DataSourceConfig();
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        switch (platform) {
+            case H2:
+                dataSource.setDriver("org.h2.Driver");
+                dataSource.setUrl("jdbc:h2:file:" + new File(directory, "art").getAbsolutePath());
+                break;
+            case SQLITE:
+                dataSource.setDriver("org.sqlite.JDBC");
+                dataSource.setUrl("jdbc:sqlite:" + new File(directory, "art.db").getAbsolutePath());
+                // sqlite only supports serializable and read uncommitted transactions
+                dataSource.setIsolationLevel(Transaction.READ_UNCOMMITTED);
+                break;
+            default:
+                throw new IllegalArgumentException("unsupported benchmark database platform: " + platform);
+        }
+
+        DatabaseConfig config = new DatabaseConfig();
+        config.setName("art-benchmark-" + platform);
+        config.setDataSourceConfig(dataSource);
+        config.setDefaultServer(true);
+        config.setRegister(true);
+        config.setDdlGenerate(true);
+        config.setDdlRun(true);
+        config.addClass(MetadataStore.class);
+
+        return DatabaseFactory.create(config);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.benchmarks.persistence;
+
+import io.artframework.ArtObjectContext;
+import io.artframework.ParseException;
+import io.artframework.Scope;
+import io.artframework.Target;
+import io.artframework.benchmarks.BenchmarkFixtures;
+import io.artframework.bukkit.storage.EbeanPersistenceProvider;
+import io.artframework.conf.Constants;
+import io.ebean.Database;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the {@link EbeanPersistenceProvider} against embedded H2 and SQLite file databases.
+ * <p>Every operation picks the next player of a fixed size pool. Every {@link #churn} operations
+ * one of the players is replaced by a new player to simulate players joining and leaving,
+ * which causes cache misses and database queries like on a real server.
+ */
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistenceBenchmark {
+
+    @Param({EmbeddedDatabase.H2, EmbeddedDatabase.SQLITE})
+    private String platform;
+
+    @Param({"1000"})
+    private int players;
+
+    @Param({"10"})
+    private int churn;
+
+    private File directory;
+    private Database database;
+    private EbeanPersistenceProvider storage;
+    private ArtObjectContext<?> context;
+    private Target<?>[] targets;
+    private int next;
+    private long operations;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, ParseException {
+
+        directory = Files.createTempDirectory("art-persistence-benchmark").toFile();
+        database = EmbeddedDatabase.create(platform, directory);
+
+        Scope scope = BenchmarkFixtures.scope();
+        storage = new EbeanPersistenceProvider(scope, database);
+        context = scope.load("persistence-benchmark", Arrays.asList("!damage(cooldown:5s) 1"))
+                .artContexts().iterator().next();
+
+        targets = new Target<?>[players];
+        for (int i = 0; i < players; i++) {
+            targets[i] = newTarget();
+            storage.set(context, targets[i], Constants.Storage.LAST_EXECUTION, System.currentTimeMillis());
+        }
+        storage.flush();
+    }
+
+    @TearDown(Level.Iteration)
+    public void flushPendingChanges() {
+
+        storage.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+
+        database.shutdown(true, false);
+        try (Stream<java.nio.file.Path> files = Files.walk(directory.toPath())) {
+            files.sorted(Comparator.reverseOrder()).map(java.nio.file.Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Counts the cache hits and misses of the cooldown checks.
+     * The hit rate is {@code hits / (hits + misses)}.
+     */
+    @State(org.openjdk.jmh.annotations.Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CacheCounters {
+
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    /**
+     * Queues a batch of changes before every flush.
+     */
+    @State(org.openjdk.jmh.annotations.Scope.Thread)
+    public static class PendingChanges {
+
+        @Param({"100"})
+        private int batchSize;
+
+        @Setup(Level.Invocation)
+        public void queue(PersistenceBenchmark benchmark) {
+
+            for (int i = 0; i < batchSize; i++) {
+                benchmark.storage.set(benchmark.context, benchmark.nextTarget(), Constants.Storage.LAST_EXECUTION, System.currentTimeMillis());
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<Long> cooldownCheck(CacheCounters counters) {
+
+        long misses = storage.cacheMisses();
+        Optional<Long> lastExecution = storage.get(context, nextTarget(), Constants.Storage.LAST_EXECUTION, Long.class);
+        if (storage.cacheMisses() == misses) {
+            counters.hits++;
+        } else {
+            counters.misses++;
+        }
+
+        return lastExecution;
+    }
+
+    @Benchmark
+    public Optional<Long> set() {
+
+        return storage.set(context, nextTarget(), Constants.Storage.LAST_EXECUTION, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void flush(PendingChanges changes) {
+
+        storage.flush();
+    }
+
+    private Target<?> nextTarget() {
+
+        int index = next;
+        next = (next + 1) % players;
+        if (churn > 0 && ++operations % churn == 0) {
+            targets[index] = newTarget();
+        }
+
+        return targets[index];
+    }
+
+    private static Target<?> newTarget() {
+
+        return new BenchmarkFixtures.PlayerTarget(new BenchmarkFixtures.Player("player"));
+    }
+}
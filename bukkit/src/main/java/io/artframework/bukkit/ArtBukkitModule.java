@@ -18,6 +18,7 @@ package io.artframework.bukkit;
 
 import io.artframework.BootstrapModule;
 import io.artframework.BootstrapScope;
+import io.artframework.Clock;
 import io.artframework.Scope;
 import io.artframework.annotations.ArtModule;
 import io.artframework.annotations.OnReload;
@@ -27,6 +28,7 @@ import io.artframework.bukkit.storage.MetadataStore;
 import io.artframework.bukkit.trigger.EntityDamageTrigger;
 import io.artframework.bukkit.trigger.LocationTrigger;
 import io.artframework.bukkit.trigger.PlayerListener;
+import io.artframework.clock.TickCachedClock;
 import io.artframework.modules.scripts.ScriptsModule;
 import io.artframework.util.FileUtil;
 import io.ebean.Database;
@@ -38,20 +40,26 @@ import org.bukkit.plugin.Plugin;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
 /// [module]
 @ArtModule(
         value = "art-bukkit",
-        description = {"The base art-module for the bukkit platform, providing various actions, requirements and trigger for bukkit plugins."}
+        description = {"The base art-module for the bukkit platform, providing various actions, requirements and trigger for bukkit plugins."},
+        mainThreadOnly = true
 )
 public class ArtBukkitModule implements BootstrapModule {
 /// [module]
     private PlayerListener playerListener;
     private LocationTrigger locationTrigger;
     private EntityDamageTrigger entityDamageTrigger;
+    private RequirementCacheListener requirementCacheListener;
     private final ArtBukkitPlugin plugin;
     private EbeanPersistenceProvider storageProvider;
+    // reading the time once per tick is enough for cooldowns and cheaper than reading it for every action
+    private final TickCachedClock clock = new TickCachedClock(Clock.system());
+    private int clockTaskId = -1;
 
     public ArtBukkitModule(ArtBukkitPlugin plugin) {
         this.plugin = plugin;
@@ -71,17 +79,13 @@ public class ArtBukkitModule implements BootstrapModule {
         File modulesDir = scope.settings().modulePath();
         modulesDir.mkdirs();
 
-        File[] files = modulesDir.listFiles();
+        File[] files = modulesDir.listFiles((dir, name) -> name.endsWith(".jar"));
         if (files != null) {
-            for (File moduleFile : files) {
-                if (moduleFile.isFile() && moduleFile.getName().endsWith(".jar")) {
-                    modules.addAll(FileUtil.findClasses(
-                            scope.configuration().classLoader(),
-                            moduleFile,
-                            moduleClass -> moduleClass.isAnnotationPresent(ArtModule.class))
-                    );
-                }
-            }
+            modules.addAll(FileUtil.findClasses(
+                    scope.configuration().classLoader(),
+                    Arrays.asList(files),
+                    moduleClass -> moduleClass.isAnnotationPresent(ArtModule.class))
+            );
         }
 
         // add static modules that are included by default
@@ -104,7 +108,8 @@ public class ArtBukkitModule implements BootstrapModule {
 
         scope.configure(builder -> {
             builder.classLoader(plugin.getClass().getClassLoader())
-                    .scheduler(new BukkitScheduler(plugin, Bukkit.getScheduler()));
+                    .scheduler(new BukkitScheduler(plugin, Bukkit.getScheduler()))
+                    .clock(clock);
             if (storageProvider != null) {
                 builder.storage(storageProvider);
             }
@@ -118,15 +123,20 @@ public class ArtBukkitModule implements BootstrapModule {
             storageProvider.load();
         }
 
+        clock.update();
+        clockTaskId = Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin, clock::update, 0L, 1L);
+
         scope.configuration().parser().add(CommandLineParser::new);
 
         playerListener = new PlayerListener(scope);
         locationTrigger = new LocationTrigger(scope);
         entityDamageTrigger = new EntityDamageTrigger(scope);
+        requirementCacheListener = new RequirementCacheListener(scope);
 
         Bukkit.getPluginManager().registerEvents(playerListener, plugin);
         Bukkit.getPluginManager().registerEvents(locationTrigger, plugin);
         Bukkit.getPluginManager().registerEvents(entityDamageTrigger, plugin);
+        Bukkit.getPluginManager().registerEvents(requirementCacheListener, plugin);
 
         scope.register()
                 .trigger()
@@ -147,5 +157,14 @@ public class ArtBukkitModule implements BootstrapModule {
 
         HandlerList.unregisterAll(playerListener);
         HandlerList.unregisterAll(entityDamageTrigger);
+        HandlerList.unregisterAll(requirementCacheListener);
+
+        if (clockTaskId != -1) {
+            Bukkit.getScheduler().cancelTask(clockTaskId);
+            clockTaskId = -1;
+        }
+
+        // the MBeans of the metrics would keep the classes of the old plugin loaded after a reload
+        scope.configuration().metrics().reset();
     }
 }
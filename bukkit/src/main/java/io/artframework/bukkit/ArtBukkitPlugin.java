@@ -57,6 +57,7 @@ public class ArtBukkitPlugin extends JavaPlugin {
                     .debug(config.getBoolean("debug", false))
                     .configPath(config.getString("configs", "configs"))
                     .modulePath(config.getString("modules", "modules"))
+                    .metricsMBeans(config.getBoolean("metrics-mbeans", false))
                     .basePath(getDataFolder().getAbsolutePath())
                     .build()
             ), true);
@@ -80,4 +81,12 @@ public class ArtBukkitPlugin extends JavaPlugin {
             }, 1L);
         }
     }
+
+    @Override
+    public void onDisable() {
+
+        if (bootstrap != null) {
+            bootstrap.configuration().modules().disableAll();
+        }
+    }
 }
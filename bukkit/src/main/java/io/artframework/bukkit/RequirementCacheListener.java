@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 ART-Framework Contributors (https://github.com/Silthus/art-framework)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.artframework.bukkit;
+
+import io.artframework.RequirementCache;
+import io.artframework.Scope;
+import io.artframework.bukkit.requirements.EquipmentRequirement;
+import io.artframework.bukkit.requirements.HealthRequirement;
+import io.artframework.bukkit.requirements.PermissionRequirement;
+import io.artframework.bukkit.targets.EntityTarget;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.EntityRegainHealthEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.*;
+
+/**
+ * Invalidates the cached results of the bukkit requirements as soon as the state they check changes.
+ * <p>Bukkit has no event for permission changes. Permission plugins should invalidate the results of the
+ * {@link PermissionRequirement} with the {@link RequirementCache} after they changed the permissions of a player.
+ */
+public class RequirementCacheListener implements Listener {
+
+    private final Scope scope;
+
+    public RequirementCacheListener(Scope scope) {
+        this.scope = scope;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+
+        cache().invalidate(target(event.getPlayer()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+
+        cache().invalidate(target(event.getEntity()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+
+        // permissions may be granted per world
+        cache().invalidate(target(event.getPlayer()), PermissionRequirement.class);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+
+        invalidateEquipment(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSwapHandItems(PlayerSwapHandItemsEvent event) {
+
+        invalidateEquipment(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDropItem(PlayerDropItemEvent event) {
+
+        invalidateEquipment(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+
+        invalidateEquipment(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickupItem(EntityPickupItemEvent event) {
+
+        invalidateEquipment(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+
+        invalidateEquipment(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+
+        invalidateEquipment(event.getWhoClicked());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDamage(EntityDamageEvent event) {
+
+        cache().invalidate(target(event.getEntity()), HealthRequirement.class);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onRegainHealth(EntityRegainHealthEvent event) {
+
+        cache().invalidate(target(event.getEntity()), HealthRequirement.class);
+    }
+
+    private void invalidateEquipment(Entity entity) {
+
+        if (entity instanceof HumanEntity) {
+            cache().invalidate(target(entity), EquipmentRequirement.class);
+        }
+    }
+
+    private RequirementCache cache() {
+
+        return scope.configuration().requirementCache();
+    }
+
+    private EntityTarget target(Entity entity) {
+
+        // all entity targets use the unique id of the entity
+        return new EntityTarget(entity);
+    }
+}
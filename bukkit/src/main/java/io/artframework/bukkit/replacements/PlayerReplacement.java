@@ -14,4 +14,10 @@ public class PlayerReplacement implements Replacement {
                 .map(OfflinePlayer::getName)
                 .orElse(value));
     }
+
+    @Override
+    public boolean canReplace(String value) {
+
+        return value != null && value.contains("${player}");
+    }
 }
@@ -16,7 +16,7 @@ import org.bukkit.inventory.EquipmentSlot;
 /// [demo]
 @ART(value = "player:equipment", alias = {
         "item.in-hand", "equipment", "equipped"
-})
+}, pure = true, cacheable = true)
 public class EquipmentRequirement implements Requirement<Player> {
 
     @ConfigOption(
@@ -16,6 +16,7 @@ import lombok.val;
 
 import javax.print.attribute.standard.MediaSize;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 @Log(topic = "art-framework:ebean")
@@ -27,6 +28,8 @@ public class EbeanPersistenceProvider extends DefaultMapStorageProvider implemen
     private final Map<UUID, MetadataStore> queuedTransactions = new HashMap<>();
     private final Gson gson = new Gson();
     private final Runnable saveRunnable;
+    private final LongAdder cacheLookups = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
 
     private Task task;
 
@@ -69,6 +72,31 @@ public class EbeanPersistenceProvider extends DefaultMapStorageProvider implemen
         task = startTask();
     }
 
+    /**
+     * Writes all queued changes to the database in a single transaction.
+     * <p>This is done automatically every second if a scheduler is configured.
+     */
+    public void flush() {
+
+        saveRunnable.run();
+    }
+
+    /**
+     * @return the number of cached values that were requested since the provider was created
+     */
+    public long cacheLookups() {
+
+        return cacheLookups.sum();
+    }
+
+    /**
+     * @return the number of requested values that were not cached and had to be queried from the database
+     */
+    public long cacheMisses() {
+
+        return cacheMisses.sum();
+    }
+
     private Task startTask() {
         return scope().configuration().scheduler()
                 .map(scheduler -> scheduler.runTaskTimerAsynchronously(saveRunnable, 1000L, 1000L)) // in milliseconds
@@ -133,11 +161,15 @@ public class EbeanPersistenceProvider extends DefaultMapStorageProvider implemen
     @SuppressWarnings("unchecked")
     private <TValue> Optional<TValue> getCache(String key, Class<TValue> valueClass, Supplier<Optional<MetadataStore>> store) {
 
+        cacheLookups.increment();
         return Optional.ofNullable((TValue) cache.computeIfAbsent(key,
-                id -> store.get()
-                        .map(MetadataStore::metaValue)
-                        .map(value -> gson.fromJson(value, valueClass))
-                        .orElse(null)));
+                id -> {
+                    cacheMisses.increment();
+                    return store.get()
+                            .map(MetadataStore::metaValue)
+                            .map(value -> gson.fromJson(value, valueClass))
+                            .orElse(null);
+                }));
     }
 
     @SuppressWarnings("unchecked")
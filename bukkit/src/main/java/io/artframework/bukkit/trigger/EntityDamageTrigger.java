@@ -24,6 +24,8 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageEvent;
 
+import java.util.Collection;
+
 @ART(
         value = "entity.damage",
         alias = {"damage", "player.damage", "dmg"},
@@ -32,7 +34,7 @@ import org.bukkit.event.entity.EntityDamageEvent;
                 "You can use the bukkit:event.cancel action to cancel the damage event."
         }
 )
-public class EntityDamageTrigger implements Trigger, Listener, Configurable<EntityDamageConfig>, Requirement<EntityDamageEvent> {
+public class EntityDamageTrigger implements IndexedTrigger, Listener, Configurable<EntityDamageConfig>, Requirement<EntityDamageEvent> {
 
     private final Scope scope;
     private EntityDamageConfig config;
@@ -47,6 +49,12 @@ public class EntityDamageTrigger implements Trigger, Listener, Configurable<Enti
         this.config = entityDamageConfig;
     }
 
+    @Override
+    public Collection<?> indexKeys() {
+
+        return config.indexKeys();
+    }
+
     @Override
     public Result test(@NonNull Target<EntityDamageEvent> target, @NonNull ExecutionContext<RequirementContext<EntityDamageEvent>> context) {
 
@@ -59,6 +67,7 @@ public class EntityDamageTrigger implements Trigger, Listener, Configurable<Enti
         scope.trigger(EntityDamageTrigger.class)
                 .with(event)
                 .with(event.getEntity())
+                .index(EntityDamageConfig.indexKeys(event))
                 .execute();
     }
 }
@@ -1,5 +1,6 @@
 package io.artframework.bukkit.trigger;
 
+import com.google.common.base.Strings;
 import io.artframework.*;
 import io.artframework.annotations.ART;
 import io.artframework.bukkit.trigger.configs.LocationConfig;
@@ -14,16 +15,14 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 
 @ART(
         value = "player.move",
         alias = {"move", "loc", "pos", "location", "player.location"},
         description = "Checks the player position against the given coordinates and radius."
 )
-public class LocationTrigger implements Listener, Trigger, Requirement<Entity>, Configurable<LocationConfig>, Scoped {
+public class LocationTrigger implements Listener, IndexedTrigger, Requirement<Entity>, Configurable<LocationConfig>, Scoped {
 
     @Getter
     @Accessors(fluent = true)
@@ -42,6 +41,15 @@ public class LocationTrigger implements Listener, Trigger, Requirement<Entity>,
         this.config = locationConfig;
     }
 
+    @Override
+    public Collection<?> indexKeys() {
+
+        // the world is configured by its name or unique id and bukkit ignores the case of world names
+        if (Strings.isNullOrEmpty(config.getWorld())) return Collections.emptyList();
+
+        return Collections.singletonList(config.getWorld().toLowerCase(Locale.ROOT));
+    }
+
     @Override
     public Result test(@NonNull Target<Entity> target, @NonNull ExecutionContext<RequirementContext<Entity>> context) {
 
@@ -58,6 +66,7 @@ public class LocationTrigger implements Listener, Trigger, Requirement<Entity>,
 
         scope().trigger(LocationTrigger.class)
                 .with(event.getPlayer())
+                .index(event.getTo().getWorld().getName().toLowerCase(Locale.ROOT), event.getTo().getWorld().getUID().toString())
                 .execute();
     }
 
@@ -18,9 +18,14 @@ package io.artframework.bukkit.trigger.configs;
 
 import com.google.common.base.Strings;
 import io.artframework.annotations.ConfigOption;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityDamageEvent;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+
 @ConfigOption
 public class EntityDamageConfig {
 
@@ -45,9 +50,40 @@ public class EntityDamageConfig {
             description = "Set this to false to use the raw damage of the event and not the damage after all reductions have been applied."
     )
     private boolean useFinalDamage = true;
+    @ConfigOption(description = {"The cause of the damage, e.g. FALL or ENTITY_ATTACK.", "Leave it empty to fire the trigger for all causes."})
+    private String cause = "";
+
+    /**
+     * Gets the index keys of the config. The keys match the keys of the {@link #indexKeys(EntityDamageEvent)} of every applicable event.
+     *
+     * @return the damage cause if one is configured, else the player entity type if only players are targeted
+     */
+    public Collection<String> indexKeys() {
+
+        if (!Strings.isNullOrEmpty(cause)) {
+            return Collections.singletonList("cause:" + cause.toUpperCase(Locale.ROOT));
+        }
+        if (target.equalsIgnoreCase("player")) {
+            return Collections.singletonList("entity:" + EntityType.PLAYER.name());
+        }
+
+        return Collections.emptyList();
+    }
+
+    public static Object[] indexKeys(EntityDamageEvent event) {
+
+        return new Object[]{
+                "cause:" + event.getCause().name(),
+                "entity:" + event.getEntityType().name()
+        };
+    }
 
     public boolean isApplicable(EntityDamageEvent event) {
 
+        if (!Strings.isNullOrEmpty(cause) && !event.getCause().name().equalsIgnoreCase(cause)) {
+            return false;
+        }
+
         if (target.equalsIgnoreCase("player")) {
             if (!(event.getEntity() instanceof Player)) {
                 return false;